@@ -0,0 +1,126 @@
+package com.project.deartime.app.auth.Service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 100만 명 기준 닉네임 색인: 색인 생성 / 사용 여부 확인 / 접두어·부분 문자열 검색
+ * 메모리 사용량은 -prof gc 로 함께 확인 (./gradlew jmh -Pjmh.includes=NicknameIndexBenchmark)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NicknameIndexBenchmark {
+
+    private static final int USERS = 1_000_000;
+    private static final int SEARCH_LIMIT = 20;
+    private static final int KEYWORDS = 1024;
+
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    @State(Scope.Benchmark)
+    public static class Users {
+
+        List<NicknameIndex.Entry> entries;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            Random random = new Random(42);
+            entries = new ArrayList<>(USERS);
+            for (int id = 1; id <= USERS; id++) {
+                // 평균 8자 안팎, 뒤에 id 를 붙여 중복 없이
+                StringBuilder nickname = new StringBuilder();
+                int length = 3 + random.nextInt(6);
+                for (int i = 0; i < length; i++) {
+                    nickname.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+                }
+                nickname.append(id % 1000);
+                entries.add(new NicknameIndex.Entry(id, nickname.toString()));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Loaded {
+
+        NicknameIndex index;
+        String[] existing;
+        String[] missing;
+        String[] prefixes;
+        String[] infixes;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void load(Users users) {
+            index = new NicknameIndex();
+            index.replaceAll(users.entries);
+
+            Random random = new Random(7);
+            existing = new String[KEYWORDS];
+            missing = new String[KEYWORDS];
+            prefixes = new String[KEYWORDS];
+            infixes = new String[KEYWORDS];
+            for (int i = 0; i < KEYWORDS; i++) {
+                String nickname = users.entries.get(random.nextInt(USERS)).nickname();
+                existing[i] = nickname;
+                missing[i] = nickname + "_";
+                prefixes[i] = nickname.substring(0, 3);
+                infixes[i] = nickname.substring(1, 4);
+            }
+
+            if (!index.contains(existing[0]) || index.contains(missing[0]) || index.search(infixes[0], 1).isEmpty()) {
+                throw new IllegalStateException("닉네임 색인 결과가 올바르지 않습니다.");
+            }
+        }
+
+        int next() {
+            return cursor++ & (KEYWORDS - 1);
+        }
+    }
+
+    /**
+     * 시작 시 / compact 시의 전체 색인 생성
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public NicknameIndex build(Users users) {
+        NicknameIndex index = new NicknameIndex();
+        index.replaceAll(users.entries);
+        return index;
+    }
+
+    @Benchmark
+    public boolean containsHit(Loaded loaded) {
+        return loaded.index.contains(loaded.existing[loaded.next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss(Loaded loaded) {
+        return loaded.index.contains(loaded.missing[loaded.next()]);
+    }
+
+    @Benchmark
+    public List<NicknameIndex.Entry> searchPrefix(Loaded loaded) {
+        return loaded.index.search(loaded.prefixes[loaded.next()], SEARCH_LIMIT);
+    }
+
+    @Benchmark
+    public List<NicknameIndex.Entry> searchInfix(Loaded loaded) {
+        return loaded.index.search(loaded.infixes[loaded.next()], SEARCH_LIMIT);
+    }
+}
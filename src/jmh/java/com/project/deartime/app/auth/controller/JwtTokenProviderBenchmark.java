@@ -0,0 +1,68 @@
+package com.project.deartime.app.auth.controller;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증: 검증 결과 캐시 사용 / 미사용 vs 호출마다 파서를 새로 만들던 이전 방식
+ * (./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hs256-0123456789abcdef";
+
+    private JwtTokenProvider cached;
+    private JwtTokenProvider uncached;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cached = new JwtTokenProvider(SECRET, true, 10_000);
+        uncached = new JwtTokenProvider(SECRET, false, 0);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = cached.createAccessToken("1", "user@example.com");
+
+        if (cached.verify(token).isEmpty() || uncached.verify(token).isEmpty()) {
+            throw new IllegalStateException("토큰 검증 실패");
+        }
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        return uncached.verify(token);
+    }
+
+    /**
+     * 이전 방식: 요청마다 파서를 만들어 서명 검증 + 클레임 파싱
+     */
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
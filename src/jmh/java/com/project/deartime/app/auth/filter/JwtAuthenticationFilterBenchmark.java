@@ -0,0 +1,103 @@
+package com.project.deartime.app.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 부하 테스트: 여러 스레드가 동시에 요청을 처리할 때의 처리량
+ * 정상 토큰 / 만료 토큰 / 서명 불일치 토큰 / 헤더 없음 요청을 각각 측정
+ * (./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hs256-0123456789abcdef";
+    private static final String OTHER_SECRET = "another-secret-key-for-hs256-0123456789abcdef";
+    private static final String URI = "/api/letters";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+
+    private String validHeader;
+    private String expiredHeader;
+    private String badSignatureHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, true, 10_000);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new ObjectMapper(), new SimpleMeterRegistry(), 100);
+
+        validHeader = "Bearer " + jwtTokenProvider.createAccessToken("1", "user@example.com");
+        expiredHeader = "Bearer " + signedToken(SECRET, new Date(System.currentTimeMillis() - 60_000));
+        badSignatureHeader = "Bearer " + signedToken(OTHER_SECRET, new Date(System.currentTimeMillis() + 600_000));
+    }
+
+    @Benchmark
+    public int validToken() throws Exception {
+        return filter(validHeader);
+    }
+
+    @Benchmark
+    public int expiredToken() throws Exception {
+        return filter(expiredHeader);
+    }
+
+    @Benchmark
+    public int badSignatureToken() throws Exception {
+        return filter(badSignatureHeader);
+    }
+
+    @Benchmark
+    public int missingToken() throws Exception {
+        return filter(null);
+    }
+
+    private int filter(String authHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        if (authHeader != null) {
+            request.addHeader("Authorization", authHeader);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        // 실제 요청처럼 처리가 끝나면 스레드의 인증 정보를 비움
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    private static String signedToken(String secret, Date expiration) {
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@example.com")
+                .setIssuedAt(new Date(expiration.getTime() - 900_000))
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이머 100만 개 추가 / 전부 만료까지 진행하는 비용 (타이머 1개당 시간)
+ * spreadSeconds: 600 = 운영 설정(capsule.open.horizon-seconds), 86399 = 휠 전체 범위 (시 / 분 단계 cascade 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HierarchicalTimingWheelBenchmark {
+
+    private static final int TIMERS = 1_000_000;
+    private static final long START = 3600L * 10;
+
+    @Param({"600", "86399"})
+    private int spreadSeconds;
+
+    private long[] dues;
+    private HierarchicalTimingWheel filled;
+
+    @Setup(Level.Trial)
+    public void createDues() {
+        Random random = new Random(42);
+        dues = new long[TIMERS];
+        for (int i = 0; i < TIMERS; i++) {
+            dues[i] = START + 1 + random.nextInt(spreadSeconds);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void fillWheel() {
+        filled = new HierarchicalTimingWheel(START, TIMERS);
+        for (int i = 0; i < TIMERS; i++) {
+            filled.add(i, dues[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TIMERS)
+    public HierarchicalTimingWheel add() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(START, TIMERS);
+        for (int i = 0; i < TIMERS; i++) {
+            wheel.add(i, dues[i]);
+        }
+        return wheel;
+    }
+
+    /**
+     * 1초씩 진행하며 모든 타이머를 만료 (CapsuleOpenTimer 의 초 단위 tick 과 같은 방식)
+     */
+    @Benchmark
+    @OperationsPerInvocation(TIMERS)
+    public int advanceUntilAllFired() {
+        int fired = 0;
+        for (long second = START + 1; second <= START + spreadSeconds; second++) {
+            fired += filled.advance(second).length;
+        }
+        if (fired != TIMERS) {
+            throw new IllegalStateException("만료되지 않은 타이머가 있습니다. fired=" + fired);
+        }
+        return fired;
+    }
+}
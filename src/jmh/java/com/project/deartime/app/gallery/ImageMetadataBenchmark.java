@@ -0,0 +1,121 @@
+package com.project.deartime.app.gallery;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifSubIFDDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 촬영 일시 추출: 헤더만 읽는 현재 방식 vs 파일 전체를 byte[] 로 복사해 metadata-extractor 로 읽던 이전 방식
+ * 할당량은 -prof gc 로 함께 확인 (./gradlew jmh -Pjmh.includes=ImageMetadataBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageMetadataBenchmark {
+
+    private static final String DATE_TIME_ORIGINAL = "2024:05:01 12:34:56";
+    private static final LocalDateTime EXPECTED = LocalDateTime.of(2024, 5, 1, 12, 34, 56);
+
+    /** 이미지 한 변의 픽셀 수 (노이즈 이미지라 JPEG 크기가 픽셀 수에 비례) */
+    @Param({"1000", "3000"})
+    private int size;
+
+    private byte[] jpeg;
+
+    @Setup(Level.Trial)
+    public void createJpeg() throws IOException {
+        jpeg = withExif(noiseJpeg(size), DATE_TIME_ORIGINAL);
+
+        if (!EXPECTED.equals(headerOnly()) || !EXPECTED.equals(fullFile())) {
+            throw new IllegalStateException("촬영 일시를 읽지 못했습니다.");
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime headerOnly() throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(jpeg))) {
+            return ImageMetadataUtil.extractTakenAt(in, "photo.jpg");
+        }
+    }
+
+    /**
+     * 이전 방식: MultipartFile.getBytes() 로 전체 복사 후 ImageMetadataReader 로 전체 파싱
+     */
+    @Benchmark
+    public LocalDateTime fullFile() throws IOException {
+        byte[] copy = jpeg.clone();
+        try {
+            Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(copy));
+            ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+            String dateStr = subIfd == null ? null : subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
+            return dateStr == null ? null : LocalDateTime.parse(dateStr, DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss"));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static byte[] noiseJpeg(int size) throws IOException {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 바로 뒤에 DateTimeOriginal 하나만 담은 Exif APP1 세그먼트 삽입
+     * TIFF(빅엔디언): IFD0 { ExifIFDPointer } → Exif IFD { DateTimeOriginal }
+     */
+    private static byte[] withExif(byte[] jpeg, String dateTimeOriginal) {
+        byte[] date = (dateTimeOriginal + "\0").getBytes(StandardCharsets.US_ASCII);
+        int exifIfdOffset = 8 + 2 + 12 + 4;
+        int dateOffset = exifIfdOffset + 2 + 12 + 4;
+
+        ByteBuffer tiff = ByteBuffer.allocate(dateOffset + date.length);
+        tiff.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1)
+                .putShort((short) 0x8769).putShort((short) 4).putInt(1).putInt(exifIfdOffset)
+                .putInt(0);
+        tiff.putShort((short) 1)
+                .putShort((short) 0x9003).putShort((short) 2).putInt(date.length).putInt(dateOffset)
+                .putInt(0);
+        tiff.put(date);
+
+        byte[] preamble = {'E', 'x', 'i', 'f', 0, 0};
+        int segmentLength = 2 + preamble.length + tiff.capacity();
+
+        ByteBuffer result = ByteBuffer.allocate(jpeg.length + 2 + segmentLength);
+        result.put(jpeg, 0, 2);
+        result.put((byte) 0xFF).put((byte) 0xE1).putShort((short) segmentLength);
+        result.put(preamble).put(tiff.array());
+        result.put(jpeg, 2, jpeg.length - 2);
+        return result.array();
+    }
+}
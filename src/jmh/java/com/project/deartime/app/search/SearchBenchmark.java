@@ -0,0 +1,195 @@
+package com.project.deartime.app.search;
+
+import com.project.deartime.app.search.repository.SearchCursor;
+import com.project.deartime.app.search.repository.SearchIndexRepository;
+import com.project.deartime.app.search.repository.SearchIndexRepository.SearchRow;
+import com.project.deartime.app.search.repository.SearchIndexRepository.SearchTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 편지 100만 건 기준 통합 검색 (PostgreSQL 컨테이너, 사용자별 GIN 인덱스)
+ * - 편지마다 단어 12개를 자주 쓰는 단어에 치우치게 골라 본문 / 색인을 만듦 (사용자 1만 명, 1인당 약 200건)
+ * - frequent: 대부분의 편지에 있는 단어 (사용자별 결과가 여러 페이지), rare: 드문 단어
+ * - 첫 페이지 / 커서로 이어 받는 두 번째 페이지를 각각 측정
+ * 실행에 Docker 가 필요함 (./gradlew jmh -Pjmh.includes=SearchBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchBenchmark {
+
+    private static final int LETTERS = 1_000_000;
+    private static final int CAPSULES = 50_000;
+    private static final int USERS = 10_000;
+    private static final int VOCABULARY = 2_000;
+    private static final int WORDS_PER_DOCUMENT = 12;
+    private static final int PAGE_SIZE = 20;
+    private static final int SAMPLED_USERS = 256;
+
+    // 문서 하나의 단어 (단어 위치를 먼저 뽑은 뒤 조인, d.n 을 참조해 문서마다 다시 뽑음)
+    private static final String PICK_WORDS =
+            "SELECT string_agg(v.word, ' ') AS content, string_agg(v.tokens, ' ') AS tokens " +
+            "FROM (SELECT floor(power(random(), 3) * ?)::int + 0 * d.n AS idx FROM generate_series(1, ?) k) p " +
+            "JOIN vocabulary v ON v.idx = p.idx";
+
+    @Param({"frequent", "rare"})
+    private String keyword;
+
+    private PostgreSQLContainer<?> postgres;
+    private SingleConnectionDataSource dataSource;
+    private SearchIndexRepository searchIndexRepository;
+
+    private String tsQuery;
+    private long[] userIds;
+    private SearchCursor[] secondPageCursors;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        dataSource = new SingleConnectionDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        searchIndexRepository = new SearchIndexRepository(jdbcTemplate, new NamedParameterJdbcTemplate(dataSource));
+
+        List<String> vocabulary = vocabulary();
+        createTables(jdbcTemplate);
+        searchIndexRepository.createColumns();
+        insertDocuments(jdbcTemplate, vocabulary);
+
+        searchIndexRepository.createBtreeGinExtension();
+        for (SearchTable table : SearchTable.values()) {
+            searchIndexRepository.createIndexesConcurrently(table);
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        String word = "frequent".equals(keyword) ? vocabulary.get(0) : vocabulary.get(VOCABULARY / 2);
+        tsQuery = SearchTokenizer.toQuery(word);
+
+        Random random = new Random(7);
+        userIds = new long[SAMPLED_USERS];
+        secondPageCursors = new SearchCursor[SAMPLED_USERS];
+        for (int i = 0; i < SAMPLED_USERS; i++) {
+            userIds[i] = 1 + random.nextInt(USERS);
+            List<SearchRow> firstPage = search(userIds[i], null);
+            if (firstPage.size() > PAGE_SIZE) {
+                secondPageCursors[i] = SearchCursor.of(firstPage.get(PAGE_SIZE - 1));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<SearchRow> firstPage() {
+        return search(userIds[next()], null);
+    }
+
+    /**
+     * 두 번째 페이지 (결과가 한 페이지뿐인 사용자는 첫 페이지 조회)
+     */
+    @Benchmark
+    public List<SearchRow> secondPage() {
+        int i = next();
+        return search(userIds[i], secondPageCursors[i]);
+    }
+
+    private List<SearchRow> search(long userId, SearchCursor after) {
+        // SearchService 와 같이 다음 페이지 확인용으로 1건 더 조회
+        return searchIndexRepository.search(userId, tsQuery, after, LocalDateTime.now(), PAGE_SIZE + 1);
+    }
+
+    private int next() {
+        return cursor++ & (SAMPLED_USERS - 1);
+    }
+
+    private static void createTables(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE letters (" +
+                "id BIGSERIAL PRIMARY KEY, sender_id BIGINT NOT NULL, receiver_id BIGINT NOT NULL, " +
+                "title VARCHAR(100) NOT NULL, content TEXT NOT NULL, summary VARCHAR(60), " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "is_deleted_by_sender BOOLEAN NOT NULL DEFAULT FALSE, " +
+                "is_deleted_by_receiver BOOLEAN NOT NULL DEFAULT FALSE)");
+        jdbcTemplate.execute("CREATE TABLE time_capsule (" +
+                "id BIGSERIAL PRIMARY KEY, sender_id BIGINT NOT NULL, receiver_id BIGINT NOT NULL, " +
+                "title VARCHAR(255) NOT NULL, content TEXT NOT NULL, " +
+                "created_at TIMESTAMP NOT NULL, open_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_letters_sender_receiver ON letters (sender_id, receiver_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_letters_receiver_sender ON letters (receiver_id, sender_id)");
+        jdbcTemplate.execute("CREATE TABLE vocabulary (idx INT PRIMARY KEY, word TEXT NOT NULL, tokens TEXT NOT NULL)");
+    }
+
+    /**
+     * 단어 / 색인 토큰을 DB 에 올린 뒤, 문서 생성과 to_tsvector 는 DB 안에서 처리 (100만 건을 JDBC 로 보내지 않도록)
+     * 단어는 power(random(), 3) 으로 골라 앞쪽 단어일수록 자주 나옴
+     */
+    private static void insertDocuments(JdbcTemplate jdbcTemplate, List<String> vocabulary) {
+        List<Object[]> rows = new ArrayList<>(vocabulary.size());
+        for (int i = 0; i < vocabulary.size(); i++) {
+            rows.add(new Object[]{i, vocabulary.get(i), SearchTokenizer.toDocument(vocabulary.get(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO vocabulary (idx, word, tokens) VALUES (?, ?, ?)", rows);
+
+        jdbcTemplate.execute("SELECT setseed(0.42)");
+        jdbcTemplate.update("INSERT INTO letters (sender_id, receiver_id, title, content, summary, created_at, search_vector) " +
+                "SELECT d.sender_id, d.receiver_id, '편지 ' || d.n, w.content, left(w.content, 50), " +
+                "       now() - d.n * INTERVAL '1 minute', to_tsvector('simple', w.tokens) " +
+                "FROM (SELECT n, 1 + floor(random() * ?)::bigint AS sender_id, 1 + floor(random() * ?)::bigint AS receiver_id " +
+                "      FROM generate_series(1, ?) n) d " +
+                "CROSS JOIN LATERAL (" + PICK_WORDS + ") w",
+                USERS, USERS, LETTERS, VOCABULARY, WORDS_PER_DOCUMENT);
+        jdbcTemplate.update("INSERT INTO time_capsule (sender_id, receiver_id, title, content, created_at, open_at, search_vector) " +
+                "SELECT d.sender_id, d.receiver_id, '캡슐 ' || d.n, w.content, " +
+                "       now() - d.n * INTERVAL '1 minute', now() + (d.n % 2 * 2 - 1) * INTERVAL '1 day', " +
+                "       to_tsvector('simple', w.tokens) " +
+                "FROM (SELECT n, 1 + floor(random() * ?)::bigint AS sender_id, 1 + floor(random() * ?)::bigint AS receiver_id " +
+                "      FROM generate_series(1, ?) n) d " +
+                "CROSS JOIN LATERAL (" + PICK_WORDS + ") w",
+                USERS, USERS, CAPSULES, VOCABULARY, WORDS_PER_DOCUMENT);
+    }
+
+    /**
+     * 2~3 음절 한글 단어 (중복 없이, 고정 시드)
+     */
+    private static List<String> vocabulary() {
+        Random random = new Random(42);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < VOCABULARY) {
+            StringBuilder word = new StringBuilder();
+            int syllables = 2 + random.nextInt(2);
+            for (int i = 0; i < syllables; i++) {
+                // 초성 19 × 중성 21 × 종성 28 조합 (가 = U+AC00)
+                word.appendCodePoint(0xAC00 + (random.nextInt(19) * 21 + random.nextInt(21)) * 28 + random.nextInt(28));
+            }
+            words.add(word.toString());
+        }
+        return new ArrayList<>(words);
+    }
+}
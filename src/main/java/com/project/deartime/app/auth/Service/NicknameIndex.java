@@ -0,0 +1,567 @@
+package com.project.deartime.app.auth.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 닉네임 메모리 색인 (닉네임 사용 여부 확인 / 접두어·부분 문자열 검색)
+ * - 스냅샷: 전체 닉네임을 소문자 기준으로 정렬해 문자 배열 하나에 이어 붙이고, 모든 접미사의 정렬 배열(suffix array)을 둠
+ *   사용 여부 / 접두어 검색은 정렬된 닉네임에서, 부분 문자열 검색은 접미사 배열에서 이진 탐색 (LIKE '%kw%' 전체 스캔 없음)
+ * - 스냅샷 이후 바뀐 닉네임은 작은 변경분(오버레이)에 두고, 바뀌기 전 스냅샷 항목은 제거 표시
+ * - 변경분이 쌓이면 compact() 로 스냅샷을 다시 만듦 (잠금 밖에서 만든 뒤 교체, 그 사이 변경은 다시 반영)
+ * - 사용 여부는 DB 와 같이 대소문자를 구분, 검색은 대소문자를 구분하지 않음
+ * - 닉네임 평균 8자 기준 항목당 약 60바이트 (문자 배열 2벌 + 접미사 배열 + id)
+ *
+ * 스레드 안전 (스냅샷은 불변, 변경분은 읽기/쓰기 잠금으로 보호)
+ */
+public class NicknameIndex {
+
+    /** 닉네임 끝 표시 (어떤 문자보다 작아 짧은 닉네임이 먼저 정렬됨) */
+    private static final char SEPARATOR = '\0';
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Snapshot snapshot = Snapshot.build(List.of());
+
+    // 스냅샷 이후 추가 / 변경된 닉네임
+    private final Map<Long, String> overlayById = new HashMap<>();
+    private final Map<String, Long> overlayByNickname = new HashMap<>();
+    // 변경돼 더 이상 유효하지 않은 스냅샷 항목 (ordinal)
+    private BitSet removed = new BitSet();
+    private int removedCount;
+
+    // 스냅샷을 다시 만드는 중 들어온 변경 (교체 후 다시 반영), 다시 만드는 중이 아니면 null
+    private List<Entry> journal;
+
+    public record Entry(long id, String nickname) {
+    }
+
+    /**
+     * 전체 닉네임으로 스냅샷을 새로 만듦 (시작 시 적재용, 변경분은 비움)
+     */
+    public void replaceAll(List<Entry> entries) {
+        Snapshot rebuilt = Snapshot.build(entries);
+
+        lock.writeLock().lock();
+        try {
+            snapshot = rebuilt;
+            overlayById.clear();
+            overlayByNickname.clear();
+            removed = new BitSet();
+            removedCount = 0;
+            if (journal != null) {
+                journal.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 닉네임 추가 / 변경
+     */
+    public void put(long id, String nickname) {
+        lock.writeLock().lock();
+        try {
+            apply(id, nickname);
+            if (journal != null) {
+                journal.add(new Entry(id, nickname));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 사용 중인 닉네임이면 true (대소문자 구분)
+     */
+    public boolean contains(String nickname) {
+        lock.readLock().lock();
+        try {
+            if (overlayByNickname.containsKey(nickname)) {
+                return true;
+            }
+
+            Snapshot current = snapshot;
+            String folded = fold(nickname);
+            int ordinal = current.lowerBound(folded, false);
+            while (ordinal < current.size() && current.compareNickname(ordinal, folded, false) == 0) {
+                if (!removed.get(ordinal) && current.nicknameEquals(ordinal, nickname)) {
+                    return true;
+                }
+                ordinal++;
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함한 닉네임 검색 (대소문자 무시)
+     * 접두어가 일치하는 닉네임을 먼저, 그다음 중간에 포함한 닉네임을 각각 닉네임 순으로 반환
+     */
+    public List<Entry> search(String keyword, int limit) {
+        if (keyword == null || keyword.isEmpty() || limit <= 0 || keyword.indexOf(SEPARATOR) >= 0) {
+            return List.of();
+        }
+        String folded = fold(keyword);
+
+        lock.readLock().lock();
+        try {
+            Snapshot current = snapshot;
+            Set<Long> seen = new HashSet<>();
+
+            List<Entry> prefixMatches = new ArrayList<>();
+            for (int ordinal = current.lowerBound(folded, true);
+                 ordinal < current.size() && prefixMatches.size() < limit
+                         && current.compareNickname(ordinal, folded, true) == 0;
+                 ordinal++) {
+                if (!removed.get(ordinal)) {
+                    prefixMatches.add(current.entry(ordinal));
+                    seen.add(current.ids[ordinal]);
+                }
+            }
+
+            List<Entry> infixMatches = new ArrayList<>();
+            if (prefixMatches.size() < limit) {
+                int wanted = limit - prefixMatches.size();
+                for (int i = current.lowerBoundSuffix(folded);
+                     i < current.suffixes.length && infixMatches.size() < wanted
+                             && current.compareSuffix(current.suffixes[i], folded) == 0;
+                     i++) {
+                    int ordinal = current.ordinalAt(current.suffixes[i]);
+                    if (!removed.get(ordinal) && seen.add(current.ids[ordinal])) {
+                        infixMatches.add(current.entry(ordinal));
+                    }
+                }
+            }
+
+            // 변경분은 크기가 작으므로 전부 확인
+            for (Map.Entry<Long, String> overlay : overlayById.entrySet()) {
+                String overlayFolded = fold(overlay.getValue());
+                if (overlayFolded.startsWith(folded)) {
+                    prefixMatches.add(new Entry(overlay.getKey(), overlay.getValue()));
+                } else if (overlayFolded.contains(folded)) {
+                    infixMatches.add(new Entry(overlay.getKey(), overlay.getValue()));
+                }
+            }
+
+            List<Entry> matches = new ArrayList<>(Math.min(limit, prefixMatches.size() + infixMatches.size()));
+            appendSorted(matches, prefixMatches, limit);
+            appendSorted(matches, infixMatches, limit);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 + 변경분으로 스냅샷을 다시 만듦
+     * 만드는 동안(잠금 밖) 조회 / 변경을 막지 않고, 그 사이 변경을 새 스냅샷에 다시 반영해 교체
+     *
+     * @return 이미 다시 만드는 중이면 false
+     */
+    public boolean compact() {
+        Snapshot base;
+        BitSet removedSnapshot;
+        List<Entry> overlaySnapshot;
+
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                return false;
+            }
+            base = snapshot;
+            removedSnapshot = (BitSet) removed.clone();
+            overlaySnapshot = new ArrayList<>(overlayById.size());
+            overlayById.forEach((id, nickname) -> overlaySnapshot.add(new Entry(id, nickname)));
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Snapshot rebuilt;
+        try {
+            List<Entry> entries = new ArrayList<>(base.size() + overlaySnapshot.size());
+            for (int ordinal = 0; ordinal < base.size(); ordinal++) {
+                if (!removedSnapshot.get(ordinal)) {
+                    entries.add(base.entry(ordinal));
+                }
+            }
+            entries.addAll(overlaySnapshot);
+            rebuilt = Snapshot.build(entries);
+        } catch (RuntimeException | Error e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            snapshot = rebuilt;
+            overlayById.clear();
+            overlayByNickname.clear();
+            removed = new BitSet();
+            removedCount = 0;
+            for (Entry entry : journal) {
+                apply(entry.id(), entry.nickname());
+            }
+            journal = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return snapshot.size() - removedCount + overlayById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 스냅샷에 반영되지 않은 변경 수 (compact() 시점 판단용)
+     */
+    public int pendingChanges() {
+        lock.readLock().lock();
+        try {
+            return overlayById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void apply(long id, String nickname) {
+        int ordinal = snapshot.ordinalOf(id);
+        boolean inSnapshot = ordinal >= 0 && !removed.get(ordinal);
+
+        // 스냅샷과 같은 값이면 변경 없음 (동기화 시 같은 변경이 다시 들어와도 변경분이 늘지 않도록)
+        if (inSnapshot && !overlayById.containsKey(id) && snapshot.nicknameEquals(ordinal, nickname)) {
+            return;
+        }
+
+        String previous = overlayById.put(id, nickname);
+        if (previous != null) {
+            overlayByNickname.remove(previous, id);
+        }
+        overlayByNickname.put(nickname, id);
+
+        if (inSnapshot) {
+            removed.set(ordinal);
+            removedCount++;
+        }
+    }
+
+    private static void appendSorted(List<Entry> target, List<Entry> matches, int limit) {
+        matches.sort(Comparator.comparing((Entry entry) -> fold(entry.nickname())).thenComparing(Entry::nickname));
+        for (Entry entry : matches) {
+            if (target.size() >= limit) {
+                return;
+            }
+            target.add(entry);
+        }
+    }
+
+    /**
+     * 대소문자 무시용 변환 (문자 단위로 바꿔 길이가 변하지 않도록)
+     */
+    private static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 불변 색인 (닉네임 순 ordinal 기준)
+     */
+    private static final class Snapshot {
+
+        /** ordinal → 사용자 id */
+        private final long[] ids;
+        /** ordinal → 닉네임 시작 위치 (마지막 값은 전체 길이) */
+        private final int[] starts;
+        /** 원래 닉네임 (닉네임마다 끝에 SEPARATOR) */
+        private final char[] text;
+        /** 소문자로 바꾼 닉네임 (text 와 같은 위치) */
+        private final char[] folded;
+        /** folded 의 모든 접미사 시작 위치 (접미사 사전 순) */
+        private final int[] suffixes;
+
+        /** 사용자 id → ordinal (오픈 어드레싱, 빈 칸은 id 0) */
+        private final long[] idSlots;
+        private final int[] ordinalSlots;
+
+        private Snapshot(long[] ids, int[] starts, char[] text, char[] folded, int[] suffixes) {
+            this.ids = ids;
+            this.starts = starts;
+            this.text = text;
+            this.folded = folded;
+            this.suffixes = suffixes;
+
+            int slots = Integer.highestOneBit(Math.max(16, ids.length * 2)) << 1;
+            this.idSlots = new long[slots];
+            this.ordinalSlots = new int[slots];
+            for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+                int slot = findSlot(ids[ordinal]);
+                idSlots[slot] = ids[ordinal];
+                ordinalSlots[slot] = ordinal;
+            }
+        }
+
+        static Snapshot build(List<Entry> entries) {
+            record Item(long id, String nickname, String folded) {
+            }
+
+            List<Item> items = new ArrayList<>(entries.size());
+            int length = 0;
+            for (Entry entry : entries) {
+                if (entry.nickname() == null || entry.nickname().indexOf(SEPARATOR) >= 0) {
+                    continue;
+                }
+                items.add(new Item(entry.id(), entry.nickname(), fold(entry.nickname())));
+                length += entry.nickname().length() + 1;
+            }
+            items.sort(Comparator.comparing(Item::folded).thenComparing(Item::nickname));
+
+            long[] ids = new long[items.size()];
+            int[] starts = new int[items.size() + 1];
+            char[] text = new char[length];
+            char[] folded = new char[length];
+            int position = 0;
+            for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+                Item item = items.get(ordinal);
+                ids[ordinal] = item.id();
+                starts[ordinal] = position;
+                item.nickname().getChars(0, item.nickname().length(), text, position);
+                item.folded().getChars(0, item.folded().length(), folded, position);
+                position += item.nickname().length();
+                text[position] = SEPARATOR;
+                folded[position] = SEPARATOR;
+                position++;
+            }
+            starts[items.size()] = position;
+
+            int[] suffixes = new int[length - items.size()];
+            int count = 0;
+            for (int i = 0; i < length; i++) {
+                if (folded[i] != SEPARATOR) {
+                    suffixes[count++] = i;
+                }
+            }
+            sortSuffixes(folded, suffixes, 0, suffixes.length, 0);
+
+            return new Snapshot(ids, starts, text, folded, suffixes);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        Entry entry(int ordinal) {
+            return new Entry(ids[ordinal], new String(text, starts[ordinal], starts[ordinal + 1] - starts[ordinal] - 1));
+        }
+
+        boolean nicknameEquals(int ordinal, String nickname) {
+            int start = starts[ordinal];
+            if (starts[ordinal + 1] - start - 1 != nickname.length()) {
+                return false;
+            }
+            for (int i = 0; i < nickname.length(); i++) {
+                if (text[start + i] != nickname.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return 없으면 -1
+         */
+        int ordinalOf(long id) {
+            if (id == 0) {
+                return -1;
+            }
+            int slot = findSlot(id);
+            return idSlots[slot] == id ? ordinalSlots[slot] : -1;
+        }
+
+        /**
+         * 텍스트 위치 → 그 위치를 포함한 닉네임 ordinal
+         */
+        int ordinalAt(int position) {
+            int low = 0;
+            int high = ids.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (starts[mid] <= position) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * key 이상인 첫 닉네임 ordinal (prefix 면 key 로 시작하는 닉네임을 key 와 같게 봄)
+         */
+        int lowerBound(String key, boolean prefix) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareNickname(mid, key, prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * key 로 시작하는 첫 접미사 위치 (suffixes 인덱스)
+         */
+        int lowerBoundSuffix(String key) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareSuffix(suffixes[mid], key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int compareNickname(int ordinal, String key, boolean prefix) {
+            return compareAt(starts[ordinal], key, prefix);
+        }
+
+        int compareSuffix(int position, String key) {
+            return compareAt(position, key, true);
+        }
+
+        /**
+         * folded[position..] 과 key 비교 (SEPARATOR 에서 끝, key 에는 SEPARATOR 가 없음)
+         */
+        private int compareAt(int position, String key, boolean prefix) {
+            for (int i = 0; i < key.length(); i++) {
+                char c = folded[position + i];
+                char k = key.charAt(i);
+                if (c != k) {
+                    return c < k ? -1 : 1;
+                }
+            }
+            if (prefix) {
+                return 0;
+            }
+            return folded[position + key.length()] == SEPARATOR ? 0 : 1;
+        }
+
+        private int findSlot(long id) {
+            int mask = idSlots.length - 1;
+            long hash = id * 0x9e3779b97f4a7c15L;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (idSlots[slot] != 0 && idSlots[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * 접미사 정렬 (multikey quicksort: depth 번째 문자로 3분할, 같은 구간은 다음 문자로)
+         * 닉네임이 짧아 비교 깊이가 닉네임 길이로 제한됨
+         */
+        private static void sortSuffixes(char[] s, int[] a, int low, int high, int depth) {
+            while (high - low > INSERTION_SORT_THRESHOLD) {
+                int pivot = medianOf3(
+                        s[a[low] + depth],
+                        s[a[(low + high) >>> 1] + depth],
+                        s[a[high - 1] + depth]
+                );
+
+                int lt = low;
+                int gt = high - 1;
+                int i = low;
+                while (i <= gt) {
+                    char c = s[a[i] + depth];
+                    if (c < pivot) {
+                        swap(a, lt++, i++);
+                    } else if (c > pivot) {
+                        swap(a, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+
+                sortSuffixes(s, a, low, lt, depth);
+                if (pivot != SEPARATOR) {
+                    sortSuffixes(s, a, lt, gt + 1, depth + 1);
+                }
+                low = gt + 1;
+            }
+            insertionSort(s, a, low, high, depth);
+        }
+
+        private static void insertionSort(char[] s, int[] a, int low, int high, int depth) {
+            for (int i = low + 1; i < high; i++) {
+                int value = a[i];
+                int j = i - 1;
+                while (j >= low && compareSuffixes(s, a[j], value, depth) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = value;
+            }
+        }
+
+        private static int compareSuffixes(char[] s, int p, int q, int depth) {
+            for (int i = depth; ; i++) {
+                char c1 = s[p + i];
+                char c2 = s[q + i];
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
+                if (c1 == SEPARATOR) {
+                    return 0;
+                }
+            }
+        }
+
+        private static char medianOf3(char a, char b, char c) {
+            if (a < b) {
+                return b < c ? b : (a < c ? c : a);
+            }
+            return a < c ? a : (b < c ? c : b);
+        }
+
+        private static void swap(int[] a, int i, int j) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+}
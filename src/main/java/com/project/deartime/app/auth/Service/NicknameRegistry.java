@@ -0,0 +1,195 @@
+package com.project.deartime.app.auth.Service;
+
+import com.project.deartime.app.auth.repository.UserNickname;
+import com.project.deartime.app.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 닉네임 색인 레지스트리
+ * - 시작 후 별도 스레드에서 DB 의 전체 닉네임을 읽어 NicknameIndex 에 적재 (애플리케이션 기동을 막지 않음)
+ *   적재가 끝나기 전에는 사용 여부 확인은 DB(existsByNickname)로, 검색은 빈 결과로 응답
+ * - 이 인스턴스의 가입 / 닉네임 변경은 커밋 후 바로, 다른 인스턴스의 변경은 주기적인 동기화로 반영
+ * - 닉네임 사용 여부 확인(입력할 때마다 호출) / 닉네임 검색은 DB 조회 없이 메모리에서 처리
+ *   (최종 판단은 가입 / 프로필 수정 시 existsByNickname + nickname UNIQUE 제약, 색인은 화면 안내용)
+ * - 변경분이 쌓이면 동기화 때 색인을 다시 만듦
+ */
+@Slf4j
+@Component
+public class NicknameRegistry {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    // 동기화 구간을 조금 겹쳐 읽어, 늦게 커밋된 변경도 놓치지 않도록 함 (같은 값은 무시됨)
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final UserRepository userRepository;
+    private final NicknameIndex index = new NicknameIndex();
+    private final int compactThreshold;
+
+    private volatile LocalDateTime syncedAt;
+    private volatile boolean ready = false;
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    public NicknameRegistry(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.nickname-index.compact-threshold:1000}") int compactThreshold
+    ) {
+        this.userRepository = userRepository;
+        this.compactThreshold = Math.max(1, compactThreshold);
+
+        Gauge.builder("user.nickname_index.size", index, NicknameIndex::size)
+                .description("닉네임 색인에 있는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        startLoading();
+    }
+
+    /**
+     * 색인 적재 스레드 시작 (이미 적재 중이면 무시)
+     */
+    private void startLoading() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread loader = new Thread(() -> {
+            try {
+                load();
+            } catch (Exception e) {
+                // 적재 전까지는 DB 로 확인하고, 다음 동기화 주기에 다시 적재
+                log.error("[USER] 닉네임 색인 적재 실패", e);
+            } finally {
+                loading.set(false);
+            }
+        }, "nickname-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startedNanos = System.nanoTime();
+        List<NicknameIndex.Entry> entries = new ArrayList<>();
+        long afterId = 0;
+
+        while (true) {
+            List<UserNickname> batch = userRepository.findNicknamesAfter(
+                    afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (UserNickname user : batch) {
+                entries.add(new NicknameIndex.Entry(user.getId(), user.getNickname()));
+            }
+
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+
+        // 적재 중의 가입 / 닉네임 변경은 첫 동기화에서 startedAt 이전부터 다시 읽어 반영
+        index.replaceAll(entries);
+        syncedAt = startedAt;
+        ready = true;
+        log.info("[USER] 닉네임 색인 적재 완료. count={}, elapsedMs={}",
+                entries.size(), (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    /**
+     * 다른 인스턴스의 가입 / 닉네임 변경 반영, 변경분이 쌓였으면 색인을 다시 만듦
+     */
+    @Scheduled(
+            initialDelayString = "${user.nickname-index.sync-interval-ms:10000}",
+            fixedDelayString = "${user.nickname-index.sync-interval-ms:10000}"
+    )
+    public void sync() {
+        if (!ready) {
+            startLoading();
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (UserNickname user : userRepository.findNicknamesUpdatedSince(syncedAt.minusSeconds(SYNC_OVERLAP_SECONDS))) {
+                put(user.getId(), user.getNickname());
+            }
+            syncedAt = now;
+        } catch (Exception e) {
+            // 실패하면 다음 동기화에서 같은 구간부터 다시 읽음
+            log.error("[USER] 닉네임 색인 동기화 실패", e);
+        }
+
+        int pending = index.pendingChanges();
+        if (pending >= compactThreshold) {
+            long startedNanos = System.nanoTime();
+            if (index.compact()) {
+                log.info("[USER] 닉네임 색인 재생성. merged={}, size={}, elapsedMs={}",
+                        pending, index.size(), (System.nanoTime() - startedNanos) / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * @return 사용 중인 닉네임이면 true (다른 인스턴스의 최근 변경은 동기화 주기만큼 늦게 반영)
+     *         색인 적재 전에는 DB 에서 확인
+     */
+    public boolean isTaken(String nickname) {
+        if (!ready) {
+            return userRepository.existsByNickname(nickname);
+        }
+        return index.contains(nickname);
+    }
+
+    /**
+     * 키워드를 포함한 닉네임 검색 (접두어 일치 먼저, 대소문자 무시)
+     * 색인 적재 전에는 빈 결과 (전체 테이블을 훑는 LIKE 검색으로 대신하지 않음)
+     */
+    public List<NicknameIndex.Entry> search(String keyword, int limit) {
+        if (!ready) {
+            return List.of();
+        }
+        return index.search(keyword, limit);
+    }
+
+
+    /**
+     * 가입 / 닉네임 변경 트랜잭션 커밋 후 색인에 반영 (롤백되면 반영하지 않음)
+     */
+    public void putAfterCommit(Long userId, String nickname) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(userId, nickname);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(userId, nickname);
+            }
+        });
+    }
+
+    private void put(Long userId, String nickname) {
+        if (userId == null || nickname == null) {
+            return;
+        }
+        index.put(userId, nickname);
+    }
+}
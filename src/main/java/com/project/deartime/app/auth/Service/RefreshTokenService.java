@@ -0,0 +1,113 @@
+package com.project.deartime.app.auth.Service;
+
+import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.app.auth.dto.TokenResponse;
+import com.project.deartime.app.auth.dto.VerifiedToken;
+import com.project.deartime.app.auth.repository.RefreshTokenRepository;
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.domain.RefreshToken;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급 / 재발급(rotation) / 폐기
+ * - 로그인마다 새 계열(family)을 시작하고, 재발급할 때마다 이전 토큰을 폐기하고 같은 계열의 새 토큰 발급
+ * - 이미 폐기된 토큰으로 재발급을 요청하면 탈취로 보고 계열 전체를 폐기 (정상 사용자도 다시 로그인)
+ * - 폐기 여부는 조건부 UPDATE 한 번으로 확인과 폐기를 함께 처리 (별도 조회 / 메모리 색인 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    /**
+     * 로그인 / 회원가입 시 새 계열의 리프레시 토큰 발급
+     */
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 / 리프레시 토큰 재발급
+     * 재사용 감지 시 계열 폐기는 예외를 던져도 커밋되어야 하므로 CoreApiException 은 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = CoreApiException.class)
+    public TokenResponse rotate(String refreshToken) {
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken)
+                .filter(token -> token.isRefresh() && token.tokenId() != null)
+                .orElseThrow(() -> new CoreApiException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        // 동시에 같은 토큰으로 요청하거나 다른 인스턴스에서 이미 폐기한 경우 0
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.revoke(verified.tokenId(), RefreshToken.RevokeReason.ROTATED, now) == 0) {
+            throw reused(verified);
+        }
+
+        User user = userRepository.findById(Long.parseLong(verified.subject()))
+                .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
+
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail());
+        String newRefreshToken = issue(user.getId(), verified.familyId());
+
+        log.debug("[AUTH] 리프레시 토큰 재발급. userId={}, familyId={}", user.getId(), verified.familyId());
+        return new TokenResponse(accessToken, newRefreshToken);
+    }
+
+    /**
+     * 로그아웃: 본인 리프레시 토큰의 계열 전체 폐기 (토큰이 없거나 유효하지 않으면 무시)
+     */
+    public void revokeOnLogout(String refreshToken, Long userId) {
+        jwtTokenProvider.verify(refreshToken)
+                .filter(VerifiedToken::isRefresh)
+                .filter(token -> token.subject().equals(String.valueOf(userId)))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(
+                        token.familyId(), RefreshToken.RevokeReason.LOGOUT, LocalDateTime.now()));
+    }
+
+    private String issue(Long userId, String familyId) {
+        Date issuedAt = new Date();
+        String tokenId = UUID.randomUUID().toString();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId(tokenId)
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(toLocalDateTime(jwtTokenProvider.refreshTokenExpiration(issuedAt).getTime()))
+                .build());
+
+        return jwtTokenProvider.createRefreshToken(userId.toString(), tokenId, familyId, issuedAt);
+    }
+
+    /**
+     * 폐기된 토큰 재사용: 같은 계열의 남은 토큰을 모두 폐기
+     */
+    private CoreApiException reused(VerifiedToken verified) {
+        refreshTokenRepository.revokeFamily(
+                verified.familyId(), RefreshToken.RevokeReason.REUSED, LocalDateTime.now());
+
+        log.warn("[AUTH] 폐기된 리프레시 토큰 재사용 감지, 계열 전체 폐기. userId={}, familyId={}",
+                verified.subject(), verified.familyId());
+        return new CoreApiException(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zoneId);
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.deartime.app.auth.Service;
+
+import com.project.deartime.app.auth.dto.UserProfile;
+import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 프로필 읽기 캐시 (userId → 닉네임 / 프로필 이미지 / 자기소개 / 이메일 등)
+ * - 없으면 DB 에서 프로필 컬럼만 읽어 채움 (User 엔티티 / 연관관계를 로딩하지 않음)
+ * - 최대 항목 수를 넘으면 가장 오래 조회되지 않은 항목부터 제거 (LRU), TTL 이 지난 항목은 다시 읽음
+ * - 이 인스턴스의 프로필 변경은 트랜잭션 종료 후 바로 무효화, 다른 인스턴스의 변경은 TTL 안에 반영
+ * - 조회 결과별 카운터(user.profile.cache{result=hit|miss}) / 항목 수 게이지 기록
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // 접근 순서 LinkedHashMap (LRU), 이 객체로 동기화
+    private final LinkedHashMap<Long, Entry> entries;
+
+    // 무효화할 때마다 증가, DB 를 읽는 동안 무효화가 있었으면 읽은 값을 캐시하지 않음 (변경 전 값이 남지 않도록)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.profile-cache.max-size:10000}") int maxSize,
+            @Value("${user.profile-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, ttlSeconds));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UserProfileCache.this.maxSize;
+            }
+        };
+
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+        Gauge.builder("user.profile.cache.size", this, UserProfileCache::size)
+                .description("프로필 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws CoreApiException 사용자가 없으면 USER_NOT_FOUND
+     */
+    public UserProfile get(Long userId) {
+        return find(userId).orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * @return 사용자가 없으면 empty (없는 사용자는 캐시하지 않음)
+     */
+    public Optional<UserProfile> find(Long userId) {
+        long now = System.nanoTime();
+        UserProfile cached = lookup(userId, now);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        long version = invalidations.get();
+        Optional<UserProfile> loaded = userRepository.findProfileById(userId);
+        loaded.ifPresent(profile -> store(List.of(profile), version, now));
+        return loaded;
+    }
+
+    /**
+     * 여러 사용자 프로필 조회 (캐시에 없는 사용자만 한 번에 DB 에서 읽음)
+     *
+     * @return userId → 프로필 (없는 사용자는 빠짐)
+     */
+    public Map<Long, UserProfile> getAll(Collection<Long> userIds) {
+        long now = System.nanoTime();
+        Map<Long, UserProfile> profiles = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long userId : userIds) {
+            if (profiles.containsKey(userId) || missing.contains(userId)) {
+                continue;
+            }
+            UserProfile cached = lookup(userId, now);
+            if (cached != null) {
+                profiles.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        hitCounter.increment(profiles.size());
+        if (missing.isEmpty()) {
+            return profiles;
+        }
+
+        missCounter.increment(missing.size());
+        long version = invalidations.get();
+        List<UserProfile> loaded = userRepository.findProfilesByIdIn(missing);
+        store(loaded, version, now);
+        for (UserProfile profile : loaded) {
+            profiles.put(profile.id(), profile);
+        }
+        return profiles;
+    }
+
+    /**
+     * 프로필 변경 / 가입 트랜잭션이 끝난 뒤 무효화 (커밋 전에 다른 요청이 이전 값을 다시 채우지 않도록)
+     * 롤백돼도 무효화 (트랜잭션 안에서 읽은 값이 남지 않도록)
+     */
+    public void invalidateAfterCompletion(Long userId) {
+        invalidate(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        synchronized (this) {
+            entries.remove(userId);
+        }
+        log.debug("[USER] 프로필 캐시 무효화. userId={}", userId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized UserProfile lookup(Long userId, long nowNanos) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (nowNanos - entry.loadedAtNanos() >= ttlNanos) {
+            entries.remove(userId);
+            return null;
+        }
+        return entry.profile();
+    }
+
+    private synchronized void store(List<UserProfile> profiles, long version, long loadedAtNanos) {
+        if (invalidations.get() != version) {
+            return;
+        }
+        for (UserProfile profile : profiles) {
+            entries.put(profile.id(), new Entry(profile, loadedAtNanos));
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.profile.cache")
+                .description("프로필 캐시 조회 결과별 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(UserProfile profile, long loadedAtNanos) {
+    }
+}
@@ -2,21 +2,25 @@ package com.project.deartime.app.auth.Service;
 
 import com.project.deartime.app.auth.dto.SignUpRequest;
 import com.project.deartime.app.auth.dto.UpdateProfileRequest;
+import com.project.deartime.app.auth.dto.UserProfile;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.Proxy;
 import com.project.deartime.app.domain.User;
 import com.project.deartime.app.friend.repository.ProxyRepository;
-import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.service.StorageService;
+import com.project.deartime.app.storage.service.StorageDeletionService;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -24,13 +28,37 @@ import java.util.Map;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final StorageService storageService;
+    private final StorageDeletionService storageDeletionService;
     private final ProxyRepository proxyRepository;
+    private final UserProfileCache userProfileCache;
+    private final NicknameRegistry nicknameRegistry;
 
     // ✅ 닉네임 중복 확인 메서드 추가
-    @Transactional(readOnly = true)
+    // 입력할 때마다 호출되므로 DB 대신 닉네임 색인에서 확인 (색인 적재 전 / 가입 / 수정 시에는 DB 에서 확인)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isNicknameAvailable(String nickname) {
-        return !userRepository.existsByNickname(nickname);
+        return !nicknameRegistry.isTaken(nickname);
+    }
+
+    /**
+     * 닉네임 검색 (닉네임 색인에서 접두어 일치 먼저, 그다음 중간에 포함한 닉네임 순)
+     *
+     * @param currentUserId 결과에서 제외할 본인 ID
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<UserProfile> searchByNickname(String keyword, Long currentUserId, int size) {
+        List<Long> userIds = nicknameRegistry.search(keyword.trim(), size + 1).stream()
+                .map(NicknameIndex.Entry::id)
+                .filter(userId -> !userId.equals(currentUserId))
+                .limit(size)
+                .toList();
+
+        Map<Long, UserProfile> profiles = userProfileCache.getAll(userIds);
+        return userIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public User signUp(String providerId, String email, SignUpRequest request, MultipartFile profileImage) {
@@ -46,7 +74,7 @@ public class UserService {
         // 프로필 이미지 업로드 처리
         String profileImageUrl = null;
         if (profileImage != null && !profileImage.isEmpty()) {
-            profileImageUrl = s3Service.uploadFile(profileImage, "profiles");
+            profileImageUrl = storageService.uploadFile(profileImage, "profiles");
             System.out.println("업로드된 이미지 URL: " + profileImageUrl);
         }
 
@@ -60,6 +88,8 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        userProfileCache.invalidateAfterCompletion(savedUser.getId());
+        nicknameRegistry.putAfterCommit(savedUser.getId(), savedUser.getNickname());
         System.out.println("저장된 User ID: " + savedUser.getId());
         System.out.println("=== 회원가입 완료 ===");
 
@@ -72,6 +102,15 @@ public class UserService {
                 .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 프로필 조회 (프로필 캐시 사용, User 엔티티를 로딩하지 않음)
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserProfile getProfile(Long userId) {
+        return userProfileCache.get(userId);
+    }
+
     public User updateProfile(Long userId, UpdateProfileRequest request, MultipartFile profileImage) {
         System.out.println("=== 프로필 업데이트 시작 ===");
 
@@ -87,19 +126,14 @@ public class UserService {
         // 프로필 이미지 업데이트 처리
         String profileImageUrl = user.getProfileImageUrl();
         if (profileImage != null && !profileImage.isEmpty()) {
-            // 기존 이미지가 있으면 삭제
-            if (user.getProfileImageUrl() != null) {
-                try {
-                    s3Service.deleteFile(user.getProfileImageUrl());
-                    System.out.println("기존 이미지 삭제 완료");
-                } catch (Exception e) {
-                    System.out.println("기존 이미지 삭제 실패: " + e.getMessage());
-                }
-            }
-
             // 새 이미지 업로드
-            profileImageUrl = s3Service.uploadFile(profileImage, "profiles");
+            profileImageUrl = storageService.uploadFile(profileImage, "profiles");
             System.out.println("새 이미지 업로드 완료: " + profileImageUrl);
+
+            // 기존 이미지는 삭제 대기열에 기록 (프로필 변경이 커밋될 때만 삭제됨)
+            if (user.getProfileImageUrl() != null) {
+                storageDeletionService.enqueue(user.getProfileImageUrl());
+            }
         }
 
         user.updateProfile(
@@ -108,6 +142,8 @@ public class UserService {
                 request.getBio(),
                 profileImageUrl
         );
+        userProfileCache.invalidateAfterCompletion(userId);
+        nicknameRegistry.putAfterCommit(userId, user.getNickname());
 
         System.out.println("=== 프로필 업데이트 완료 ===");
 
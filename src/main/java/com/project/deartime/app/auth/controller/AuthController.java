@@ -1,13 +1,18 @@
 package com.project.deartime.app.auth.controller;
 
+import com.project.deartime.app.auth.Service.RefreshTokenService;
+import com.project.deartime.app.auth.dto.TokenResponse;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.SuccessCode;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,8 +20,11 @@ import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/auth")
+@RequiredArgsConstructor
 public class AuthController {
 
+    private final RefreshTokenService refreshTokenService;
+
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String clientId;
 
@@ -29,8 +37,30 @@ public class AuthController {
         response.sendRedirect("/oauth2/authorization/google");
     }
 
+    // 리프레시 토큰으로 액세스 / 리프레시 토큰 재발급 (사용한 리프레시 토큰은 폐기됨)
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponseTemplete<TokenResponse>> refresh(
+            @RequestHeader("Refresh-Token") String refreshToken,
+            HttpServletResponse response
+    ) {
+        TokenResponse tokens = refreshTokenService.rotate(refreshToken);
+
+        response.addHeader("Authorization", "Bearer " + tokens.accessToken());
+        response.addHeader("Refresh-Token", tokens.refreshToken());
+
+        return ApiResponseTemplete.success(SuccessCode.TOKEN_REFRESH_SUCCESS, tokens);
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponseTemplete<Void>> logout() {
+    public ResponseEntity<ApiResponseTemplete<Void>> logout(
+            @AuthenticationPrincipal String userId,
+            @RequestHeader(value = "Refresh-Token", required = false) String refreshToken
+    ) {
+        // 리프레시 토큰을 함께 보내면 재발급 계열 전체 폐기
+        if (refreshToken != null) {
+            refreshTokenService.revokeOnLogout(refreshToken, Long.parseLong(userId));
+        }
+
         // 인증 정보 제거
         SecurityContextHolder.clearContext();
 
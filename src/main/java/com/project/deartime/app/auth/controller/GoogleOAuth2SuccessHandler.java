@@ -1,5 +1,6 @@
 package com.project.deartime.app.auth.controller;
 
+import com.project.deartime.app.auth.Service.RefreshTokenService;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.User;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,7 @@ public class GoogleOAuth2SuccessHandler implements AuthenticationSuccessHandler
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public void onAuthenticationSuccess(
@@ -58,7 +60,7 @@ public class GoogleOAuth2SuccessHandler implements AuthenticationSuccessHandler
             // 기존 유저 - 정식 토큰 발급
             User user = optionalUser.get();
             String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail());
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString());
+            String refreshToken = refreshTokenService.issue(user.getId());
 
             System.out.println("=== 로그인 성공 ===");
             System.out.println("Access Token: " + accessToken);
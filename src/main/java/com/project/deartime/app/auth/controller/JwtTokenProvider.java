@@ -1,6 +1,8 @@
 package com.project.deartime.app.auth.controller;
 
+import com.project.deartime.app.auth.dto.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
@@ -18,8 +21,22 @@ public class JwtTokenProvider {
     private final long ACCESS_TOKEN_EXP = 1000L * 60 * 15; // 15분
     private final long REFRESH_TOKEN_EXP = 1000L * 60 * 60 * 24 * 7; // 7일
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    // 파서는 불변 / 스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser parser;
+
+    // 검증 결과 캐시 (비활성화 시 null)
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.verified-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.verified-cache.max-size:10000}") int cacheMaxSize
+    ) {
         this.SECRET_KEY = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = io.jsonwebtoken.Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+        this.verifiedTokenCache = cacheEnabled && cacheMaxSize > 0 ? new VerifiedTokenCache(cacheMaxSize) : null;
     }
 
     // 임시 토큰 생성 (회원가입용)
@@ -46,45 +63,78 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String createRefreshToken(String userId) {
-        Date now = new Date();
+    /**
+     * 리프레시 토큰 생성 (발급 / 폐기 이력은 RefreshTokenService 가 관리)
+     *
+     * @param tokenId  토큰 id (jti)
+     * @param familyId 로그인 한 번에서 이어지는 재발급 계열 id
+     */
+    public String createRefreshToken(String userId, String tokenId, String familyId, Date issuedAt) {
         return io.jsonwebtoken.Jwts.builder()
                 .setSubject(userId)
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXP))
+                .setId(tokenId)
+                .claim("fam", familyId)
+                .setIssuedAt(issuedAt)
+                .setExpiration(refreshTokenExpiration(issuedAt))
                 .signWith(SECRET_KEY, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getUserId(String token) {
-        return getClaims(token).getSubject();
+    public Date refreshTokenExpiration(Date issuedAt) {
+        return new Date(issuedAt.getTime() + REFRESH_TOKEN_EXP);
     }
 
-    public String getEmail(String token) {
-        return getClaims(token).get("email", String.class);
+    /**
+     * 토큰 검증 + 클레임 추출 (한 번만 파싱)
+     *
+     * @return 서명이 올바르지 않거나 만료 / 형식 오류면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(verifyOrThrow(token));
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    public String getProviderId(String token) {
-        return getClaims(token).getSubject();
-    }
+    /**
+     * 토큰 검증 + 클레임 추출, 실패 원인을 예외로 전달
+     * 같은 토큰은 만료 전까지 캐시된 검증 결과를 재사용
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.security.SignatureException 서명 불일치
+     * @throws io.jsonwebtoken.JwtException 그 외 형식 오류
+     * @throws IllegalArgumentException 토큰이 비어 있음
+     */
+    public VerifiedToken verifyOrThrow(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
 
-    private Claims getClaims(String token) {
-        return io.jsonwebtoken.Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
+        long now = System.currentTimeMillis();
+        if (verifiedTokenCache != null) {
+            VerifiedToken cached = verifiedTokenCache.get(token, now);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-    public boolean validateToken(String token) {
-        try {
-            io.jsonwebtoken.Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
-            return false;
+        VerifiedToken verified = toVerifiedToken(parser.parseClaimsJws(token).getBody());
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.put(token, verified, now);
         }
+        return verified;
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                Boolean.TRUE.equals(claims.get("temp", Boolean.class)),
+                expiration == null ? null : expiration.toInstant(),
+                claims.getId(),
+                claims.get("fam", String.class)
+        );
     }
-}
\ No newline at end of file
+}
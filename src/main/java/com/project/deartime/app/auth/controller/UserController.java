@@ -1,8 +1,11 @@
 package com.project.deartime.app.auth.controller;
 
+import com.project.deartime.app.auth.Service.RefreshTokenService;
 import com.project.deartime.app.auth.Service.UserService;
 import com.project.deartime.app.auth.dto.SignUpRequest;
 import com.project.deartime.app.auth.dto.UpdateProfileRequest;
+import com.project.deartime.app.auth.dto.UserProfile;
+import com.project.deartime.app.auth.dto.VerifiedToken;
 import com.project.deartime.app.domain.User;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.InvalidTokenException;
@@ -15,7 +18,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -25,6 +30,9 @@ public class UserController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+
+    private static final int MAX_SEARCH_SIZE = 50;
 
     // ✅ 닉네임 중복 확인 API 추가
     @GetMapping("/check-nickname")
@@ -47,6 +55,33 @@ public class UserController {
         }
     }
 
+    /**
+     * 닉네임 검색 (접두어 일치 먼저, 대소문자 무시, 본인 제외)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseTemplete<List<Map<String, Object>>>> searchByNickname(
+            @AuthenticationPrincipal String userId,
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+
+        List<Map<String, Object>> users = new ArrayList<>();
+        for (UserProfile profile : userService.searchByNickname(keyword, Long.parseLong(userId), pageSize)) {
+            Map<String, Object> userData = new HashMap<>();
+            userData.put("userId", profile.id());
+            userData.put("nickname", profile.nickname());
+            userData.put("profileImageUrl", profile.profileImageUrl());
+            userData.put("bio", profile.bio());
+            users.add(userData);
+        }
+
+        if (users.isEmpty()) {
+            return ApiResponseTemplete.success(SuccessCode.SEARCH_EMPTY, users);
+        }
+        return ApiResponseTemplete.success(SuccessCode.SEARCH_SUCCESS, users);
+    }
+
     @PostMapping("/signup")
     public ResponseEntity<ApiResponseTemplete<Map<String, Object>>> signUp(
             @RequestHeader("Authorization") String authHeader,
@@ -56,12 +91,11 @@ public class UserController {
     ) {
         String tempToken = authHeader.replace("Bearer ", "");
 
-        if (!jwtTokenProvider.validateToken(tempToken)) {
-            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
-        }
+        VerifiedToken verified = jwtTokenProvider.verify(tempToken)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 토큰입니다."));
 
-        String providerId = jwtTokenProvider.getProviderId(tempToken);
-        String email = jwtTokenProvider.getEmail(tempToken);
+        String providerId = verified.subject();
+        String email = verified.email();
 
         System.out.println("=== 토큰에서 추출한 정보 ===");
         System.out.println("providerId: " + providerId);
@@ -71,7 +105,7 @@ public class UserController {
         User user = userService.signUp(providerId, email, request, profileImage);
 
         String accessToken = jwtTokenProvider.createAccessToken(user.getId().toString(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId().toString());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         response.addHeader("Authorization", "Bearer " + accessToken);
         response.addHeader("Refresh-Token", refreshToken);
@@ -101,16 +135,16 @@ public class UserController {
         System.out.println("userId: " + userId);
 
         Long userIdLong = Long.parseLong(userId);
-        User user = userService.getUserById(userIdLong);
+        UserProfile profile = userService.getProfile(userIdLong);
 
         Map<String, Object> userData = new HashMap<>();
-        userData.put("userId", user.getId());
-        userData.put("email", user.getEmail());
-        userData.put("nickname", user.getNickname());
-        userData.put("birthDate", user.getBirthDate());
-        userData.put("bio", user.getBio());
-        userData.put("profileImageUrl", user.getProfileImageUrl());
-        userData.put("createdAt", user.getCreatedAt());
+        userData.put("userId", profile.id());
+        userData.put("email", profile.email());
+        userData.put("nickname", profile.nickname());
+        userData.put("birthDate", profile.birthDate());
+        userData.put("bio", profile.bio());
+        userData.put("profileImageUrl", profile.profileImageUrl());
+        userData.put("createdAt", profile.createdAt());
 
         // 대리인 정보 추가
         Map<String, Object> proxyInfo = userService.getMyProxyInfo(userIdLong);
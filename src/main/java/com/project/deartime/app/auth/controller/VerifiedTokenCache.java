@@ -0,0 +1,81 @@
+package com.project.deartime.app.auth.controller;
+
+import com.project.deartime.app.auth.dto.VerifiedToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증을 마친 토큰의 클레임 캐시 (토큰 만료 시각까지 유효)
+ * - 키는 토큰 원문이 아닌 SHA-256 해시 (토큰 원문을 메모리에 들고 있지 않도록)
+ * - 최대 항목 수를 넘으면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않음
+ * - 서명 검증에 성공한 토큰만 들어오므로 임의 토큰으로 캐시를 채울 수 없음
+ */
+class VerifiedTokenCache {
+
+    /** 가득 찼을 때 만료 항목 정리 최소 간격 (매 요청마다 전체를 훑지 않도록) */
+    private static final long EVICTION_INTERVAL_MILLIS = 1000;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictionMillis = new AtomicLong();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return 캐시에 없거나 이미 만료됐으면 null
+     */
+    VerifiedToken get(String token, long nowMillis) {
+        String key = hash(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.expiresAt().toEpochMilli() <= nowMillis) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    void put(String token, VerifiedToken verified, long nowMillis) {
+        if (verified.expiresAt() == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictExpired(nowMillis);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(hash(token), verified);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long nowMillis) {
+        long last = lastEvictionMillis.get();
+        if (nowMillis - last < EVICTION_INTERVAL_MILLIS || !lastEvictionMillis.compareAndSet(last, nowMillis)) {
+            return;
+        }
+        entries.values().removeIf(verified -> verified.expiresAt().toEpochMilli() <= nowMillis);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 에서 SHA-256 을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
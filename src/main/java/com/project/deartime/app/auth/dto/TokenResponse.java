@@ -0,0 +1,10 @@
+package com.project.deartime.app.auth.dto;
+
+/**
+ * 재발급한 액세스 / 리프레시 토큰
+ */
+public record TokenResponse(
+        String accessToken,
+        String refreshToken
+) {
+}
@@ -0,0 +1,26 @@
+package com.project.deartime.app.auth.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 화면 / 알림에 표시하는 사용자 프로필 (UserProfileCache 에 캐시되는 값)
+ *
+ * @param id              사용자 ID
+ * @param email           이메일
+ * @param nickname        닉네임
+ * @param profileImageUrl 프로필 이미지 URL (없으면 null)
+ * @param bio             자기소개
+ * @param birthDate       생년월일
+ * @param createdAt       가입 시각
+ */
+public record UserProfile(
+        Long id,
+        String email,
+        String nickname,
+        String profileImageUrl,
+        String bio,
+        LocalDate birthDate,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.project.deartime.app.auth.dto;
+
+import java.time.Instant;
+
+/**
+ * 서명 / 만료 검증을 마친 JWT 의 클레임
+ *
+ * @param subject   사용자 ID (임시 토큰이면 providerId)
+ * @param email     이메일 (리프레시 토큰에는 없음)
+ * @param temp      회원가입용 임시 토큰 여부
+ * @param expiresAt 만료 시각 (없으면 null)
+ * @param tokenId   토큰 id (jti, 리프레시 토큰에만 있음)
+ * @param familyId  리프레시 토큰 계열 id (재발급해도 유지, 리프레시 토큰에만 있음)
+ */
+public record VerifiedToken(
+        String subject,
+        String email,
+        boolean temp,
+        Instant expiresAt,
+        String tokenId,
+        String familyId
+) {
+
+    public boolean isRefresh() {
+        return familyId != null;
+    }
+}
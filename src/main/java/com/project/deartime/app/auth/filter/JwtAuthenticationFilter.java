@@ -1,14 +1,19 @@
 package com.project.deartime.app.auth.filter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.app.auth.dto.VerifiedToken;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,12 +22,58 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 인증 필터 (모든 요청이 지나는 경로)
+ * - 토큰 검증 결과별 카운터(auth.jwt.requests{outcome}) 기록
+ * - 정상 경로는 debug 로그만, 검증 실패는 N 건마다 1건만 warn 로그 (실패가 몰려도 로그가 폭주하지 않도록)
+ * - 에러 응답 본문은 ErrorCode 별로 미리 직렬화해 재사용
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // 리프레시 토큰으로 인증하는 경로 (만료된 액세스 토큰이 함께 와도 거부하지 않도록 필터 제외)
+    private static final String REFRESH_URI = "/api/auth/refresh";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final Map<ErrorCode, byte[]> errorBodies;
+
+    private final long failureLogSampleRate;
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private final Counter validCounter;
+    private final Counter missingCounter;
+    private final Counter expiredCounter;
+    private final Counter badSignatureCounter;
+    private final Counter invalidCounter;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${auth.filter.failure-log-sample-rate:100}") long failureLogSampleRate
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.errorBodies = serializeErrorBodies(objectMapper);
+        this.failureLogSampleRate = Math.max(1, failureLogSampleRate);
+
+        this.validCounter = outcomeCounter(meterRegistry, "valid");
+        this.missingCounter = outcomeCounter(meterRegistry, "missing");
+        this.expiredCounter = outcomeCounter(meterRegistry, "expired");
+        this.badSignatureCounter = outcomeCounter(meterRegistry, "bad_signature");
+        this.invalidCounter = outcomeCounter(meterRegistry, "invalid");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return REFRESH_URI.equals(request.getRequestURI());
+    }
 
     @Override
     protected void doFilterInternal(
@@ -31,85 +82,120 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String requestURI = request.getRequestURI();
         String authHeader = request.getHeader("Authorization");
 
-        System.out.println("=== JWT Filter 실행 ===");
-        System.out.println("요청 URI: " + requestURI);
-        System.out.println("Authorization 헤더: " + authHeader);
-
         try {
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-
-                System.out.println("토큰 추출 완료: " + token.substring(0, Math.min(20, token.length())) + "...");
-
-                if (jwtTokenProvider.validateToken(token)) {
-                    String userId = jwtTokenProvider.getUserId(token);
-
-                    System.out.println("✅ 토큰 유효 - 사용자 ID: " + userId);
-
-                    // 인증 객체 생성
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userId,
-                                    null,
-                                    new ArrayList<>()
-                            );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    // SecurityContext에 인증 정보 저장
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                    System.out.println("✅ SecurityContext에 인증 정보 저장 완료");
-                } else {
-                    System.out.println("❌ 토큰 유효성 검증 실패");
-                    // ✅ ErrorCode.INVALID_TOKEN 사용
+            if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+                VerifiedToken verified = verify(authHeader.substring(BEARER_PREFIX.length()), request);
+                if (verified == null) {
                     sendErrorResponse(response, ErrorCode.INVALID_TOKEN);
                     return; // 필터 체인 중단
                 }
+
+                // 인증 객체 생성
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                verified.subject(),
+                                null,
+                                new ArrayList<>()
+                        );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                // SecurityContext에 인증 정보 저장
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                validCounter.increment();
+                log.debug("[AUTH] 토큰 인증 성공. userId={}, uri={}", verified.subject(), request.getRequestURI());
             } else {
-                System.out.println("⚠️ Authorization 헤더 없음 또는 Bearer 형식 아님");
+                missingCounter.increment();
+                log.debug("[AUTH] Authorization 헤더 없음 또는 Bearer 형식 아님. uri={}", request.getRequestURI());
             }
 
             filterChain.doFilter(request, response);
 
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
-            // ✅ ErrorCode.EXPIRED_TOKEN_EXCEPTION 사용
-            System.out.println("❌ 토큰 만료: " + e.getMessage());
-            sendErrorResponse(response, ErrorCode.EXPIRED_TOKEN_EXCEPTION);
-
-        } catch (io.jsonwebtoken.security.SignatureException e) {
-            // ✅ ErrorCode.INVALID_SIGNATURE_EXCEPTION 사용
-            System.out.println("❌ JWT 서명 오류: " + e.getMessage());
-            sendErrorResponse(response, ErrorCode.INVALID_SIGNATURE_EXCEPTION);
-
         } catch (io.jsonwebtoken.JwtException e) {
-            // ✅ ErrorCode.INVALID_TOKEN 사용
-            System.out.println("❌ JWT 예외: " + e.getMessage());
+            log.warn("[AUTH] JWT 예외. uri={}, message={}", request.getRequestURI(), e.getMessage());
             sendErrorResponse(response, ErrorCode.INVALID_TOKEN);
 
         } catch (Exception e) {
-            // ✅ ErrorCode.INTERNAL_SERVER_ERROR 사용
-            System.out.println("❌ 토큰 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("[AUTH] 토큰 처리 중 오류. uri={}", request.getRequestURI(), e);
             sendErrorResponse(response, ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
-    // ✅ ErrorCode를 받아서 에러 응답 전송
+    /**
+     * 토큰 검증, 실패 원인별로 카운트
+     *
+     * @return 검증 실패면 null
+     */
+    private VerifiedToken verify(String token, HttpServletRequest request) {
+        try {
+            VerifiedToken verified = jwtTokenProvider.verifyOrThrow(token);
+            if (verified.isRefresh()) {
+                // 리프레시 토큰은 재발급에만 사용 (API 인증 불가)
+                invalidCounter.increment();
+                logFailure("refresh_token", request);
+                return null;
+            }
+            return verified;
+        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            expiredCounter.increment();
+            logFailure("expired", request);
+        } catch (io.jsonwebtoken.security.SignatureException e) {
+            badSignatureCounter.increment();
+            logFailure("bad_signature", request);
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
+            logFailure("invalid", request);
+        }
+        return null;
+    }
+
+    private void logFailure(String outcome, HttpServletRequest request) {
+        long count = failureCount.getAndIncrement();
+        if (count % failureLogSampleRate == 0) {
+            log.warn("[AUTH] 토큰 검증 실패 ({}건 중 1건만 기록). outcome={}, uri={}, totalFailures={}",
+                    failureLogSampleRate, outcome, request.getRequestURI(), count + 1);
+        } else {
+            log.debug("[AUTH] 토큰 검증 실패. outcome={}, uri={}", outcome, request.getRequestURI());
+        }
+    }
+
+    // ErrorCode에 해당하는 미리 직렬화한 에러 응답 전송
     private void sendErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+
+        byte[] body = errorBodies.get(errorCode);
         response.setStatus(errorCode.getHttpStatusCode());
         response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
 
-        ApiResponseTemplete<Object> errorResponse = ApiResponseTemplete.builder()
-                .status(errorCode.getHttpStatusCode())
-                .success(false)
-                .message(errorCode.getMessage())
-                .data(null)
-                .build();
+    private static Map<ErrorCode, byte[]> serializeErrorBodies(ObjectMapper objectMapper) {
+        Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ApiResponseTemplete<Object> errorResponse = ApiResponseTemplete.builder()
+                    .status(errorCode.getHttpStatusCode())
+                    .success(false)
+                    .message(errorCode.getMessage())
+                    .data(null)
+                    .build();
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(errorResponse));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 직렬화 실패: " + errorCode, e);
+            }
+        }
+        return bodies;
+    }
 
-        ObjectMapper mapper = new ObjectMapper();
-        response.getWriter().write(mapper.writeValueAsString(errorResponse));
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.jwt.requests")
+                .description("JWT 인증 필터 처리 결과별 요청 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
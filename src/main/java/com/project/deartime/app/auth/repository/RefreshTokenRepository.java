@@ -0,0 +1,41 @@
+package com.project.deartime.app.auth.repository;
+
+import com.project.deartime.app.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 아직 폐기되지 않은 토큰 1건 폐기
+     * 여러 요청 / 인스턴스가 같은 토큰으로 동시에 재발급해도 한 요청만 성공 (나머지는 0 → 재사용으로 처리)
+     *
+     * @return 폐기한 행 수 (0 이면 없는 토큰이거나 이미 폐기된 토큰)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :now, rt.revokeReason = :reason " +
+            "WHERE rt.tokenId = :tokenId AND rt.revokedAt IS NULL")
+    int revoke(@Param("tokenId") String tokenId,
+               @Param("reason") RefreshToken.RevokeReason reason,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 계열의 아직 폐기되지 않은 토큰을 모두 폐기
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :now, rt.revokeReason = :reason " +
+            "WHERE rt.familyId = :familyId AND rt.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId,
+                     @Param("reason") RefreshToken.RevokeReason reason,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
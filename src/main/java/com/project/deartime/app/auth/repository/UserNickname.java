@@ -0,0 +1,11 @@
+package com.project.deartime.app.auth.repository;
+
+/**
+ * 사용자 id / 닉네임 (닉네임 색인 적재용)
+ */
+public interface UserNickname {
+
+    Long getId();
+
+    String getNickname();
+}
@@ -1,10 +1,14 @@
 package com.project.deartime.app.auth.repository;
 
+import com.project.deartime.app.auth.dto.UserProfile;
 import com.project.deartime.app.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,15 +18,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
-    @Query("SELECT u FROM User u WHERE " +
-            "LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "AND u.id != :currentUserId")
-    List<User> searchByNickname(@Param("keyword") String keyword,
-                                @Param("currentUserId") Long currentUserId);
-
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.id != :currentUserId")
     Optional<User> findByEmailAndNotCurrentUser(
             @Param("email") String email,
             @Param("currentUserId") Long currentUserId
     );
+
+    // 프로필 캐시 적재용 (연관관계 없이 표시용 컬럼만 조회)
+    @Query("SELECT new com.project.deartime.app.auth.dto.UserProfile(" +
+            "u.id, u.email, u.nickname, u.profileImageUrl, u.bio, u.birthDate, u.createdAt) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserProfile> findProfileById(@Param("userId") Long userId);
+
+    @Query("SELECT new com.project.deartime.app.auth.dto.UserProfile(" +
+            "u.id, u.email, u.nickname, u.profileImageUrl, u.bio, u.birthDate, u.createdAt) " +
+            "FROM User u WHERE u.id IN :userIds")
+    List<UserProfile> findProfilesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 사용자 id / 닉네임을 id 순으로 조회 (시작 시 닉네임 색인 적재)
+     */
+    @Query("SELECT u.id AS id, u.nickname AS nickname FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserNickname> findNicknamesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * since 이후 수정된 사용자 닉네임 (다른 인스턴스의 가입 / 닉네임 변경을 닉네임 색인에 반영)
+     */
+    @Query("SELECT u.id AS id, u.nickname AS nickname FROM User u WHERE u.updatedAt >= :since")
+    List<UserNickname> findNicknamesUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,33 @@
+package com.project.deartime.app.auth.scheduler;
+
+import com.project.deartime.app.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 리프레시 토큰 이력 삭제 (만료된 토큰은 서명 검증 단계에서 이미 거부됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleanupScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${auth.refresh-token.purge-interval-ms:3600000}",
+            fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}"
+    )
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[AUTH] 만료된 리프레시 토큰 정리. count={}", deleted);
+        }
+    }
+}
@@ -1,14 +1,12 @@
 package com.project.deartime.app.capsule.controller;
 
 import com.project.deartime.app.capsule.dto.CapsuleResponse;
+import com.project.deartime.app.capsule.dto.CapsuleScrollResponse;
 import com.project.deartime.app.capsule.dto.CapsuleType;
 import com.project.deartime.app.capsule.dto.CreateCapsuleRequest;
 import com.project.deartime.app.capsule.service.TimeCapsuleService;
-import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.dto.PageResponse;
-import com.project.deartime.global.exception.CoreApiException;
-import com.project.deartime.global.exception.ErrorCode;
 import com.project.deartime.global.exception.SuccessCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +28,6 @@ import org.springframework.web.multipart.MultipartFile;
 public class TimeCapsuleController {
 
     private final TimeCapsuleService timeCapsuleService;
-    private final UserRepository userRepository;
 
     /**
      * 타임캡슐 생성
@@ -41,11 +38,7 @@ public class TimeCapsuleController {
             @RequestPart(value = "imageFile", required = false) MultipartFile imageFile,
             @AuthenticationPrincipal String userId) {
 
-        Long userIdLong = Long.parseLong(userId);
-        var user = userRepository.findById(userIdLong)
-                .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
-
-        CapsuleResponse response = timeCapsuleService.createCapsule(userIdLong, request, imageFile, user);
+        CapsuleResponse response = timeCapsuleService.createCapsule(Long.parseLong(userId), request, imageFile);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -81,6 +74,23 @@ public class TimeCapsuleController {
                         .build());
     }
 
+    /**
+     * 타임캡슐 목록 조회 (커서 기반 무한 스크롤)
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseTemplete<CapsuleScrollResponse>> scrollCapsules(
+            @RequestParam(required = false) CapsuleType type,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @AuthenticationPrincipal String userId) {
+
+        Long userIdLong = Long.parseLong(userId);
+
+        CapsuleScrollResponse response = timeCapsuleService.scrollCapsules(userIdLong, type, cursor, size);
+
+        return ApiResponseTemplete.success(SuccessCode.CAPSULE_LIST_SUCCESS, response);
+    }
+
     /**
      * 타임캡슐 상세 조회
      */
@@ -0,0 +1,46 @@
+package com.project.deartime.app.capsule.dto;
+
+import com.project.deartime.app.capsule.repository.CapsuleListRow;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 캡슐 목록 keyset 페이지네이션 커서 (이전 페이지 마지막 캡슐의 생성 시각 + id)
+ * 클라이언트에는 불투명한 문자열로 전달
+ */
+public record CapsuleCursor(LocalDateTime createdAt, long id) {
+
+    public static CapsuleCursor of(CapsuleListRow row) {
+        return new CapsuleCursor(row.createdAt(), row.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static CapsuleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new CapsuleCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CoreApiException(ErrorCode.INVALID_INPUT_VALUE, "캡슐 목록 커서가 올바르지 않습니다.");
+        }
+    }
+}
@@ -1,4 +1,6 @@
 package com.project.deartime.app.capsule.dto;
+import com.project.deartime.app.auth.dto.UserProfile;
+import com.project.deartime.app.capsule.repository.CapsuleListRow;
 import com.project.deartime.app.domain.TimeCapsule;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -45,7 +47,10 @@ public class CapsuleResponse {
 
     private boolean canAccess;
 
-    public static CapsuleResponse from(TimeCapsule capsule, boolean canAccess) {
+    /**
+     * 보낸 사람 / 받는 사람 정보는 프로필 캐시에서 조회한 값 사용 (User 프록시를 로딩하지 않음)
+     */
+    public static CapsuleResponse from(TimeCapsule capsule, UserProfile sender, UserProfile receiver, boolean canAccess) {
         // Entity의 isOpened 값을 그대로 사용
         // 단, 접근 불가능한 캡슐은 무조건 안 열린 상태로 내려감
         boolean isOpened = canAccess && capsule.getIsOpened();
@@ -59,15 +64,41 @@ public class CapsuleResponse {
                 .openAt(capsule.getOpenAt())
                 .isNotified(capsule.getIsNotified())
                 .senderId(capsule.getSender().getId())
-                .senderNickname(capsule.getSender().getNickname())
-                .senderProfileImageUrl(capsule.getSender().getProfileImageUrl())
+                .senderNickname(sender != null ? sender.nickname() : null)
+                .senderProfileImageUrl(sender != null ? sender.profileImageUrl() : null)
                 .receiverId(capsule.getReceiver().getId())
-                .receiverNickname(capsule.getReceiver().getNickname())
-                .receiverProfileImageUrl(capsule.getReceiver().getProfileImageUrl())
+                .receiverNickname(receiver != null ? receiver.nickname() : null)
+                .receiverProfileImageUrl(receiver != null ? receiver.profileImageUrl() : null)
                 .createdAt(capsule.getCreatedAt())
                 .isOpened(isOpened)
                 .canAccess(canAccess)
                 .build();
     }
+
+    /**
+     * 목록 조회 결과로 응답 생성 (보낸 사람 / 받는 사람을 다시 조회하지 않음)
+     */
+    public static CapsuleResponse from(CapsuleListRow row, boolean canAccess) {
+        boolean isOpened = canAccess && row.isOpened();
+
+        return CapsuleResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .content(canAccess ? row.content() : null)
+                .theme(row.theme())
+                .imageUrl(row.imageUrl())
+                .openAt(row.openAt())
+                .isNotified(row.isNotified())
+                .senderId(row.senderId())
+                .senderNickname(row.senderNickname())
+                .senderProfileImageUrl(row.senderProfileImageUrl())
+                .receiverId(row.receiverId())
+                .receiverNickname(row.receiverNickname())
+                .receiverProfileImageUrl(row.receiverProfileImageUrl())
+                .createdAt(row.createdAt())
+                .isOpened(isOpened)
+                .canAccess(canAccess)
+                .build();
+    }
 }
 
@@ -0,0 +1,15 @@
+package com.project.deartime.app.capsule.dto;
+
+import java.util.List;
+
+/**
+ * 캡슐 목록 페이지 (keyset)
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record CapsuleScrollResponse(
+        List<CapsuleResponse> capsules,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,142 @@
+package com.project.deartime.app.capsule.repository;
+
+import com.project.deartime.app.capsule.dto.CapsuleCursor;
+import com.project.deartime.app.capsule.dto.CapsuleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 캡슐 목록 조회 저장소
+ * - "보낸 것 OR 받은 것" 조건을 보낸 캡슐 / 받은 캡슐 두 갈래의 UNION ALL 로 나눠
+ *   각 갈래가 (sender_id, created_at, id) / (receiver_id, created_at, id) 인덱스를 정렬 순서대로 읽음
+ * - 각 갈래에서 필요한 만큼만 id 를 고른 뒤, 최종 페이지에 대해서만 보낸 사람 / 받는 사람을 조인
+ * - 페이지 크기와 관계없이 목록 1번 (+ offset 페이지는 개수 1번) 조회
+ * - 정렬: created_at → id 내림차순
+ */
+@Repository
+@RequiredArgsConstructor
+public class CapsuleListRepository {
+
+    private static final String COLUMNS = "c.id, c.title, c.content, c.theme, c.image_url, c.open_at, " +
+            "c.is_notified, c.is_opened, c.created_at, " +
+            "s.id AS sender_id, s.nickname AS sender_nickname, s.profile_image_url AS sender_profile_image_url, " +
+            "r.id AS receiver_id, r.nickname AS receiver_nickname, r.profile_image_url AS receiver_profile_image_url";
+
+    private static final String KEYSET = " AND (created_at, id) < (:cursorCreatedAt, :cursorId)";
+
+    private static final RowMapper<CapsuleListRow> ROW_MAPPER = (rs, rowNum) -> new CapsuleListRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("content"),
+            rs.getString("theme"),
+            rs.getString("image_url"),
+            rs.getTimestamp("open_at").toLocalDateTime(),
+            rs.getBoolean("is_notified"),
+            rs.getBoolean("is_opened"),
+            rs.getLong("sender_id"),
+            rs.getString("sender_nickname"),
+            rs.getString("sender_profile_image_url"),
+            rs.getLong("receiver_id"),
+            rs.getString("receiver_nickname"),
+            rs.getString("receiver_profile_image_url"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * cursor 다음 캡슐 목록 (cursor 가 null 이면 첫 페이지)
+     */
+    public List<CapsuleListRow> findAfter(Long userId, CapsuleType type, CapsuleCursor cursor,
+                                          LocalDateTime now, int limit) {
+        MapSqlParameterSource params = params(userId, now)
+                .addValue("branchLimit", limit)
+                .addValue("limit", limit)
+                .addValue("offset", 0);
+        if (cursor != null) {
+            params.addValue("cursorCreatedAt", Timestamp.valueOf(cursor.createdAt()))
+                    .addValue("cursorId", cursor.id());
+        }
+
+        return namedParameterJdbcTemplate.query(pageSql(type, cursor != null), params, ROW_MAPPER);
+    }
+
+    /**
+     * offset 페이지 (기존 페이지 번호 기반 목록용)
+     * 각 갈래에서 offset + limit 건까지만 읽으면 합친 결과의 해당 구간이 모두 포함됨
+     */
+    public List<CapsuleListRow> findPage(Long userId, CapsuleType type, LocalDateTime now, long offset, int limit) {
+        MapSqlParameterSource params = params(userId, now)
+                .addValue("branchLimit", offset + limit)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        return namedParameterJdbcTemplate.query(pageSql(type, false), params, ROW_MAPPER);
+    }
+
+    public long count(Long userId, CapsuleType type, LocalDateTime now) {
+        String sql = "SELECT " + branchesOf(type).stream()
+                .map(branch -> "(SELECT count(*) FROM time_capsule WHERE " + where(type, branch) + ")")
+                .collect(Collectors.joining(" + "));
+
+        Long count = namedParameterJdbcTemplate.queryForObject(sql, params(userId, now), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private String pageSql(CapsuleType type, boolean afterCursor) {
+        String branches = branchesOf(type).stream()
+                .map(branch -> "(SELECT id, created_at FROM time_capsule WHERE " + where(type, branch)
+                        + (afterCursor ? KEYSET : "")
+                        + " ORDER BY created_at DESC, id DESC LIMIT :branchLimit)")
+                .collect(Collectors.joining(" UNION ALL "));
+
+        return "SELECT " + COLUMNS + " FROM (" + branches + ") page " +
+                "JOIN time_capsule c ON c.id = page.id " +
+                "JOIN users s ON s.id = c.sender_id " +
+                "JOIN users r ON r.id = c.receiver_id " +
+                "ORDER BY page.created_at DESC, page.id DESC " +
+                "LIMIT :limit OFFSET :offset";
+    }
+
+    private String where(CapsuleType type, Branch branch) {
+        return type == CapsuleType.OPENED ? branch.condition + " AND open_at <= :now" : branch.condition;
+    }
+
+    private List<Branch> branchesOf(CapsuleType type) {
+        return switch (type) {
+            case SENT -> List.of(Branch.SENT);
+            case RECEIVED -> List.of(Branch.RECEIVED);
+            case ALL, OPENED -> List.of(Branch.SENT, Branch.RECEIVED_FROM_OTHERS);
+        };
+    }
+
+    private MapSqlParameterSource params(Long userId, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("now", Timestamp.valueOf(now));
+    }
+
+    /**
+     * UNION ALL 의 각 갈래 조건
+     * 나에게 보낸 캡슐은 보낸 캡슐 갈래에서만 읽음 (중복 방지)
+     */
+    private enum Branch {
+        SENT("sender_id = :userId"),
+        RECEIVED("receiver_id = :userId"),
+        RECEIVED_FROM_OTHERS("receiver_id = :userId AND sender_id <> :userId");
+
+        private final String condition;
+
+        Branch(String condition) {
+            this.condition = condition;
+        }
+    }
+}
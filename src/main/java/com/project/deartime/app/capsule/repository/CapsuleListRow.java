@@ -0,0 +1,25 @@
+package com.project.deartime.app.capsule.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캡슐 목록 한 줄 (보낸 사람 / 받는 사람 정보를 함께 조회한 결과)
+ */
+public record CapsuleListRow(
+        Long id,
+        String title,
+        String content,
+        String theme,
+        String imageUrl,
+        LocalDateTime openAt,
+        Boolean isNotified,
+        Boolean isOpened,
+        Long senderId,
+        String senderNickname,
+        String senderProfileImageUrl,
+        Long receiverId,
+        String receiverNickname,
+        String receiverProfileImageUrl,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.project.deartime.app.capsule.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타이밍 휠에 적재할 캡슐 오픈 일정
+ */
+public record CapsuleOpenSchedule(
+        Long id,
+        LocalDateTime openAt
+) {
+}
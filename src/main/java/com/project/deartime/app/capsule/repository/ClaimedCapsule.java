@@ -0,0 +1,18 @@
+package com.project.deartime.app.capsule.repository;
+
+/**
+ * 오픈 알림 작업자가 선점한 타임캡슐
+ */
+public interface ClaimedCapsule {
+
+    Long getId();
+
+    String getTitle();
+
+    Long getReceiverId();
+
+    String getSenderNickname();
+
+    // 받는 사람이 오픈 시간 전에 이미 열어본 캡슐 (보낸 사람이 상세 조회한 경우 포함)
+    Boolean getOpened();
+}
@@ -1,10 +1,8 @@
 package com.project.deartime.app.capsule.repository;
 
 import com.project.deartime.app.domain.TimeCapsule;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,36 +14,45 @@ import java.util.List;
 @Repository
 public interface TimeCapsuleRepository extends JpaRepository<TimeCapsule, Long> {
 
-    Page<TimeCapsule> findBySenderId(Long senderId, Pageable pageable);
-
-    Page<TimeCapsule> findByReceiverId(Long receiverId, Pageable pageable);
-
     /**
-     * 모든 캡슐 (보낸 것 + 받은 것)
+     * 오픈 시간이 지났지만 알림이 발송되지 않은 캡슐을 선점 (isNotified = true) 하고 발신자 닉네임과 함께 반환
+     * SKIP LOCKED 로 여러 작업자 / 인스턴스가 동시에 실행되어도 같은 캡슐을 중복 처리하지 않음
+     * 알림 기록에 실패해 트랜잭션이 롤백되면 isNotified 도 되돌아가 다음 실행 때 다시 처리됨
      */
-    @Query("SELECT tc FROM TimeCapsule tc WHERE tc.sender.id = :userId OR tc.receiver.id = :userId")
-    Page<TimeCapsule> findAllCapsules(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = "WITH claimed AS (" +
+            "    UPDATE time_capsule SET is_notified = TRUE WHERE id IN (" +
+            "        SELECT id FROM time_capsule WHERE open_at <= :now AND is_notified = FALSE " +
+            "        ORDER BY open_at, id LIMIT :limit FOR UPDATE SKIP LOCKED" +
+            "    ) RETURNING id, title, sender_id, receiver_id, is_opened" +
+            ") " +
+            "SELECT c.id AS id, c.title AS title, c.receiver_id AS receiverId, " +
+            "s.nickname AS senderNickname, c.is_opened AS opened " +
+            "FROM claimed c JOIN users s ON s.id = c.sender_id",
+            nativeQuery = true)
+    List<ClaimedCapsule> claimDueCapsules(@Param("now") LocalDateTime now, @Param("limit") int limit);
 
     /**
-     * 개봉된 캡슐만
+     * 타이밍 휠에서 만료된 캡슐을 id 로 선점 (claimDueCapsules 와 같은 방식, 이미 처리된 캡슐은 제외)
      */
-    @Query("SELECT tc FROM TimeCapsule tc WHERE tc.openAt <= CURRENT_TIMESTAMP AND (tc.sender.id = :userId OR tc.receiver.id = :userId)")
-    Page<TimeCapsule> findOpenedCapsules(@Param("userId") Long userId, Pageable pageable);
+    @Query(value = "WITH claimed AS (" +
+            "    UPDATE time_capsule SET is_notified = TRUE WHERE id IN (" +
+            "        SELECT id FROM time_capsule WHERE id IN (:ids) AND open_at <= :now AND is_notified = FALSE " +
+            "        FOR UPDATE SKIP LOCKED" +
+            "    ) RETURNING id, title, sender_id, receiver_id, is_opened" +
+            ") " +
+            "SELECT c.id AS id, c.title AS title, c.receiver_id AS receiverId, " +
+            "s.nickname AS senderNickname, c.is_opened AS opened " +
+            "FROM claimed c JOIN users s ON s.id = c.sender_id",
+            nativeQuery = true)
+    List<ClaimedCapsule> claimCapsulesByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 
     /**
-     * 오픈 시간이 지났지만 알림이 발송되지 않은 캡슐 조회 (스케줄러용)
+     * (from, until] 에 오픈 예정이고 아직 알림을 보내지 않은 캡슐 (타이밍 휠 적재용)
      */
-    @Query("SELECT tc FROM TimeCapsule tc WHERE tc.openAt <= :now AND tc.isNotified = false")
-    List<TimeCapsule> findCapsulesReadyToOpen(@Param("now") LocalDateTime now);
-
-    /**
-     * Atomic Update: isNotified를 false에서 true로 변경
-     * 동시성 문제 해결을 위해 조건부 업데이트 수행
-     * @return 업데이트된 행 수 (1이면 성공, 0이면 이미 처리됨)
-     */
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE TimeCapsule tc SET tc.isNotified = true WHERE tc.id = :id AND tc.isNotified = false")
-    int updateIsNotifiedToTrue(@Param("id") Long id);
+    @Query("SELECT new com.project.deartime.app.capsule.repository.CapsuleOpenSchedule(tc.id, tc.openAt) " +
+            "FROM TimeCapsule tc WHERE tc.isNotified = false AND tc.openAt > :from AND tc.openAt <= :until " +
+            "ORDER BY tc.openAt, tc.id")
+    List<CapsuleOpenSchedule> findOpenSchedules(@Param("from") LocalDateTime from,
+                                                @Param("until") LocalDateTime until,
+                                                Pageable pageable);
 }
-
-
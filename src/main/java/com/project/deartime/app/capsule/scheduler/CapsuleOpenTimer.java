@@ -0,0 +1,176 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import com.project.deartime.app.capsule.repository.CapsuleOpenSchedule;
+import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타임캡슐 초 단위 오픈 타이머
+ * - 앞으로 horizon 안에 열릴 캡슐을 DB 에서 주기적으로 읽어 타이밍 휠에 적재
+ * - 새로 만든 캡슐은 이미 적재한 구간 안이면 생성 커밋 후 바로 휠에 추가
+ * - 전용 스레드가 1초마다 휠을 진행시키고, 만료된 캡슐은 TimeCapsuleOpenScheduler 로 알림 발송
+ * - 휠은 메모리에만 있으므로, 재시작 / 용량 초과로 놓친 캡슐은 TimeCapsuleOpenScheduler 의 주기적인 확인이 처리
+ */
+@Slf4j
+@Component
+public class CapsuleOpenTimer {
+
+    private static final long MAX_HORIZON_SECONDS = 23 * 3600;
+
+    private final TimeCapsuleRepository timeCapsuleRepository;
+    private final TimeCapsuleOpenScheduler timeCapsuleOpenScheduler;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final long horizonSeconds;
+    private final HierarchicalTimingWheel wheel;
+    private final ScheduledExecutorService ticker;
+
+    // 이 시각까지 오픈 예정인 캡슐은 휠에 적재됨 (적재 중이면 적재 목표 시각)
+    private volatile LocalDateTime scheduledUntil;
+
+    public CapsuleOpenTimer(
+            TimeCapsuleRepository timeCapsuleRepository,
+            TimeCapsuleOpenScheduler timeCapsuleOpenScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${capsule.open.wheel.horizon-seconds:600}") long horizonSeconds,
+            @Value("${capsule.open.wheel.max-timers:1000000}") int maxTimers
+    ) {
+        this.timeCapsuleRepository = timeCapsuleRepository;
+        this.timeCapsuleOpenScheduler = timeCapsuleOpenScheduler;
+        this.wheel = new HierarchicalTimingWheel(epochSecond(LocalDateTime.now()), Math.max(1, maxTimers));
+        // 휠이 담을 수 있는 범위(약 24시간) 안으로 제한
+        this.horizonSeconds = Math.min(Math.max(1, horizonSeconds), MAX_HORIZON_SECONDS);
+        this.scheduledUntil = LocalDateTime.now();
+
+        Gauge.builder("capsule.open.wheel.timers", wheel, HierarchicalTimingWheel::size)
+                .description("타이밍 휠에 적재된 캡슐 오픈 타이머 수")
+                .register(meterRegistry);
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "capsule-open-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 새 캡슐 등록 (생성 트랜잭션 커밋 후)
+     * 아직 적재하지 않은 구간이면 다음 적재 때 DB 에서 읽음
+     */
+    public void scheduleAfterCommit(Long capsuleId, LocalDateTime openAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(capsuleId, openAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(capsuleId, openAt);
+            }
+        });
+    }
+
+    private void schedule(Long capsuleId, LocalDateTime openAt) {
+        if (openAt.isAfter(scheduledUntil)) {
+            return;
+        }
+        if (!wheel.add(capsuleId, dueSecond(openAt))) {
+            log.warn("[CAPSULE TIMER] 타이밍 휠이 가득 차 주기적인 확인으로 처리. capsuleId={}", capsuleId);
+        }
+    }
+
+    /**
+     * 적재 구간 확장: (이전 적재 시각, 지금 + horizon] 에 오픈 예정인 캡슐을 휠에 추가
+     * 휠 용량을 넘는 캡슐은 적재하지 않음 (다음 적재 또는 주기적인 확인에서 처리)
+     */
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${capsule.open.wheel.preload-interval-ms:60000}"
+    )
+    public void preload() {
+        LocalDateTime from = scheduledUntil;
+        LocalDateTime until = LocalDateTime.now().plusSeconds(horizonSeconds);
+        if (!until.isAfter(from)) {
+            return;
+        }
+
+        int capacity = wheel.remainingCapacity();
+        if (capacity <= 0) {
+            log.warn("[CAPSULE TIMER] 타이밍 휠이 가득 차 적재를 건너뜀. timers={}", wheel.size());
+            return;
+        }
+
+        // 적재 도중 생성된 캡슐도 schedule() 에서 휠에 추가되도록 목표 시각을 먼저 공개 (중복 추가는 선점 시 걸러짐)
+        scheduledUntil = until;
+
+        List<CapsuleOpenSchedule> schedules;
+        try {
+            schedules = timeCapsuleRepository.findOpenSchedules(from, until, PageRequest.of(0, capacity));
+        } catch (Exception e) {
+            scheduledUntil = from;
+            log.error("[CAPSULE TIMER] 캡슐 오픈 일정 적재 실패", e);
+            return;
+        }
+
+        for (CapsuleOpenSchedule schedule : schedules) {
+            wheel.add(schedule.id(), dueSecond(schedule.openAt()));
+        }
+
+        // 용량만큼만 읽었으면 마지막으로 읽은 시각까지만 적재한 것으로 처리
+        if (schedules.size() >= capacity) {
+            scheduledUntil = schedules.get(schedules.size() - 1).openAt();
+        }
+
+        if (!schedules.isEmpty()) {
+            log.debug("[CAPSULE TIMER] 캡슐 오픈 일정 적재. count={}, until={}", schedules.size(), scheduledUntil);
+        }
+    }
+
+    private void tick() {
+        try {
+            long[] expired = wheel.advance(epochSecond(LocalDateTime.now()));
+            if (expired.length > 0) {
+                timeCapsuleOpenScheduler.openCapsules(Arrays.stream(expired).boxed().toList());
+            }
+        } catch (Exception e) {
+            // 예외가 나도 다음 tick 이 계속 실행되도록 처리
+            log.error("[CAPSULE TIMER] 타이밍 휠 처리 실패", e);
+        }
+    }
+
+    /**
+     * openAt 이후 첫 정각 초 (이 시각에는 open_at <= now 조건을 만족)
+     */
+    private long dueSecond(LocalDateTime openAt) {
+        long second = epochSecond(openAt);
+        return openAt.getNano() > 0 ? second + 1 : second;
+    }
+
+    private long epochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toEpochSecond();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * 초 단위 계층형 타이밍 휠 (id, 만료 시각(epoch second) 만 보관)
+ * - 0단계: 1초 × 60칸, 1단계: 1분 × 60칸, 2단계: 1시간 × 24칸 (최대 약 24시간 뒤까지)
+ * - 상위 단계 칸의 시작 시각이 되면 그 칸의 항목을 하위 단계로 내려보내고(cascade), 0단계 칸이 되면 만료
+ * - 항목은 칸마다 long 배열에 (id, 만료 시각) 쌍으로 저장 (항목당 16바이트, 객체 생성 없음)
+ * - 최대 항목 수를 넘으면 추가를 거부 (메모리 상한)
+ *
+ * 스레드 안전 (모든 연산을 이 객체로 동기화)
+ */
+public class HierarchicalTimingWheel {
+
+    private static final long[] TICK_SECONDS = {1, 60, 3600};
+    private static final int[] SLOT_COUNTS = {60, 60, 24};
+
+    /** 빈 칸을 비울 때 이보다 큰 배열은 버리고 새로 할당 (한 번 몰린 칸이 메모리를 계속 잡고 있지 않도록) */
+    private static final int RETAINED_BUCKET_CAPACITY = 64;
+
+    private final Bucket[][] levels;
+    private final int maxTimers;
+
+    private long currentSecond;
+    private int size;
+
+    public HierarchicalTimingWheel(long startSecond, int maxTimers) {
+        this.currentSecond = startSecond;
+        this.maxTimers = maxTimers;
+        this.levels = new Bucket[TICK_SECONDS.length][];
+        for (int level = 0; level < levels.length; level++) {
+            levels[level] = new Bucket[SLOT_COUNTS[level]];
+            for (int slot = 0; slot < SLOT_COUNTS[level]; slot++) {
+                levels[level][slot] = new Bucket();
+            }
+        }
+    }
+
+    /**
+     * 타이머 추가
+     * 이미 지난 시각이면 다음 advance() 에서 바로 만료됨
+     *
+     * @return 휠이 가득 찼거나 휠 범위를 벗어나면 false
+     */
+    public synchronized boolean add(long id, long dueSecond) {
+        if (size >= maxTimers) {
+            return false;
+        }
+        if (!place(id, Math.max(dueSecond, currentSecond + 1))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * toSecond 까지 시간을 진행하고 만료된 id 를 반환
+     */
+    public synchronized long[] advance(long toSecond) {
+        Bucket expired = new Bucket();
+
+        while (currentSecond < toSecond) {
+            currentSecond++;
+
+            // 상위 단계부터 칸 경계가 된 칸을 하위 단계로 내려보냄
+            for (int level = levels.length - 1; level > 0; level--) {
+                if (currentSecond % TICK_SECONDS[level] != 0) {
+                    continue;
+                }
+                Bucket bucket = levels[level][slotOf(level, currentSecond)];
+                for (int i = 0; i < bucket.size; i++) {
+                    long id = bucket.entries[i * 2];
+                    long due = bucket.entries[i * 2 + 1];
+                    if (due <= currentSecond) {
+                        expired.add(id, due);
+                    } else {
+                        place(id, due);
+                    }
+                }
+                bucket.clear();
+            }
+
+            Bucket bucket = levels[0][slotOf(0, currentSecond)];
+            for (int i = 0; i < bucket.size; i++) {
+                expired.add(bucket.entries[i * 2], bucket.entries[i * 2 + 1]);
+            }
+            bucket.clear();
+        }
+
+        size -= expired.size;
+        long[] ids = new long[expired.size];
+        for (int i = 0; i < expired.size; i++) {
+            ids[i] = expired.entries[i * 2];
+        }
+        return ids;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int remainingCapacity() {
+        return maxTimers - size;
+    }
+
+    public synchronized long currentSecond() {
+        return currentSecond;
+    }
+
+    /**
+     * 휠이 담을 수 있는 가장 먼 시각 (현재 기준)
+     */
+    public synchronized long horizonSecond() {
+        int top = levels.length - 1;
+        return currentSecond - currentSecond % TICK_SECONDS[top] + TICK_SECONDS[top] * SLOT_COUNTS[top] - 1;
+    }
+
+    /**
+     * 만료 시각이 들어가는 가장 낮은 단계의 칸에 저장 (dueSecond > currentSecond)
+     */
+    private boolean place(long id, long dueSecond) {
+        for (int level = 0; level < levels.length; level++) {
+            long levelStart = currentSecond - currentSecond % TICK_SECONDS[level];
+            if (dueSecond < levelStart + TICK_SECONDS[level] * SLOT_COUNTS[level]) {
+                levels[level][slotOf(level, dueSecond)].add(id, dueSecond);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int slotOf(int level, long second) {
+        return (int) ((second / TICK_SECONDS[level]) % SLOT_COUNTS[level]);
+    }
+
+    /**
+     * (id, 만료 시각) 쌍을 담는 가변 long 배열
+     */
+    private static class Bucket {
+
+        private long[] entries = new long[0];
+        private int size;
+
+        void add(long id, long due) {
+            if ((size + 1) * 2 > entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(8, entries.length * 2));
+            }
+            entries[size * 2] = id;
+            entries[size * 2 + 1] = due;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+            if (entries.length > RETAINED_BUCKET_CAPACITY) {
+                entries = new long[0];
+            }
+        }
+    }
+}
@@ -1,92 +1,170 @@
 package com.project.deartime.app.capsule.scheduler;
 
+import com.project.deartime.app.capsule.repository.ClaimedCapsule;
 import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
-import com.project.deartime.app.domain.TimeCapsule;
+import com.project.deartime.app.counter.service.UserCounterService;
+import com.project.deartime.app.domain.NotificationOutbox;
+import com.project.deartime.app.notification.domain.NotificationType;
 import com.project.deartime.app.notification.service.NotificationService;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 타임캡슐 오픈 시간 도래 시 알림을 발송하는 스케줄러
+ * - 정시 발송은 CapsuleOpenTimer(타이밍 휠)가 담당하고, 이 스케줄러는 놓친 캡슐(재시작, 휠 용량 초과 등)을 처리
+ * - 오픈 시간이 지난 캡슐을 chunk 단위로 선점 (UPDATE ... FOR UPDATE SKIP LOCKED ... RETURNING, 발신자 닉네임 조인)
+ * - chunk 마다 알림 대기열 일괄 기록 + 카운터 반영을 한 트랜잭션으로 처리
+ * - 작업자 스레드 여러 개 / 여러 인스턴스가 동시에 실행되어도 같은 캡슐을 중복 처리하지 않음
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TimeCapsuleOpenScheduler {
 
     private final TimeCapsuleRepository timeCapsuleRepository;
     private final NotificationService notificationService;
+    private final UserCounterService userCounterService;
     private final TransactionTemplate transactionTemplate;
 
+    private final int chunkSize;
+    private final int workers;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicInteger runningWorkers = new AtomicInteger();
+
+    public TimeCapsuleOpenScheduler(
+            TimeCapsuleRepository timeCapsuleRepository,
+            NotificationService notificationService,
+            UserCounterService userCounterService,
+            TransactionTemplate transactionTemplate,
+            @Value("${capsule.open.chunk-size:500}") int chunkSize,
+            @Value("${capsule.open.workers:2}") int workers
+    ) {
+        this.timeCapsuleRepository = timeCapsuleRepository;
+        this.notificationService = notificationService;
+        this.userCounterService = userCounterService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.workers = Math.max(1, workers);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(this.workers);
+        this.executor.setMaxPoolSize(this.workers);
+        this.executor.setQueueCapacity(0);
+        this.executor.setThreadNamePrefix("capsule-open-");
+        this.executor.initialize();
+    }
+
     /**
-     * 매 분마다 실행하여 오픈 시간이 된 캡슐을 확인하고 알림 발송
+     * 주기적으로 오픈 시간이 지난 캡슐을 확인하고 알림 발송 (기본: 매 분 0초)
+     * 이전 실행의 작업자가 아직 처리 중이면 남은 작업자 수만큼만 추가로 실행
      * cron: 초 분 시 일 월 요일
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초에 실행
+    @Scheduled(cron = "${capsule.open.sweep-cron:0 * * * * *}")
     public void checkAndNotifyOpenedCapsules() {
-        LocalDateTime now = LocalDateTime.now();
-
-        List<TimeCapsule> capsulesReadyToOpen = timeCapsuleRepository.findCapsulesReadyToOpen(now);
+        for (int i = 0; i < workers; i++) {
+            if (runningWorkers.incrementAndGet() > workers) {
+                runningWorkers.decrementAndGet();
+                return;
+            }
 
-        if (capsulesReadyToOpen.isEmpty()) {
-            return;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                runningWorkers.decrementAndGet();
+                return;
+            }
         }
+    }
 
-        log.info("[SCHEDULER] 오픈 대기 중인 캡슐 {} 개 발견", capsulesReadyToOpen.size());
-
-        for (TimeCapsule capsule : capsulesReadyToOpen) {
-            processIndividualCapsule(capsule.getId());
+    /**
+     * 선점할 캡슐이 없을 때까지 chunk 단위로 처리
+     */
+    private void drain() {
+        try {
+            int total = 0;
+            int processed;
+            do {
+                processed = processChunk(now -> timeCapsuleRepository.claimDueCapsules(now, chunkSize));
+                total += processed;
+            } while (processed >= chunkSize);
+
+            if (total > 0) {
+                log.info("[SCHEDULER] 캡슐 오픈 알림 처리 완료. count={}", total);
+            }
+        } catch (Exception e) {
+            log.error("[SCHEDULER] 캡슐 오픈 알림 처리 실패", e);
+        } finally {
+            runningWorkers.decrementAndGet();
         }
     }
 
     /**
-     * 개별 캡슐 알림 처리 - 각 캡슐별로 독립적인 트랜잭션으로 처리
-     * Atomic Update를 통해 동시성 문제(Race Condition) 해결
+     * 타이밍 휠에서 만료된 캡슐 알림 발송 (호출한 스레드에서 chunk 단위로 처리)
      */
-    private void processIndividualCapsule(Long capsuleId) {
-        transactionTemplate.executeWithoutResult(status -> {
+    public void openCapsules(List<Long> capsuleIds) {
+        for (int from = 0; from < capsuleIds.size(); from += chunkSize) {
+            List<Long> chunk = capsuleIds.subList(from, Math.min(from + chunkSize, capsuleIds.size()));
             try {
-                // Atomic Update: isNotified가 false인 경우에만 true로 업데이트
-                // 동시에 여러 스케줄러가 실행되더라도 하나만 성공
-                int updatedCount = timeCapsuleRepository.updateIsNotifiedToTrue(capsuleId);
-
-                if (updatedCount == 0) {
-                    // 이미 다른 스케줄러/프로세스에서 처리됨
-                    log.debug("[SCHEDULER] 캡슐 이미 처리됨. capsuleId={}", capsuleId);
-                    return;
-                }
-
-                // 업데이트 성공 시에만 알림 발송
-                TimeCapsule capsule = timeCapsuleRepository.findById(capsuleId)
-                        .orElse(null);
-
-                if (capsule == null) {
-                    log.warn("[SCHEDULER] 캡슐을 찾을 수 없음. capsuleId={}", capsuleId);
-                    return;
-                }
-
-                // 수신자에게 캡슐 오픈 알림 발송
-                notificationService.notifyCapsuleOpened(
-                        capsule.getReceiver(),
-                        capsule.getId(),
-                        capsule.getSender().getNickname(),
-                        capsule.getTitle()
-                );
-
-
-                log.info("[SCHEDULER] 캡슐 오픈 알림 발송 완료. capsuleId={}, receiverId={}",
-                        capsule.getId(), capsule.getReceiver().getId());
+                int processed = processChunk(now -> timeCapsuleRepository.claimCapsulesByIds(chunk, now));
+                log.debug("[SCHEDULER] 캡슐 오픈 알림 처리. requested={}, processed={}", chunk.size(), processed);
             } catch (Exception e) {
-                log.error("[SCHEDULER] 캡슐 오픈 알림 발송 실패. capsuleId={}", capsuleId, e);
-                status.setRollbackOnly();
+                // 선점이 롤백되었으므로 주기적인 확인에서 다시 처리됨
+                log.error("[SCHEDULER] 캡슐 오픈 알림 처리 실패. count={}", chunk.size(), e);
             }
+        }
+    }
+
+    /**
+     * chunk 1회: 선점 → 알림 대기열 일괄 기록 → 카운터 반영 (실패하면 선점도 함께 롤백)
+     *
+     * @return 처리한 캡슐 수
+     */
+    private int processChunk(Function<LocalDateTime, List<ClaimedCapsule>> claimer) {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<ClaimedCapsule> capsules = claimer.apply(LocalDateTime.now());
+            if (capsules.isEmpty()) {
+                return 0;
+            }
+
+            // 수신자에게 캡슐 오픈 알림 발송
+            List<NotificationOutbox> notifications = capsules.stream()
+                    .map(capsule -> notificationService.buildOutbox(
+                            capsule.getReceiverId(),
+                            NotificationType.CAPSULE_OPENED,
+                            capsule.getSenderNickname(),
+                            capsule.getTitle(),
+                            capsule.getId()
+                    ))
+                    .toList();
+            notificationService.enqueueNotifications(notifications);
+
+            // 아직 열리지 않은 캡슐만 열어보지 않은 캡슐 수에 포함
+            Map<Long, Long> openableByReceiver = capsules.stream()
+                    .filter(capsule -> !Boolean.TRUE.equals(capsule.getOpened()))
+                    .collect(Collectors.groupingBy(ClaimedCapsule::getReceiverId, Collectors.counting()));
+            openableByReceiver.forEach((receiverId, count) ->
+                    userCounterService.capsulesOpenable(receiverId, count.intValue()));
+
+            return capsules.size();
         });
+
+        return processed != null ? processed : 0;
     }
-}
 
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,26 +1,38 @@
 package com.project.deartime.app.capsule.service;
 
+import com.project.deartime.app.auth.Service.UserProfileCache;
+import com.project.deartime.app.auth.dto.UserProfile;
+import com.project.deartime.app.capsule.dto.CapsuleCursor;
 import com.project.deartime.app.capsule.dto.CapsuleResponse;
+import com.project.deartime.app.capsule.dto.CapsuleScrollResponse;
 import com.project.deartime.app.capsule.dto.CapsuleType;
 import com.project.deartime.app.capsule.dto.CreateCapsuleRequest;
+import com.project.deartime.app.capsule.repository.CapsuleListRepository;
+import com.project.deartime.app.capsule.repository.CapsuleListRow;
 import com.project.deartime.app.capsule.repository.TimeCapsuleRepository;
+import com.project.deartime.app.capsule.scheduler.CapsuleOpenTimer;
 import com.project.deartime.app.domain.TimeCapsule;
 import com.project.deartime.app.domain.User;
 import com.project.deartime.app.friend.repository.FriendRepository;
 import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.counter.service.UserCounterService;
 import com.project.deartime.app.notification.service.NotificationService;
-import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.search.service.SearchService;
+import com.project.deartime.app.service.StorageService;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -29,12 +41,18 @@ import java.time.LocalDateTime;
 public class TimeCapsuleService {
 
     private final TimeCapsuleRepository timeCapsuleRepository;
+    private final CapsuleListRepository capsuleListRepository;
     private final FriendRepository friendRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final StorageService storageService;
     private final NotificationService notificationService;
+    private final SearchService searchService;
+    private final UserCounterService userCounterService;
+    private final CapsuleOpenTimer capsuleOpenTimer;
+    private final UserProfileCache userProfileCache;
 
     private static final String CAPSULE_FOLDER = "capsules";
+    private static final int MAX_PAGE_SIZE = 50;
 
     /**
      * 타임캡슐 생성
@@ -45,7 +63,10 @@ public class TimeCapsuleService {
      * @return 생성된 캡슐 응답
      */
     @Transactional
-    public CapsuleResponse createCapsule(Long senderId, CreateCapsuleRequest request, MultipartFile imageFile, User senderUser) {
+    public CapsuleResponse createCapsule(Long senderId, CreateCapsuleRequest request, MultipartFile imageFile) {
+        // 존재 확인 / 닉네임은 프로필 캐시에서, 연관관계는 id 로 참조만 연결 (User 조회 쿼리 없음)
+        UserProfile sender = userProfileCache.get(senderId);
+
         // 나 자신에게 보내기(Self-send)는 허용
         // 친구 관계 확인은 보낸 사람과 받는 사람이 다를 때만 실행
         if (!senderId.equals(request.getReceiverId())) {
@@ -61,13 +82,13 @@ public class TimeCapsuleService {
         }
 
         // 받는 사람 조회
-        User receiver = userRepository.findById(request.getReceiverId())
-                .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
+        UserProfile receiver = userProfileCache.get(request.getReceiverId());
+        User receiverRef = userRepository.getReferenceById(receiver.id());
 
         // 이미지 업로드 (선택)
         String imageUrl = null;
         if (imageFile != null && !imageFile.isEmpty()) {
-            imageUrl = s3Service.uploadFile(imageFile, CAPSULE_FOLDER);
+            imageUrl = storageService.uploadFile(imageFile, CAPSULE_FOLDER);
         }
 
         try {
@@ -78,19 +99,21 @@ public class TimeCapsuleService {
                     .theme(request.getTheme())
                     .imageUrl(imageUrl)
                     .openAt(request.getOpenAt())
-                    .sender(senderUser)
-                    .receiver(receiver)
+                    .sender(userRepository.getReferenceById(sender.id()))
+                    .receiver(receiverRef)
                     .isNotified(false)
                     .build();
 
             TimeCapsule savedCapsule = timeCapsuleRepository.save(capsule);
+            searchService.indexCapsule(savedCapsule);
+            capsuleOpenTimer.scheduleAfterCommit(savedCapsule.getId(), savedCapsule.getOpenAt());
 
             // 수신자에게 알림 발송 (캡슐 제목 포함)
             try {
                 notificationService.notifyCapsuleReceived(
-                        receiver,
+                        receiverRef,
                         savedCapsule.getId(),
-                        senderUser.getNickname(),
+                        sender.nickname(),
                         savedCapsule.getTitle()
                 );
             } catch (Exception e) {
@@ -99,13 +122,13 @@ public class TimeCapsuleService {
 
             log.info("[CAPSULE] 타임캡슐 생성. capsuleId={}, senderId={}", savedCapsule.getId(), senderId);
 
-            return CapsuleResponse.from(savedCapsule, true);
+            return CapsuleResponse.from(savedCapsule, sender, receiver, true);
         } catch (Exception e) {
             // DB 저장 실패 시 S3에 업로드된 이미지 삭제 시도
             // 주의: S3 삭제도 실패할 경우 orphan 파일이 남을 수 있음 (별도 정리 작업 필요)
             if (imageUrl != null) {
                 try {
-                    s3Service.deleteFile(imageUrl);
+                    storageService.deleteFile(imageUrl);
                     log.info("[CAPSULE] S3 이미지 롤백 완료. imageUrl={}", imageUrl);
                 } catch (Exception s3Exception) {
                     // S3 삭제 실패 시 경고 레벨로 로깅 (orphan 파일 발생)
@@ -118,6 +141,7 @@ public class TimeCapsuleService {
 
     /**
      * 캡슐 목록 조회 (필터링)
+     * 보낸 사람 / 받는 사람 정보까지 한 번에 조회 (목록 1번 + 개수 1번), 정렬은 생성 시각 역순 고정
      *
      * @param userId 조회 사용자 ID
      * @param type 캡슐 타입
@@ -126,30 +150,45 @@ public class TimeCapsuleService {
      */
     @Transactional(readOnly = true)
     public Page<CapsuleResponse> getCapsulesByType(Long userId, CapsuleType type, Pageable pageable) {
-        Page<TimeCapsule> capsules;
+        CapsuleType capsuleType = type == null ? CapsuleType.ALL : type;
+        LocalDateTime now = LocalDateTime.now();
 
-        if (type == null) {
-            type = CapsuleType.ALL;
-        }
+        List<CapsuleListRow> rows = capsuleListRepository.findPage(
+                userId, capsuleType, now, pageable.getOffset(), pageable.getPageSize());
+        long total = capsuleListRepository.count(userId, capsuleType, now);
+
+        List<CapsuleResponse> content = rows.stream()
+                .map(row -> CapsuleResponse.from(row, canAccessCapsule(userId, row, now)))
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 캡슐 목록 조회 (keyset, 개수 조회 없이 다음 페이지 커서만 반환)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(readOnly = true)
+    public CapsuleScrollResponse scrollCapsules(Long userId, CapsuleType type, String cursor, int size) {
+        CapsuleType capsuleType = type == null ? CapsuleType.ALL : type;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<CapsuleListRow> rows = capsuleListRepository.findAfter(
+                userId, capsuleType, CapsuleCursor.decode(cursor), now, pageSize + 1);
 
-        switch (type) {
-            case ALL:
-                capsules = timeCapsuleRepository.findAllCapsules(userId, pageable);
-                break;
-            case RECEIVED:
-                capsules = timeCapsuleRepository.findByReceiverId(userId, pageable);
-                break;
-            case SENT:
-                capsules = timeCapsuleRepository.findBySenderId(userId, pageable);
-                break;
-            case OPENED:
-                capsules = timeCapsuleRepository.findOpenedCapsules(userId, pageable);
-                break;
-            default:
-                throw new CoreApiException(ErrorCode.INVALID_CAPSULE_TYPE);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
         }
 
-        return capsules.map(capsule -> CapsuleResponse.from(capsule, canAccessCapsule(userId, capsule)));
+        String nextCursor = hasNext ? CapsuleCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        return new CapsuleScrollResponse(
+                rows.stream().map(row -> CapsuleResponse.from(row, canAccessCapsule(userId, row, now))).toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     /**
@@ -182,9 +221,22 @@ public class TimeCapsuleService {
         // 4. 읽음 처리: canAccess가 true이고 isOpened가 false인 경우 개봉 처리
         if (canAccess && !capsule.getIsOpened()) {
             capsule.openCapsule();
+
+            // 오픈 알림을 보낸(카운터에 포함된) 캡슐만 열어보지 않은 캡슐 수에서 제외
+            if (capsule.getIsNotified()) {
+                userCounterService.capsuleOpened(capsule.getReceiver().getId());
+            }
         }
 
-        return CapsuleResponse.from(capsule, canAccess);
+        Map<Long, UserProfile> profiles = userProfileCache.getAll(
+                List.of(capsule.getSender().getId(), capsule.getReceiver().getId()));
+
+        return CapsuleResponse.from(
+                capsule,
+                profiles.get(capsule.getSender().getId()),
+                profiles.get(capsule.getReceiver().getId()),
+                canAccess
+        );
     }
 
     /**
@@ -206,6 +258,16 @@ public class TimeCapsuleService {
         return false;
     }
 
+    /**
+     * 목록 조회 결과 기준 접근 가능 여부 (canAccessCapsule 과 같은 규칙)
+     */
+    private boolean canAccessCapsule(Long userId, CapsuleListRow row, LocalDateTime now) {
+        if (row.senderId().equals(userId)) {
+            return true;
+        }
+        return row.receiverId().equals(userId) && !now.isBefore(row.openAt());
+    }
+
     /**
      * 사용자가 캡슐과 관련이 있는지 확인 (보낸 사람 또는 받는 사람)
      */
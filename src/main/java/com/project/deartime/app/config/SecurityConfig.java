@@ -7,6 +7,7 @@ import com.project.deartime.app.auth.filter.JwtAuthenticationFilter;
 import com.project.deartime.global.dto.ApiResponseTemplete;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,6 +30,10 @@ public class SecurityConfig {
     private final GoogleOAuth2SuccessHandler googleOAuth2SuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // Actuator 전용 관리 포트 (서비스 포트로는 Actuator 가 노출되지 않음)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -38,18 +43,24 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 관리 포트의 Actuator (Health Check / 메트릭), 관리 포트는 내부망에서만 접근
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        // 관리 포트를 쓰지 않는 설정에서도 메트릭은 서비스 포트로 노출하지 않음
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").denyAll()
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/api/auth/google",
+                                "/api/auth/refresh",  // 리프레시 토큰으로 인증
                                 "/api/users/signup",
                                 "/login/oauth2/code/**",
                                 "/oauth2/**",
                                 "/ws-stomp/**",  // WebSocket 엔드포인트
-                                "/actuator/health",  // Health Check 엔드포인트,
+                                "/actuator/health",  // Health Check 엔드포인트 (서비스 포트에도 제공, management.endpoint.health.group.service)
                                 "/favicon.ico",
                                 "/error",
                                 "/login/**",
-                                "/api/users/check-nickname"
+                                "/api/users/check-nickname",
+                                "/files/**"  // 로컬 저장소 파일 (storage.type=local)
                         ).permitAll()
                         .requestMatchers("/api/auth/logout").authenticated()
                         // 회원가입은 임시 토큰으로 접근
@@ -0,0 +1,37 @@
+package com.project.deartime.app.counter.controller;
+
+import com.project.deartime.app.counter.dto.UserCountersResponse;
+import com.project.deartime.app.counter.service.UserCounterService;
+import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.exception.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/me")
+@RequiredArgsConstructor
+public class UserCounterController {
+
+    private final UserCounterService userCounterService;
+
+    /**
+     * 안 읽은 편지 / 알림, 열어보지 않은 타임캡슐 개수 조회 (GET /api/me/counters)
+     * 변경 시에는 /sub/notifications/{userId} 로 type=COUNTERS 메시지가 전송됨
+     */
+    @GetMapping("/counters")
+    public ResponseEntity<ApiResponseTemplete<UserCountersResponse>> getCounters(
+            @AuthenticationPrincipal String userId
+    ) {
+        Long userIdLong = Long.parseLong(userId);
+        UserCountersResponse response = userCounterService.getCounters(userIdLong);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.COUNTERS_SUCCESS,
+                response
+        );
+    }
+}
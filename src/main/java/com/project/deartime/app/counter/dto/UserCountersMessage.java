@@ -0,0 +1,16 @@
+package com.project.deartime.app.counter.dto;
+
+/**
+ * /sub/notifications/{userId} 로 보내는 카운터 변경 메시지
+ * 같은 채널의 알림 메시지(NotificationResponse)와 type 으로 구분
+ */
+public record UserCountersMessage(
+        String type,
+        UserCountersResponse counters
+) {
+    public static final String TYPE = "COUNTERS";
+
+    public static UserCountersMessage of(UserCountersResponse counters) {
+        return new UserCountersMessage(TYPE, counters);
+    }
+}
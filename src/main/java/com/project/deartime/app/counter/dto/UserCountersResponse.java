@@ -0,0 +1,8 @@
+package com.project.deartime.app.counter.dto;
+
+public record UserCountersResponse(
+        long unreadLetters,
+        long unreadNotifications,
+        long unopenedCapsules
+) {
+}
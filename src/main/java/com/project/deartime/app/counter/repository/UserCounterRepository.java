@@ -0,0 +1,93 @@
+package com.project.deartime.app.counter.repository;
+
+import com.project.deartime.app.counter.dto.UserCountersResponse;
+import com.project.deartime.app.domain.UserCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserCounterRepository extends JpaRepository<UserCounter, Long> {
+
+    // 영속성 컨텍스트를 거치지 않고 항상 DB 의 현재 값을 조회
+    @Query("SELECT new com.project.deartime.app.counter.dto.UserCountersResponse(" +
+            "c.unreadLetters, c.unreadNotifications, c.unopenedCapsules) " +
+            "FROM UserCounter c WHERE c.userId = :userId")
+    Optional<UserCountersResponse> findCounters(@Param("userId") Long userId);
+
+    // 실제 데이터를 세어 카운터 행을 만드는 INSERT (아래 ON CONFLICT 절과 붙여 사용)
+    String INSERT_COUNTED =
+            "INSERT INTO user_counters (user_id, unread_letters, unread_notifications, unopened_capsules) " +
+            "SELECT :userId, " +
+            "(SELECT COUNT(*) FROM letters l " +
+            " WHERE l.receiver_id = :userId AND l.is_read = FALSE AND l.is_deleted_by_receiver = FALSE), " +
+            "(SELECT COUNT(*) FROM notification n WHERE n.user_id = :userId AND n.is_read = FALSE), " +
+            "(SELECT COUNT(*) FROM time_capsule c " +
+            " WHERE c.receiver_id = :userId AND c.is_notified = TRUE AND c.is_opened = FALSE) ";
+
+    /**
+     * 실제 데이터를 세어 카운터 행 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = INSERT_COUNTED + "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    void initialize(@Param("userId") Long userId);
+
+    // 아래 증감 쿼리는 행이 있을 때만 반영하고 반영한 행 수를 반환
+    // 0 이면 UserCounterService 가 *OrInitialize 로 행을 만들면서 반영
+    @Modifying
+    @Query(value = "UPDATE user_counters SET unread_letters = GREATEST(unread_letters + :delta, 0) " +
+            "WHERE user_id = :userId",
+            nativeQuery = true)
+    int addUnreadLetters(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE user_counters SET unread_notifications = GREATEST(unread_notifications + :delta, 0) " +
+            "WHERE user_id = :userId",
+            nativeQuery = true)
+    int addUnreadNotifications(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE user_counters SET unread_notifications = 0 WHERE user_id = :userId",
+            nativeQuery = true)
+    int resetUnreadNotifications(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE user_counters SET unopened_capsules = GREATEST(unopened_capsules + :delta, 0) " +
+            "WHERE user_id = :userId",
+            nativeQuery = true)
+    int addUnopenedCapsules(@Param("userId") Long userId, @Param("delta") int delta);
+
+    /*
+     * 행이 없을 때의 증감 (upsert)
+     * - 새로 만들 때는 실제 데이터를 셈: 같은 트랜잭션의 변경(방금 저장한 편지 등)이 이미 보이므로 delta 를 더하지 않음
+     * - 다른 트랜잭션이 먼저 행을 만들었으면 그 값에 delta 를 더함
+     *   (먼저 만든 쪽은 아직 커밋되지 않은 이 변경을 세지 못했으므로 증감이 사라지지 않음)
+     */
+
+    @Modifying
+    @Query(value = INSERT_COUNTED + "ON CONFLICT (user_id) DO UPDATE SET " +
+            "unread_letters = GREATEST(user_counters.unread_letters + :delta, 0)",
+            nativeQuery = true)
+    void addUnreadLettersOrInitialize(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = INSERT_COUNTED + "ON CONFLICT (user_id) DO UPDATE SET " +
+            "unread_notifications = GREATEST(user_counters.unread_notifications + :delta, 0)",
+            nativeQuery = true)
+    void addUnreadNotificationsOrInitialize(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = INSERT_COUNTED + "ON CONFLICT (user_id) DO UPDATE SET unread_notifications = 0",
+            nativeQuery = true)
+    void resetUnreadNotificationsOrInitialize(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = INSERT_COUNTED + "ON CONFLICT (user_id) DO UPDATE SET " +
+            "unopened_capsules = GREATEST(user_counters.unopened_capsules + :delta, 0)",
+            nativeQuery = true)
+    void addUnopenedCapsulesOrInitialize(@Param("userId") Long userId, @Param("delta") int delta);
+}
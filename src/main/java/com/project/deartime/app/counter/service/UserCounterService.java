@@ -0,0 +1,169 @@
+package com.project.deartime.app.counter.service;
+
+import com.project.deartime.app.counter.dto.UserCountersMessage;
+import com.project.deartime.app.counter.dto.UserCountersResponse;
+import com.project.deartime.app.counter.repository.UserCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 사용자별 안 읽은 편지 / 알림 / 열어보지 않은 타임캡슐 카운터
+ * - 각 변경과 같은 트랜잭션에서 증감하고, 커밋 후 /sub/notifications/{userId} 로 최신 값을 전송
+ * - 한 트랜잭션에서 같은 사용자의 카운터가 여러 번 바뀌어도 전송은 한 번
+ * - 행이 없으면 증감하면서 실제 데이터를 세어 만듦 (행이 생기기 전의 증감도 사라지지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserCounterService {
+
+    private static final String NOTIFICATION_DESTINATION = "/sub/notifications/";
+
+    private final UserCounterRepository userCounterRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 카운터 조회 (행이 없으면 실제 데이터를 세어 생성)
+     */
+    @Transactional
+    public UserCountersResponse getCounters(Long userId) {
+        return userCounterRepository.findCounters(userId)
+                .orElseGet(() -> {
+                    userCounterRepository.initialize(userId);
+                    return userCounterRepository.findCounters(userId)
+                            .orElse(new UserCountersResponse(0, 0, 0));
+                });
+    }
+
+    // ========== 편지 ==========
+
+    @Transactional
+    public void letterReceived(Long receiverId) {
+        addUnreadLetters(receiverId, 1);
+        pushAfterCommit(receiverId);
+    }
+
+    /**
+     * 받은 편지를 읽었거나, 읽지 않은 채로 삭제
+     */
+    @Transactional
+    public void letterRead(Long receiverId) {
+        addUnreadLetters(receiverId, -1);
+        pushAfterCommit(receiverId);
+    }
+
+    // ========== 알림 ==========
+
+    /**
+     * 알림 대기열에서 count 개의 알림이 발송됨
+     */
+    @Transactional
+    public void notificationsCreated(Long userId, int count) {
+        addUnreadNotifications(userId, count);
+        pushAfterCommit(userId);
+    }
+
+    @Transactional
+    public void notificationRead(Long userId) {
+        addUnreadNotifications(userId, -1);
+        pushAfterCommit(userId);
+    }
+
+    @Transactional
+    public void notificationsCleared(Long userId) {
+        if (userCounterRepository.resetUnreadNotifications(userId) == 0) {
+            userCounterRepository.resetUnreadNotificationsOrInitialize(userId);
+        }
+        pushAfterCommit(userId);
+    }
+
+    // ========== 타임캡슐 ==========
+
+    /**
+     * 받은 캡슐 count 개의 오픈 시간이 되어 오픈 알림을 보냄
+     */
+    @Transactional
+    public void capsulesOpenable(Long receiverId, int count) {
+        addUnopenedCapsules(receiverId, count);
+        pushAfterCommit(receiverId);
+    }
+
+    /**
+     * 오픈 알림을 보낸 캡슐이 처음 열림
+     */
+    @Transactional
+    public void capsuleOpened(Long receiverId) {
+        addUnopenedCapsules(receiverId, -1);
+        pushAfterCommit(receiverId);
+    }
+
+    // 대부분은 행이 있으므로 UPDATE 만 실행하고, 행이 없을 때만 실제 데이터를 세는 upsert 실행
+
+    private void addUnreadLetters(Long userId, int delta) {
+        if (userCounterRepository.addUnreadLetters(userId, delta) == 0) {
+            userCounterRepository.addUnreadLettersOrInitialize(userId, delta);
+        }
+    }
+
+    private void addUnreadNotifications(Long userId, int delta) {
+        if (userCounterRepository.addUnreadNotifications(userId, delta) == 0) {
+            userCounterRepository.addUnreadNotificationsOrInitialize(userId, delta);
+        }
+    }
+
+    private void addUnopenedCapsules(Long userId, int delta) {
+        if (userCounterRepository.addUnopenedCapsules(userId, delta) == 0) {
+            userCounterRepository.addUnopenedCapsulesOrInitialize(userId, delta);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 카운터 전송 (롤백되면 전송하지 않음)
+     */
+    private void pushAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            push(userId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pendingUserIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pendingUserIds == null) {
+            Set<Long> userIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, userIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIds.forEach(UserCounterService.this::push);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(UserCounterService.this);
+                }
+            });
+            pendingUserIds = userIds;
+        }
+        pendingUserIds.add(userId);
+    }
+
+    private void push(Long userId) {
+        try {
+            userCounterRepository.findCounters(userId).ifPresent(counters ->
+                    messagingTemplate.convertAndSend(
+                            NOTIFICATION_DESTINATION + userId,
+                            UserCountersMessage.of(counters)
+                    ));
+        } catch (Exception e) {
+            log.error("[WEBSOCKET] 카운터 전송 실패. userId={}", userId, e);
+        }
+    }
+}
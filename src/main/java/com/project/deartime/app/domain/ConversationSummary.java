@@ -0,0 +1,59 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대화 요약 (우체통 목록용)
+ * 사용자(owner)별 상대방(counterpart) 1명당 1행: 마지막 편지 미리보기, 마지막 활동 시각, 안 읽은 편지 수
+ * - 편지 전송 / 읽음 / 삭제 시 ConversationSummaryRepository 의 native 쿼리로 갱신
+ * - owner 기준으로 보이는 편지(삭제하지 않은 편지)만 반영
+ */
+@Entity
+@Table(
+        name = "conversation_summaries",
+        indexes = @Index(
+                name = "idx_conversation_summaries_owner_activity",
+                columnList = "owner_id, last_activity_at DESC, counterpart_id DESC"
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ConversationSummaryId.class)
+public class ConversationSummary {
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Id
+    @Column(name = "counterpart_id")
+    private Long counterpartId;
+
+    // 목록 조회 시 상대방 닉네임 / 프로필을 함께 읽기 위한 연관관계 (쓰기는 counterpartId 로만)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "counterpart_id", insertable = false, updatable = false)
+    private User counterpart;
+
+    @Column(name = "last_letter_id", nullable = false)
+    private Long lastLetterId;
+
+    @Column(name = "last_sender_id", nullable = false)
+    private Long lastSenderId;
+
+    @Column(name = "last_title", length = 100, nullable = false)
+    private String lastTitle;
+
+    @Column(name = "last_summary", length = 60)
+    private String lastSummary;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
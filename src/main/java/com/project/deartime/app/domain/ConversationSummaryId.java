@@ -0,0 +1,18 @@
+// ConversationSummaryId.java (복합 키)
+package com.project.deartime.app.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ConversationSummaryId implements Serializable {
+    private Long ownerId;
+    private Long counterpartId;
+}
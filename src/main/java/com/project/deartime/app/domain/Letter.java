@@ -7,13 +7,23 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "letters")
+@Table(
+        name = "letters",
+        indexes = {
+                // 두 사용자 사이의 편지 조회 / 대화 요약 재계산용
+                @Index(name = "idx_letters_sender_receiver", columnList = "sender_id, receiver_id"),
+                @Index(name = "idx_letters_receiver_sender", columnList = "receiver_id, sender_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @AllArgsConstructor
 public class Letter extends BaseTimeEntity {
 
+    /** 목록에 보여줄 본문 요약 길이 (문자 수) */
+    public static final int SUMMARY_LENGTH = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -39,6 +49,10 @@ public class Letter extends BaseTimeEntity {
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    // 목록 조회용 본문 요약 (목록에서 TEXT 본문을 읽지 않도록 저장 시 미리 계산)
+    @Column(name = "summary", length = 60)
+    private String summary;
+
     @Column(name = "is_read", nullable = false)
     @Builder.Default
     protected Boolean isRead = false;
@@ -79,5 +93,17 @@ public class Letter extends BaseTimeEntity {
         this.theme = theme;
         this.title = title;
         this.content = content;
+        this.summary = summarize(content);
+    }
+
+    /**
+     * 본문 앞 SUMMARY_LENGTH 글자 + "..." (짧으면 본문 그대로)
+     * 이모지 등 서로게이트 쌍이 잘리지 않도록 code point 기준으로 자름 (PostgreSQL left() 와 동일)
+     */
+    public static String summarize(String content) {
+        if (content == null || content.codePointCount(0, content.length()) < SUMMARY_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, SUMMARY_LENGTH)) + "...";
     }
 }
@@ -0,0 +1,43 @@
+package com.project.deartime.app.domain;
+
+import com.project.deartime.app.notification.domain.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 알림 발송 대기열 (outbox)
+ * 알림을 발생시킨 작업(편지 전송, 캡슐 생성, 친구 요청 등)과 같은 트랜잭션에서 기록되고,
+ * 커밋 후 NotificationOutboxDispatcher 가 Notification 행으로 옮기고 웹소켓으로 전송
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 알림을 받을 사용자 (발송 전까지 User 를 읽을 필요가 없으므로 id 만 저장)
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(name = "content", nullable = false, length = 255)
+    private String content;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "content_title", length = 100)
+    private String contentTitle;
+
+    @Column(name = "sender_nickname", length = 20)
+    private String senderNickname;
+}
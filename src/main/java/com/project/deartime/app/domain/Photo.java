@@ -7,7 +7,15 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "photos")
+@Table(
+        name = "photos",
+        indexes = {
+                @Index(name = "idx_photos_user_content_hash", columnList = "user_id, content_hash"),
+                // 사진 삭제 시 같은 원본 / 썸네일을 쓰는 다른 사진이 남았는지 확인 (공유 객체 참조 확인)
+                @Index(name = "idx_photos_image_url", columnList = "image_url"),
+                @Index(name = "idx_photos_thumbnail_small_url", columnList = "thumbnail_small_url")
+        }
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -32,6 +40,20 @@ public class Photo extends BaseTimeEntity {
     @Column(name = "taken_at")
     private LocalDateTime takenAt;
 
+    // 원본 파일 SHA-256 (hex), 중복 제거 도입 이전에 올라간 사진은 null
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 목록 화면용 썸네일 (가로 256 / 720 / 1440px), 비동기로 생성되기 전에는 null
+    @Column(name = "thumbnail_small_url", length = 255)
+    private String thumbnailSmallUrl;
+
+    @Column(name = "thumbnail_medium_url", length = 255)
+    private String thumbnailMediumUrl;
+
+    @Column(name = "thumbnail_large_url", length = 255)
+    private String thumbnailLargeUrl;
+
     // N:M 관계 (AlbumPhotos 중간 테이블을 통해 앨범 목록 관리)
     @OneToMany(mappedBy = "photo", cascade = CascadeType.ALL)
     private Set<AlbumPhoto> photoAlbums = new HashSet<>();
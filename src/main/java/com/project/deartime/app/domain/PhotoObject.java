@@ -0,0 +1,51 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 사진 원본 파일(S3 객체) 색인
+ * 같은 내용(SHA-256)의 사진은 하나의 S3 객체를 공유하고, 참조하는 Photo 수를 refCount 로 관리
+ */
+@Entity
+@Table(
+        name = "photo_objects",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_photo_objects_user_content_hash",
+                columnNames = {"user_id", "content_hash"}
+        )
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoObject extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 원본 파일 SHA-256 (hex)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "image_url", nullable = false, length = 255)
+    private String imageUrl;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    /**
+     * 참조 1개 해제
+     *
+     * @return 남은 참조 수
+     */
+    public int release() {
+        this.refCount = Math.max(0, this.refCount - 1);
+        return this.refCount;
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * presigned URL 로 S3 에 직접 올리는 사진 업로드 요청
+ * - 발급 시 생성되고, 업로드 완료(finalize) 시 삭제되어 한 번만 사용 가능
+ * - 만료될 때까지 완료되지 않은 요청은 정리 스케줄러가 업로드된 객체와 함께 삭제
+ */
+@Entity
+@Table(
+        name = "photo_upload_tickets",
+        indexes = @Index(name = "idx_photo_upload_tickets_expires_at", columnList = "expires_at")
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoUploadTicket extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "object_key", nullable = false, unique = true, length = 255)
+    private String objectKey;
+
+    @Column(name = "original_file_name", length = 255)
+    private String originalFileName;
+
+    // 완료 요청을 받을 수 있는 마감 시각 (presigned URL 만료 + 여유 시간)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,59 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 리프레시 토큰 이력 (토큰 원문은 저장하지 않고 jti 만 저장)
+ * - 재발급(rotation) 시 이전 토큰은 폐기(ROTATED)되고 같은 계열(family)의 새 토큰이 발급됨
+ * - 폐기된 토큰이 다시 사용되면 탈취로 보고 계열 전체를 폐기(REUSED)
+ * - 만료 시각이 지난 이력은 RefreshTokenCleanupScheduler 가 주기적으로 삭제
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+                // 만료 이력 삭제
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // JWT 의 jti (UUID)
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    // 로그인 한 번에서 이어지는 재발급 계열 (UUID)
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "revoke_reason", length = 20)
+    private RevokeReason revokeReason;
+
+    public enum RevokeReason {
+        ROTATED,  // 재발급으로 교체됨
+        REUSED,   // 폐기된 토큰 재사용 감지로 계열 전체 폐기
+        LOGOUT    // 로그아웃
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스토리지(S3) 객체 삭제 대기열 (outbox)
+ * 엔티티 삭제와 같은 트랜잭션에서 기록되고, StorageDeletionScheduler 가 배치로 실제 삭제를 수행
+ */
+@Entity
+@Table(
+        name = "storage_deletion_outbox",
+        indexes = @Index(name = "idx_storage_deletion_outbox_next_attempt_at", columnList = "next_attempt_at")
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageDeletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    // 이 시각 이후에 삭제를 (재)시도함, 처리 중에는 임대 만료 시각으로 사용
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -6,7 +6,16 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TimeCapsule")
+@Table(
+        name = "TimeCapsule",
+        indexes = {
+                // 오픈 알림 대상 선점용 (is_notified = false 이면서 open_at 이 지난 캡슐)
+                @Index(name = "idx_time_capsule_notified_open_at", columnList = "is_notified, open_at"),
+                // 보낸 / 받은 캡슐 목록 (생성 시각 역순 keyset)
+                @Index(name = "idx_time_capsule_sender_created_at", columnList = "sender_id, created_at, id"),
+                @Index(name = "idx_time_capsule_receiver_created_at", columnList = "receiver_id, created_at, id")
+        }
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -10,7 +10,13 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                // 닉네임 색인 동기화 (updated_at 이후 가입 / 수정된 사용자)
+                @Index(name = "idx_users_updated_at", columnList = "updated_at")
+        }
+)
 @Getter
 @Builder
 @AllArgsConstructor
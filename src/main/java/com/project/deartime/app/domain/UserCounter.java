@@ -0,0 +1,34 @@
+package com.project.deartime.app.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 안 읽은 항목 카운터
+ * - 편지 / 알림 / 타임캡슐 변경 트랜잭션 안에서 UserCounterRepository 의 native 쿼리로 증감
+ * - 행이 없으면 처음 조회할 때 실제 데이터를 세어 생성
+ */
+@Entity
+@Table(name = "user_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 받은 편지 중 읽지 않고 삭제하지 않은 편지 수
+    @Column(name = "unread_letters", nullable = false)
+    private long unreadLetters;
+
+    // 읽지 않은 알림 수
+    @Column(name = "unread_notifications", nullable = false)
+    private long unreadNotifications;
+
+    // 받은 타임캡슐 중 오픈 시간이 되었지만 아직 열어보지 않은 캡슐 수
+    @Column(name = "unopened_capsules", nullable = false)
+    private long unopenedCapsules;
+}
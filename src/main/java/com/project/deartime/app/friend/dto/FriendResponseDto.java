@@ -1,6 +1,7 @@
 package com.project.deartime.app.friend.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.deartime.app.auth.dto.UserProfile;
 import com.project.deartime.app.domain.Friend;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,6 +41,21 @@ public class FriendResponseDto {
                 .build();
     }
 
+    /**
+     * 상대방 정보는 프로필 캐시에서 조회한 값 사용 (User 프록시를 로딩하지 않음)
+     */
+    public static FriendResponseDto of(Friend friend, Long currentUserId, UserProfile friendProfile) {
+        return FriendResponseDto.builder()
+                .userId(currentUserId)
+                .friendId(friendProfile.id())
+                .friendNickname(friendProfile.nickname())
+                .friendProfileImageUrl(friendProfile.profileImageUrl())
+                .friendBio(friendProfile.bio())
+                .status(friend.getStatus())
+                .requestedAt(friend.getRequestedAt())
+                .build();
+    }
+
     public static FriendResponseDto from(Friend friend) {
         return of(friend, friend.getUser().getId());
     }
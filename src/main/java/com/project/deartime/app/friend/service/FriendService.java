@@ -1,5 +1,7 @@
 package com.project.deartime.app.friend.service;
 
+import com.project.deartime.app.auth.Service.UserProfileCache;
+import com.project.deartime.app.auth.dto.UserProfile;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.Friend;
 import com.project.deartime.app.domain.Proxy;
@@ -32,6 +34,7 @@ public class FriendService {
     private final FriendRepository friendRepository;
     private final ProxyRepository proxyRepository;
     private final NotificationService notificationService;
+    private final UserProfileCache userProfileCache;
 
     /**
      * 내 친구 목록 조회 (accepted 상태만)
@@ -106,12 +109,12 @@ public class FriendService {
             throw new CoreApiException(ErrorCode.FRIEND_SELF_REQUEST);
         }
 
-        // 2. 사용자 존재 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CoreApiException(ErrorCode.USER_NOT_FOUND));
+        // 2. 사용자 존재 확인 (프로필 캐시, 연관관계는 id 로 참조만 연결)
+        UserProfile user = userProfileCache.get(userId);
 
-        User friend = userRepository.findById(friendId)
+        UserProfile friendProfile = userProfileCache.find(friendId)
                 .orElseThrow(() -> new CoreApiException(ErrorCode.FRIEND_NOT_FOUND));
+        User friend = userRepository.getReferenceById(friendId);
 
         // 3. 이미 친구 관계가 있는지 확인 (양방향)
         List<Friend> existingFriendships = friendRepository.findFriendshipBetween(userId, friendId);
@@ -137,12 +140,12 @@ public class FriendService {
 
                     // 상대방에게 자동 수락 알림 발송
                     try {
-                        notificationService.notifyFriendAccept(friend, user.getId(), user.getNickname());
+                        notificationService.notifyFriendAccept(friend, user.id(), user.nickname());
                     } catch (Exception e) {
                         log.error("[FRIEND] 친구 자동 수락 알림 발송 실패. userId={}, friendId={}", userId, friendId, e);
                     }
 
-                    return FriendResponseDto.of(savedFriend, userId);
+                    return FriendResponseDto.of(savedFriend, userId, friendProfile);
                 }
 
                 // 내가 이미 요청을 보낸 경우
@@ -155,7 +158,7 @@ public class FriendService {
 
         // 4. 새로운 친구 요청 생성
         Friend newFriendRequest = Friend.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .friend(friend)
                 .status("pending")
                 .requestedAt(LocalDateTime.now())
@@ -165,12 +168,12 @@ public class FriendService {
 
         // 상대방에게 친구 요청 알림 발송
         try {
-            notificationService.notifyFriendRequest(friend, user.getId(), user.getNickname());
+            notificationService.notifyFriendRequest(friend, user.id(), user.nickname());
         } catch (Exception e) {
             log.error("[FRIEND] 친구 요청 알림 발송 실패. userId={}, friendId={}", userId, friendId, e);
         }
 
-        return FriendResponseDto.of(savedFriend, userId);
+        return FriendResponseDto.of(savedFriend, userId, friendProfile);
     }
 
     /**
@@ -1,41 +1,204 @@
 package com.project.deartime.app.gallery;
 
-import com.drew.imaging.ImageMetadataReader;
+import com.drew.lang.ByteArrayReader;
 import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifReader;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
+import lombok.extern.slf4j.Slf4j;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * 이미지 헤더에서 촬영 일시 / 회전 정보를 추출하는 유틸
+ * - 파일 전체를 메모리에 올리지 않고, 스트림 앞부분(JPEG APP1 / PNG eXIf, tEXt)만 읽음
+ * - 읽은 뒤에는 스트림을 처음 위치로 되돌리므로 같은 스트림을 그대로 S3 업로드에 넘길 수 있음
+ */
+@Slf4j
 public class ImageMetadataUtil {
 
-    public static LocalDateTime extractTakenAt(byte[] imageBytes, String fileName) {
-        // 1. 먼저 메타데이터 추출 시도
-        LocalDateTime takenAt = extractFromMetadata(imageBytes);
+    /** 헤더 탐색을 위해 mark 해두는 최대 바이트 수 (JPEG APP1 최대 64KB + 앞선 세그먼트 여유분) */
+    public static final int HEADER_READ_LIMIT = 256 * 1024;
+
+    private static final byte[] PNG_SIGNATURE = {
+            (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A
+    };
+    private static final byte[] EXIF_PREAMBLE = {'E', 'x', 'i', 'f', 0, 0};
+
+    private static final DateTimeFormatter EXIF_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+    private static final List<DateTimeFormatter> PNG_TEXT_DATE_FORMATS = List.of(
+            EXIF_DATE_FORMAT,
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME
+    );
+
+    /**
+     * 스트림 헤더에서 촬영 일시 추출, 없으면 파일명 분석
+     * 호출 후 스트림 위치는 처음으로 되돌려짐
+     */
+    public static LocalDateTime extractTakenAt(BufferedInputStream in, String fileName) throws IOException {
+        // 1. 먼저 헤더 메타데이터 추출 시도
+        LocalDateTime takenAt = readHeader(in).takenAt();
         if (takenAt != null) return takenAt;
 
         // 2. 메타데이터가 없으면 파일명 분석 (KakaoTalk_20250410_... 형식)
         return extractFromFileName(fileName);
     }
 
-    private static LocalDateTime extractFromMetadata(byte[] imageBytes) {
-        try (InputStream is = new ByteArrayInputStream(imageBytes)) {
-            Metadata metadata = ImageMetadataReader.readMetadata(is);
-            ExifSubIFDDirectory subIfd = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
-            if (subIfd != null) {
-                String dateStr = subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
-                if (dateStr != null) {
-                    return LocalDateTime.parse(dateStr, DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss"));
+    /**
+     * 스트림 헤더에서 EXIF Orientation 값 추출 (없으면 1 = 정방향)
+     * 호출 후 스트림 위치는 처음으로 되돌려짐
+     */
+    public static int extractOrientation(BufferedInputStream in) throws IOException {
+        return readHeader(in).orientation();
+    }
+
+    private static HeaderMetadata readHeader(BufferedInputStream in) throws IOException {
+        in.mark(HEADER_READ_LIMIT);
+        try {
+            HeaderReader reader = new HeaderReader(in, HEADER_READ_LIMIT);
+            int first = reader.readUnsignedByte();
+            int second = reader.readUnsignedByte();
+
+            if (first == 0xFF && second == 0xD8) {
+                return new HeaderMetadata(parseExif(readJpegExif(reader)), null);
+            }
+            if (first == (PNG_SIGNATURE[0] & 0xFF) && second == PNG_SIGNATURE[1]) {
+                byte[] rest = reader.readBytes(PNG_SIGNATURE.length - 2);
+                if (Arrays.equals(rest, 0, rest.length, PNG_SIGNATURE, 2, PNG_SIGNATURE.length)) {
+                    return readPngHeader(reader);
                 }
             }
-        } catch (Exception e) {
+            return HeaderMetadata.EMPTY;
+        } catch (IOException | RuntimeException e) {
+            // 헤더가 손상되었거나 탐색 한도를 넘은 경우
+            return HeaderMetadata.EMPTY;
+        } finally {
+            in.reset();
+        }
+    }
+
+    /**
+     * JPEG 세그먼트를 SOS 이전까지 순회하며 Exif APP1 세그먼트의 TIFF 데이터를 반환
+     */
+    private static byte[] readJpegExif(HeaderReader reader) throws IOException {
+        while (true) {
+            if (reader.readUnsignedByte() != 0xFF) {
+                return null;
+            }
+            int marker = reader.readUnsignedByte();
+            while (marker == 0xFF) {
+                marker = reader.readUnsignedByte();
+            }
+
+            // SOS(이미지 데이터 시작) / EOI 에 도달하면 더 이상 메타데이터 없음
+            if (marker == 0xDA || marker == 0xD9) {
+                return null;
+            }
+            // 길이 필드가 없는 마커 (TEM, RSTn)
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue;
+            }
+
+            int length = reader.readUnsignedShort();
+            if (length < 2) {
+                return null;
+            }
+
+            if (marker == 0xE1) {
+                byte[] payload = reader.readBytes(length - 2);
+                if (startsWith(payload, EXIF_PREAMBLE)) {
+                    return Arrays.copyOfRange(payload, EXIF_PREAMBLE.length, payload.length);
+                }
+            } else {
+                reader.skip(length - 2);
+            }
+        }
+    }
+
+    /**
+     * PNG 청크를 IDAT 이전까지 순회하며 eXIf 와 tEXt(Creation Time) 청크를 수집
+     */
+    private static HeaderMetadata readPngHeader(HeaderReader reader) throws IOException {
+        Metadata exif = null;
+        LocalDateTime textCreationTime = null;
+
+        while (true) {
+            int length = reader.readInt();
+            String type = new String(reader.readBytes(4), StandardCharsets.US_ASCII);
+
+            if (length < 0 || "IDAT".equals(type) || "IEND".equals(type)) {
+                return new HeaderMetadata(exif, textCreationTime);
+            }
+
+            if ("eXIf".equals(type)) {
+                byte[] payload = reader.readBytes(length);
+                byte[] tiff = startsWith(payload, EXIF_PREAMBLE)
+                        ? Arrays.copyOfRange(payload, EXIF_PREAMBLE.length, payload.length)
+                        : payload;
+                exif = parseExif(tiff);
+            } else if ("tEXt".equals(type)) {
+                LocalDateTime parsed = parsePngCreationTime(reader.readBytes(length));
+                if (parsed != null) {
+                    textCreationTime = parsed;
+                }
+            } else {
+                reader.skip(length);
+            }
+
+            reader.skip(4); // CRC
+        }
+    }
+
+    private static Metadata parseExif(byte[] tiff) {
+        if (tiff == null) {
+            return null;
+        }
+
+        Metadata metadata = new Metadata();
+        new ExifReader().extract(new ByteArrayReader(tiff), metadata);
+        return metadata;
+    }
+
+    private static LocalDateTime parsePngCreationTime(byte[] chunk) {
+        // tEXt 청크 형식: keyword \0 text (Latin-1)
+        int separator = 0;
+        while (separator < chunk.length && chunk[separator] != 0) {
+            separator++;
+        }
+        if (separator >= chunk.length) {
             return null;
         }
+
+        String keyword = new String(chunk, 0, separator, StandardCharsets.ISO_8859_1);
+        if (!"Creation Time".equals(keyword)) {
+            return null;
+        }
+
+        String value = new String(chunk, separator + 1, chunk.length - separator - 1, StandardCharsets.ISO_8859_1).trim();
+        for (DateTimeFormatter format : PNG_TEXT_DATE_FORMATS) {
+            try {
+                return LocalDateTime.parse(value, format);
+            } catch (Exception ignored) {
+                // 다음 형식 시도
+            }
+        }
         return null;
     }
 
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        return data.length >= prefix.length
+                && Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
     private static LocalDateTime extractFromFileName(String fileName) {
         if (fileName == null) return null;
 
@@ -49,8 +212,99 @@ public class ImageMetadataUtil {
                 return LocalDateTime.of(year, month, day, 0, 0);
             }
         } catch (Exception e) {
-            System.err.println("파일명에서 날짜 추출 실패: " + fileName);
+            log.debug("[PHOTO] 파일명에서 날짜 추출 실패. fileName={}", fileName);
         }
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 헤더에서 읽어낸 메타데이터
+     */
+    private record HeaderMetadata(Metadata exif, LocalDateTime textCreationTime) {
+
+        static final HeaderMetadata EMPTY = new HeaderMetadata(null, null);
+
+        LocalDateTime takenAt() {
+            if (exif != null) {
+                ExifSubIFDDirectory subIfd = exif.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
+                if (subIfd != null) {
+                    String dateStr = subIfd.getString(ExifSubIFDDirectory.TAG_DATETIME_ORIGINAL);
+                    if (dateStr != null) {
+                        try {
+                            return LocalDateTime.parse(dateStr.trim(), EXIF_DATE_FORMAT);
+                        } catch (DateTimeParseException e) {
+                            return textCreationTime;
+                        }
+                    }
+                }
+            }
+            return textCreationTime;
+        }
+
+        int orientation() {
+            if (exif != null) {
+                ExifIFD0Directory ifd0 = exif.getFirstDirectoryOfType(ExifIFD0Directory.class);
+                if (ifd0 != null && ifd0.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                    Integer orientation = ifd0.getInteger(ExifIFD0Directory.TAG_ORIENTATION);
+                    if (orientation != null) {
+                        return orientation;
+                    }
+                }
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * 읽을 수 있는 바이트 수를 제한한 빅엔디언 리더
+     * 한도를 넘으면 EOFException 을 던져 mark/reset 이 항상 가능하도록 보장
+     */
+    private static class HeaderReader {
+
+        private final InputStream in;
+        private int remaining;
+
+        HeaderReader(InputStream in, int limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        int readUnsignedByte() throws IOException {
+            consume(1);
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        int readUnsignedShort() throws IOException {
+            return (readUnsignedByte() << 8) | readUnsignedByte();
+        }
+
+        int readInt() throws IOException {
+            return (readUnsignedShort() << 16) | readUnsignedShort();
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            consume(length);
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException();
+            }
+            return bytes;
+        }
+
+        void skip(long length) throws IOException {
+            consume(length);
+            in.skipNBytes(length);
+        }
+
+        private void consume(long length) throws EOFException {
+            if (length < 0 || length > remaining) {
+                throw new EOFException("헤더 탐색 한도 초과");
+            }
+            remaining -= (int) length;
+        }
+    }
+}
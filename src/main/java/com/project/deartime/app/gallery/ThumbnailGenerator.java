@@ -0,0 +1,180 @@
+package com.project.deartime.app.gallery;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 원본 이미지로부터 고정 폭 썸네일(JPEG)을 생성하는 유틸
+ * - ImageIO 만 사용 (네이티브 라이브러리 없음)
+ * - EXIF Orientation 을 반영해 회전/반전된 결과를 만듦
+ * - 큰 원본은 디코딩 단계에서 서브샘플링하고, 이후 절반씩 줄여가며 축소 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+ */
+public class ThumbnailGenerator {
+
+    public static final int SMALL_WIDTH = 256;
+    public static final int MEDIUM_WIDTH = 720;
+    public static final int LARGE_WIDTH = 1440;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * 3가지 크기의 썸네일 생성
+     * 원본보다 큰 크기로 늘리지는 않음
+     */
+    public static Thumbnails generate(InputStream in, int orientation) throws IOException {
+        BufferedImage decoded = decode(in, orientation);
+
+        BufferedImage large = reduceTo(decoded, orientation, LARGE_WIDTH);
+        BufferedImage medium = reduceTo(large, 1, MEDIUM_WIDTH);
+        BufferedImage small = reduceTo(medium, 1, SMALL_WIDTH);
+
+        return new Thumbnails(encodeJpeg(small), encodeJpeg(medium), encodeJpeg(large));
+    }
+
+    private static BufferedImage decode(InputStream in, int orientation) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            if (imageInput == null) {
+                throw new UnsupportedImageException("이미지 스트림을 열 수 없습니다.");
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                throw new UnsupportedImageException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int displayWidth = swapsAxes(orientation) ? height : width;
+
+                // 가장 큰 썸네일의 2배 해상도는 남기고, 그 이상은 디코딩하면서 바로 건너뜀 (힙 사용량 감소)
+                int subsampling = Math.max(1, displayWidth / (LARGE_WIDTH * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 목표 폭의 2배가 될 때까지 절반씩 줄인 뒤, 마지막 단계에서 회전 보정과 함께 목표 폭으로 축소
+     */
+    private static BufferedImage reduceTo(BufferedImage source, int orientation, int maxWidth) {
+        BufferedImage current = source;
+        while (displayWidth(current, orientation) > maxWidth * 2) {
+            current = render(current, 1, current.getWidth() / 2);
+        }
+        return render(current, orientation, maxWidth);
+    }
+
+    private static BufferedImage render(BufferedImage source, int orientation, int maxWidth) {
+        boolean swap = swapsAxes(orientation);
+        int displayWidth = swap ? source.getHeight() : source.getWidth();
+        int displayHeight = swap ? source.getWidth() : source.getHeight();
+
+        double scale = Math.min(1.0, (double) maxWidth / displayWidth);
+        int targetWidth = Math.max(1, (int) Math.round(displayWidth * scale));
+        int targetHeight = Math.max(1, (int) Math.round(displayHeight * scale));
+
+        // 회전/반전을 먼저 적용한 뒤 축소
+        AffineTransform transform = AffineTransform.getScaleInstance(scale, scale);
+        transform.concatenate(orientationTransform(orientation, source.getWidth(), source.getHeight()));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            // PNG 투명 영역은 흰 배경으로 채움 (JPEG 는 알파 채널 없음)
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * EXIF Orientation(1~8) 값에 해당하는 좌표 변환
+     * (x, y) 원본 좌표를 정방향으로 보이는 좌표로 옮김
+     */
+    private static AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+    }
+
+    private static boolean swapsAxes(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    private static int displayWidth(BufferedImage image, int orientation) {
+        return swapsAxes(orientation) ? image.getHeight() : image.getWidth();
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 생성된 썸네일 (JPEG 바이트)
+     */
+    public record Thumbnails(byte[] small, byte[] medium, byte[] large) {
+    }
+
+    /**
+     * 원본 형식을 읽을 수 없음 (다시 시도해도 실패하는 오류)
+     */
+    public static class UnsupportedImageException extends IOException {
+
+        public UnsupportedImageException(String message) {
+            super(message);
+        }
+    }
+}
@@ -54,6 +54,46 @@ public class PhotoController {
         );
     }
 
+    /**
+     * 사진 직접 업로드 URL 발급
+     * POST /api/photos/uploads/presign
+     */
+    @PostMapping("/api/photos/uploads/presign")
+    public ResponseEntity<ApiResponseTemplete<List<PhotoPresignResponse>>> createPresignedUploads(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Valid PhotoPresignRequest request
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        List<PhotoPresignResponse> response =
+                photoService.createPresignedUploads(myId, request);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.PHOTO_UPLOAD_URL_ISSUED,
+                response
+        );
+    }
+
+    /**
+     * 사진 직접 업로드 완료
+     * POST /api/photos/uploads/complete
+     */
+    @PostMapping("/api/photos/uploads/complete")
+    public ResponseEntity<ApiResponseTemplete<List<PhotoUploadResponse>>> completePresignedUploads(
+            @AuthenticationPrincipal String userId,
+            @RequestBody @Valid PhotoUploadCompleteRequest request
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        List<PhotoUploadResponse> response =
+                photoService.completePresignedUploads(myId, request);
+
+        return ApiResponseTemplete.success(
+                SuccessCode.PHOTO_UPLOAD_SUCCESS,
+                response
+        );
+    }
+
     /**
      * 사진 목록 조회
      * GET /api/photos
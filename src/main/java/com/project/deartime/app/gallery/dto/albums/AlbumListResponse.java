@@ -1,6 +1,6 @@
 package com.project.deartime.app.gallery.dto.albums;
 
-import com.project.deartime.app.domain.Album;
+import com.project.deartime.app.gallery.repository.AlbumSummaryProjection;
 import java.time.LocalDateTime;
 
 public record AlbumListResponse(
@@ -8,17 +8,19 @@ public record AlbumListResponse(
         Long userId,
         String title,
         String coverImageUrl,
+        String coverThumbnailUrl,
         LocalDateTime updatedAt,
         int photoCount
 ) {
-    public static AlbumListResponse of(Album album, String coverImageUrl, int photoCount) {
+    public static AlbumListResponse from(AlbumSummaryProjection summary) {
         return new AlbumListResponse(
-                album.getId(),
-                album.getUser().getId(),
-                album.getTitle(),
-                coverImageUrl,
-                album.getUpdatedAt(),
-                photoCount
+                summary.getAlbumId(),
+                summary.getUserId(),
+                summary.getTitle(),
+                summary.getCoverImageUrl(),
+                summary.getCoverThumbnailUrl(),
+                summary.getUpdatedAt(),
+                summary.getPhotoCount() != null ? summary.getPhotoCount().intValue() : 0
         );
     }
 }
@@ -6,6 +6,10 @@ public record AlbumPhotoResponse(
         Long photoId,
         Long albumId
 ) {
+    public static AlbumPhotoResponse of(Long photoId, Long albumId) {
+        return new AlbumPhotoResponse(photoId, albumId);
+    }
+
     public static AlbumPhotoResponse fromEntity(AlbumPhoto albumPhoto) {
         return new AlbumPhotoResponse(
                 albumPhoto.getPhoto().getId(),
@@ -8,6 +8,9 @@ public record PhotoListResponse (
         Long photoId,
         Long userId,
         String imageUrl,
+        String thumbnailSmallUrl,
+        String thumbnailMediumUrl,
+        String thumbnailLargeUrl,
         String caption,
         LocalDateTime takenAt,
         boolean isFavorite
@@ -17,6 +20,9 @@ public record PhotoListResponse (
                 photo.getId(),
                 photo.getUser().getId(),
                 photo.getImageUrl(),
+                photo.getThumbnailSmallUrl(),
+                photo.getThumbnailMediumUrl(),
+                photo.getThumbnailLargeUrl(),
                 photo.getCaption() != null ? photo.getCaption() : "",
                 photo.getTakenAt(),
                 isFavorite
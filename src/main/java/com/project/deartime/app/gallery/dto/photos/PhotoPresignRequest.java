@@ -0,0 +1,29 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PhotoPresignRequest(
+        @NotEmpty(message = "업로드할 파일 정보가 최소 하나 필요합니다.")
+        @Size(max = 20, message = "한 번에 최대 20개의 파일까지 업로드할 수 있습니다.")
+        List<@Valid FileInfo> files
+) {
+    public record FileInfo(
+            @NotBlank(message = "파일명은 필수입니다.")
+            String fileName,
+
+            @NotBlank(message = "파일 형식은 필수입니다.")
+            String contentType,
+
+            @NotNull(message = "파일 크기는 필수입니다.")
+            @Positive(message = "파일 크기는 0보다 커야 합니다.")
+            Long size
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import com.project.deartime.app.service.PresignedUpload;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+public record PhotoPresignResponse(
+        String fileName,
+        String objectKey,
+        String uploadUrl,
+        Map<String, String> headers,
+        LocalDateTime expiresAt
+) {
+    public static PhotoPresignResponse of(String fileName, PresignedUpload upload) {
+        return new PhotoPresignResponse(
+                fileName,
+                upload.key(),
+                upload.uploadUrl(),
+                upload.headers(),
+                LocalDateTime.ofInstant(upload.expiresAt(), ZoneId.systemDefault())
+        );
+    }
+}
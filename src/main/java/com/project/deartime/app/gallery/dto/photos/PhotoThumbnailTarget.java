@@ -0,0 +1,13 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import com.project.deartime.app.domain.Photo;
+
+public record PhotoThumbnailTarget(
+        Long photoId,
+        Long userId,
+        String imageUrl
+) {
+    public static PhotoThumbnailTarget of(Photo photo, Long userId) {
+        return new PhotoThumbnailTarget(photo.getId(), userId, photo.getImageUrl());
+    }
+}
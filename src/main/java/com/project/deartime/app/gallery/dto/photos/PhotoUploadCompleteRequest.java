@@ -0,0 +1,15 @@
+package com.project.deartime.app.gallery.dto.photos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PhotoUploadCompleteRequest(
+        @NotEmpty(message = "업로드를 완료할 파일 key 가 최소 하나 필요합니다.")
+        @Size(max = 20, message = "한 번에 최대 20개의 파일까지 완료할 수 있습니다.")
+        List<String> objectKeys,
+        String caption,
+        Long albumId
+) {
+}
@@ -1,12 +1,42 @@
 package com.project.deartime.app.gallery.dto.photos;
 
+import com.project.deartime.app.domain.Photo;
+
 import java.time.LocalDateTime;
 
 public record PhotoUploadResponse(
         Long photoId,
+        String fileName,
         String imageUrl,
         String caption,
         LocalDateTime uploadedAt,
+        boolean success,
+        boolean duplicate,
         String message
 ) {
+    public static PhotoUploadResponse of(Photo photo, String fileName, boolean duplicate) {
+        return new PhotoUploadResponse(
+                photo.getId(),
+                fileName,
+                photo.getImageUrl(),
+                photo.getCaption(),
+                photo.getTakenAt(),
+                true,
+                duplicate,
+                duplicate ? "이미 업로드된 사진과 같은 파일입니다. 기존 파일을 공유하여 저장했습니다." : "사진 업로드 및 저장 성공"
+        );
+    }
+
+    public static PhotoUploadResponse failed(String fileName, String message) {
+        return new PhotoUploadResponse(
+                null,
+                fileName,
+                null,
+                null,
+                null,
+                false,
+                false,
+                message
+        );
+    }
 }
@@ -0,0 +1,62 @@
+package com.project.deartime.app.gallery.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * album_photos 대량 추가용 JDBC 저장소
+ * AlbumPhoto 는 복합키(IdClass) 엔티티라 save 마다 존재 여부 조회 + 단건 insert 가 발생하므로,
+ * 여러 사진을 한 번에 넣을 때는 배열 파라미터 하나로 INSERT ... SELECT unnest 를 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlbumPhotoBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // 요청 순서(ord)만큼 created_at 을 1마이크로초씩 늘려, 같은 요청으로 추가된 사진도 추가 순서가 유지되도록 함
+    private static final String INSERT_SQL =
+            "INSERT INTO album_photos (album_id, photo_id, created_at, updated_at) " +
+            "SELECT ?, p.photo_id, CAST(? AS timestamp) + p.ord * INTERVAL '1 microsecond', CAST(? AS timestamp) " +
+            "FROM unnest(?) WITH ORDINALITY AS p(photo_id, ord) " +
+            "ON CONFLICT DO NOTHING " +
+            "RETURNING photo_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 앨범에 사진들을 추가 (이미 있는 관계는 무시)
+     * JPA 감사(Auditing)를 거치지 않으므로 created_at / updated_at 을 직접 채움
+     *
+     * @return 실제로 추가된 사진 ID (요청 순서, 이미 있던 사진은 제외)
+     */
+    public List<Long> insertAll(Long albumId, List<Long> photoIds) {
+        if (photoIds.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Set<Long> inserted = new HashSet<>();
+        for (int from = 0; from < photoIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = photoIds.subList(from, Math.min(from + CHUNK_SIZE, photoIds.size()));
+            long offsetMicros = from;
+            inserted.addAll(jdbcTemplate.query(INSERT_SQL, ps -> {
+                ps.setLong(1, albumId);
+                ps.setTimestamp(2, Timestamp.valueOf(now.toLocalDateTime().plusNanos(offsetMicros * 1000)));
+                ps.setTimestamp(3, now);
+                ps.setArray(4, ps.getConnection().createArrayOf("bigint", chunk.toArray()));
+            }, (rs, rowNum) -> rs.getLong(1)));
+        }
+
+        return photoIds.stream()
+                .filter(inserted::contains)
+                .toList();
+    }
+}
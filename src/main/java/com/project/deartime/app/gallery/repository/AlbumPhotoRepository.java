@@ -10,8 +10,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface AlbumPhotoRepository extends JpaRepository<AlbumPhoto, AlbumPhotoId> {
@@ -19,8 +21,9 @@ public interface AlbumPhotoRepository extends JpaRepository<AlbumPhoto, AlbumPho
     @Query("SELECT ap.photo FROM AlbumPhoto ap WHERE ap.album.id = :albumId")
     Page<Photo> findPhotosByAlbumId(@Param("albumId") Long albumId, Pageable pageable);
 
-    // 특정 앨범에서 특정 사진이 존재하는지 확인
-    boolean existsByAlbumIdAndPhotoId(Long albumId, Long photoId);
+    // 주어진 사진 중 특정 앨범에 속한 사진 ID 조회 (페이지 단위 즐겨찾기 여부 확인용)
+    @Query("SELECT ap.photo.id FROM AlbumPhoto ap WHERE ap.album.id = :albumId AND ap.photo.id IN :photoIds")
+    Set<Long> findPhotoIdsInAlbum(@Param("albumId") Long albumId, @Param("photoIds") Collection<Long> photoIds);
 
     // 특정 사진 앨범 연결 엔티티 찾기
     Optional<AlbumPhoto> findByAlbumIdAndPhotoId(Long albumId, Long photoId);
@@ -28,11 +31,7 @@ public interface AlbumPhotoRepository extends JpaRepository<AlbumPhoto, AlbumPho
     // 특정 사진이 속한 모든 앨범 목록 조회
     List<AlbumPhoto> findByPhotoId(Long photoId);
 
-    List<AlbumPhoto> findByAlbumId(Long albumId);
-
     void deleteByAlbumId(Long albumId);
 
     void deleteByPhotoId(Long photoId);
-
-    Optional<AlbumPhoto> findFirstByAlbumIdOrderByCreatedAtAsc(Long albumId);
 }
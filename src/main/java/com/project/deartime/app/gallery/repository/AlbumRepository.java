@@ -22,8 +22,20 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
 
     List<Album> findAllByUserId(Long userId);
 
-    @Query("SELECT a FROM Album a WHERE a.user.id = :userId " +
-            "ORDER BY CASE WHEN a.title = '즐겨찾기' THEN 0 ELSE 1 END ASC, " +
-            "a.updatedAt DESC, a.id DESC")
-    List<Album> findAllByUserIdWithOrdering(@Param("userId") Long userId);
+    /**
+     * 앨범 목록 요약 조회 (즐겨찾기 앨범 먼저, 그 외에는 최근 수정 순)
+     * - 사진 수: album_photos 집계
+     * - 커버: 즐겨찾기 앨범은 가장 먼저 추가된 사진, 그 외에는 지정된 커버 사진
+     */
+    @Query(value = "SELECT a.id AS albumId, a.user_id AS userId, a.title AS title, a.updated_at AS updatedAt, " +
+            "cover.image_url AS coverImageUrl, cover.thumbnail_medium_url AS coverThumbnailUrl, " +
+            "(SELECT COUNT(*) FROM album_photos ap WHERE ap.album_id = a.id) AS photoCount " +
+            "FROM albums a " +
+            "LEFT JOIN photos cover ON cover.id = CASE WHEN a.title = '즐겨찾기' " +
+            "    THEN (SELECT fp.photo_id FROM album_photos fp WHERE fp.album_id = a.id ORDER BY fp.created_at ASC, fp.photo_id ASC LIMIT 1) " +
+            "    ELSE a.cover_photo_id END " +
+            "WHERE a.user_id = :userId " +
+            "ORDER BY CASE WHEN a.title = '즐겨찾기' THEN 0 ELSE 1 END ASC, a.updated_at DESC, a.id DESC",
+            nativeQuery = true)
+    List<AlbumSummaryProjection> findAlbumSummariesByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,23 @@
+package com.project.deartime.app.gallery.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨범 목록 화면용 요약 정보 (앨범 + 사진 수 + 커버 이미지)
+ */
+public interface AlbumSummaryProjection {
+
+    Long getAlbumId();
+
+    Long getUserId();
+
+    String getTitle();
+
+    String getCoverImageUrl();
+
+    String getCoverThumbnailUrl();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getPhotoCount();
+}
@@ -0,0 +1,47 @@
+package com.project.deartime.app.gallery.repository;
+
+import com.project.deartime.app.domain.PhotoObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PhotoObjectRepository extends JpaRepository<PhotoObject, Long> {
+
+    // 업로드 전 중복 확인용
+    @Query("SELECT o.imageUrl FROM PhotoObject o WHERE o.user.id = :userId AND o.contentHash = :contentHash")
+    Optional<String> findImageUrl(@Param("userId") Long userId, @Param("contentHash") String contentHash);
+
+    // 사진 삭제 시 참조 해제용 (동시 삭제 / 업로드와 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PhotoObject> findByUserIdAndContentHash(Long userId, String contentHash);
+
+    /**
+     * 기존 객체 참조 추가 (업로드를 생략한 중복 파일)
+     * 확인 이후 객체가 삭제되었다면 결과가 비어 있음
+     */
+    @Query(value = "UPDATE photo_objects SET ref_count = ref_count + 1, updated_at = now() " +
+            "WHERE user_id = :userId AND content_hash = :contentHash " +
+            "RETURNING image_url",
+            nativeQuery = true)
+    Optional<String> incrementRefCount(@Param("userId") Long userId, @Param("contentHash") String contentHash);
+
+    /**
+     * 새로 업로드한 객체 등록
+     * 같은 내용이 동시에 먼저 등록된 경우 참조만 추가하고 먼저 등록된 객체의 URL 을 반환
+     */
+    @Query(value = "INSERT INTO photo_objects (user_id, content_hash, image_url, ref_count, created_at, updated_at) " +
+            "VALUES (:userId, :contentHash, :imageUrl, 1, now(), now()) " +
+            "ON CONFLICT (user_id, content_hash) " +
+            "DO UPDATE SET ref_count = photo_objects.ref_count + 1, updated_at = now() " +
+            "RETURNING image_url",
+            nativeQuery = true)
+    String registerAndGetImageUrl(@Param("userId") Long userId,
+                                  @Param("contentHash") String contentHash,
+                                  @Param("imageUrl") String imageUrl);
+}
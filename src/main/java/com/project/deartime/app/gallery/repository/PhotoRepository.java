@@ -1,14 +1,41 @@
 package com.project.deartime.app.gallery.repository;
 
 import com.project.deartime.app.domain.Photo;
+import com.project.deartime.app.gallery.dto.photos.PhotoThumbnailTarget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
     Page<Photo> findByUserId(Long userId, Pageable pageable);
 
     Page<Photo> findAllByUserId(Long userId, Pageable pageable);
+
+    // 같은 내용의 사진 중 썸네일이 이미 만들어진 사진 (중복 업로드 시 썸네일 공유)
+    Optional<Photo> findFirstByUserIdAndContentHashAndThumbnailSmallUrlIsNotNull(Long userId, String contentHash);
+
+    // image_url / thumbnail_small_url 인덱스로 조회 (Photo 엔티티 @Table 인덱스)
+    boolean existsByImageUrlAndIdNot(String imageUrl, Long id);
+
+    boolean existsByThumbnailSmallUrlAndIdNot(String thumbnailSmallUrl, Long id);
+
+    @Modifying
+    @Query("update Photo p set p.thumbnailSmallUrl = :smallUrl, p.thumbnailMediumUrl = :mediumUrl, " +
+            "p.thumbnailLargeUrl = :largeUrl where p.id = :photoId")
+    int updateThumbnails(@Param("photoId") Long photoId,
+                         @Param("smallUrl") String smallUrl,
+                         @Param("mediumUrl") String mediumUrl,
+                         @Param("largeUrl") String largeUrl);
+
+    @Query("SELECT new com.project.deartime.app.gallery.dto.photos.PhotoThumbnailTarget(p.id, p.user.id, p.imageUrl) " +
+            "FROM Photo p WHERE p.thumbnailSmallUrl IS NULL AND p.id > :afterId ORDER BY p.id ASC")
+    List<PhotoThumbnailTarget> findThumbnailTargets(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.project.deartime.app.gallery.repository;
+
+import com.project.deartime.app.domain.PhotoUploadTicket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PhotoUploadTicketRepository extends JpaRepository<PhotoUploadTicket, Long> {
+
+    List<PhotoUploadTicket> findAllByUserIdAndObjectKeyIn(Long userId, Collection<String> objectKeys);
+
+    /**
+     * 업로드 요청 사용 처리 (삭제)
+     * 동시에 같은 요청을 완료하더라도 한 번만 1을 반환
+     *
+     * @return 1이면 사용 성공, 0이면 이미 완료되었거나 만료됨
+     */
+    @Modifying
+    @Query("DELETE FROM PhotoUploadTicket t " +
+            "WHERE t.user.id = :userId AND t.objectKey = :objectKey AND t.expiresAt > :now")
+    int consume(@Param("userId") Long userId,
+                @Param("objectKey") String objectKey,
+                @Param("now") LocalDateTime now);
+
+    @Query("SELECT t FROM PhotoUploadTicket t WHERE t.expiresAt <= :now ORDER BY t.id ASC")
+    List<PhotoUploadTicket> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+}
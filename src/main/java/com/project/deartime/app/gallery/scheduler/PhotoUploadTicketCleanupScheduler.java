@@ -0,0 +1,81 @@
+package com.project.deartime.app.gallery.scheduler;
+
+import com.project.deartime.app.domain.PhotoUploadTicket;
+import com.project.deartime.app.gallery.repository.PhotoUploadTicketRepository;
+import com.project.deartime.app.service.StorageService;
+import com.project.deartime.app.storage.service.StorageDeletionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 완료되지 않고 만료된 직접 업로드 요청 정리
+ * 클라이언트가 S3 에 올리기만 하고 완료 요청을 보내지 않은 객체를 삭제 대기열에 넘김
+ */
+@Slf4j
+@Component
+public class PhotoUploadTicketCleanupScheduler {
+
+    private final PhotoUploadTicketRepository photoUploadTicketRepository;
+    private final StorageDeletionService storageDeletionService;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PhotoUploadTicketCleanupScheduler(
+            PhotoUploadTicketRepository photoUploadTicketRepository,
+            StorageDeletionService storageDeletionService,
+            StorageService storageService,
+            TransactionTemplate transactionTemplate,
+            @Value("${gallery.direct-upload.cleanup-batch-size:500}") int batchSize
+    ) {
+        this.photoUploadTicketRepository = photoUploadTicketRepository;
+        this.storageDeletionService = storageDeletionService;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${gallery.direct-upload.cleanup-interval-ms:600000}")
+    public void cleanupExpiredTickets() {
+        int total = 0;
+        while (true) {
+            Integer cleaned = transactionTemplate.execute(status -> cleanupBatch(LocalDateTime.now()));
+            if (cleaned == null || cleaned == 0) {
+                break;
+            }
+            total += cleaned;
+            if (cleaned < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("[PHOTO UPLOAD] 만료된 직접 업로드 요청 정리 완료. count={}", total);
+        }
+    }
+
+    /**
+     * 요청 삭제와 객체 삭제 예약을 같은 트랜잭션에서 처리
+     * 완료 처리는 만료 전 요청만 사용하므로 사진으로 저장된 객체가 정리 대상이 되지 않음
+     */
+    private int cleanupBatch(LocalDateTime now) {
+        List<PhotoUploadTicket> expired =
+                photoUploadTicketRepository.findExpired(now, PageRequest.of(0, batchSize));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        photoUploadTicketRepository.deleteAllInBatch(expired);
+        storageDeletionService.enqueue(expired.stream()
+                .map(ticket -> storageService.getFileUrl(ticket.getObjectKey()))
+                .toList());
+        return expired.size();
+    }
+}
@@ -1,34 +1,56 @@
 package com.project.deartime.app.gallery.service;
 
+import com.project.deartime.app.auth.Service.UserProfileCache;
 import com.project.deartime.app.auth.repository.UserRepository;
 import com.project.deartime.app.domain.*;
 import com.project.deartime.app.gallery.ImageMetadataUtil;
 import com.project.deartime.app.gallery.dto.albums.*;
 import com.project.deartime.app.gallery.dto.photos.*;
+import com.project.deartime.app.gallery.repository.AlbumPhotoBulkRepository;
 import com.project.deartime.app.gallery.repository.AlbumPhotoRepository;
 import com.project.deartime.app.gallery.repository.AlbumRepository;
+import com.project.deartime.app.gallery.repository.PhotoObjectRepository;
+import com.project.deartime.app.gallery.repository.PhotoUploadTicketRepository;
 import com.project.deartime.app.gallery.repository.PhotoRepository;
 
-import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.service.PresignedUpload;
+import com.project.deartime.app.service.StorageObjectInfo;
+import com.project.deartime.app.service.StorageService;
+import com.project.deartime.app.storage.service.StorageDeletionService;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -39,12 +61,32 @@ public class PhotoService {
     private final PhotoRepository photoRepository;
     private final AlbumRepository albumRepository;
     private final AlbumPhotoRepository albumPhotoRepository;
+    private final AlbumPhotoBulkRepository albumPhotoBulkRepository;
+    private final PhotoObjectRepository photoObjectRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final UserProfileCache userProfileCache;
+    private final StorageService storageService;
+    private final PhotoUploadExecutor photoUploadExecutor;
+    private final PhotoThumbnailService photoThumbnailService;
+    private final StorageDeletionService storageDeletionService;
+    private final PhotoUploadTicketRepository photoUploadTicketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${gallery.direct-upload.url-expiry-seconds:900}")
+    private long directUploadUrlExpirySeconds;
+
+    @Value("${gallery.direct-upload.finalize-grace-seconds:3600}")
+    private long directUploadFinalizeGraceSeconds;
 
     /**
      * 사진 업로드
+     * - EXIF 파싱 + 해시 계산 + S3 업로드는 파일별로 가상 스레드에서 병렬 처리 (DB 커넥션 점유 없음)
+     * - DB 저장은 업로드가 끝난 파일들만 모아 하나의 짧은 트랜잭션으로 처리
+     * - 이미 올린 적 있는 같은 내용의 파일은 S3 업로드 없이 기존 객체를 공유 (응답의 duplicate)
+     * - 썸네일은 저장 커밋 이후 별도 워커 풀에서 비동기로 생성
+     * - 파일별 성공/실패 여부를 응답에 담아 반환
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<PhotoUploadResponse> uploadPhotos(
             Long userId,
             List<MultipartFile> files,
@@ -54,93 +96,409 @@ public class PhotoService {
             throw new IllegalArgumentException("업로드할 사진 파일이 없습니다.");
         }
 
-        User user = userRepository.findById(userId)
+        requireUser(userId);
+
+        Long targetAlbumId = resolveTargetAlbumId(userId, request.albumId());
+
+        List<MultipartFile> targets = files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+
+        String folder = "photos/" + userId;
+        List<UploadedFile> uploadedFiles =
+                photoUploadExecutor.invokeAll(targets, file -> uploadToStorage(userId, file, folder));
+
+        return storeUploadedFiles(userId, targetAlbumId, request.caption(), uploadedFiles);
+    }
+
+    /**
+     * presigned URL 발급 (S3 직접 업로드 1단계)
+     * 이미지 바이트가 앱 서버를 거치지 않도록 클라이언트가 발급받은 URL 로 S3 에 바로 PUT
+     */
+    @Transactional
+    public List<PhotoPresignResponse> createPresignedUploads(Long userId, PhotoPresignRequest request) {
+        requireUser(userId);
+        User user = userRepository.getReferenceById(userId);
+
+        String folder = "photos/" + userId;
+        Duration urlExpiry = Duration.ofSeconds(directUploadUrlExpirySeconds);
+        LocalDateTime ticketExpiresAt = LocalDateTime.now()
+                .plus(urlExpiry)
+                .plusSeconds(directUploadFinalizeGraceSeconds);
+
+        List<PhotoPresignResponse> responses = new ArrayList<>(request.files().size());
+        List<PhotoUploadTicket> tickets = new ArrayList<>(request.files().size());
+
+        for (PhotoPresignRequest.FileInfo file : request.files()) {
+            String objectKey = storageService.createFileName(file.fileName(), folder);
+            PresignedUpload upload = storageService.createPresignedUpload(
+                    objectKey, file.contentType(), file.size(), urlExpiry);
+
+            tickets.add(PhotoUploadTicket.builder()
+                    .user(user)
+                    .objectKey(objectKey)
+                    .originalFileName(file.fileName())
+                    .expiresAt(ticketExpiresAt)
+                    .build());
+            responses.add(PhotoPresignResponse.of(file.fileName(), upload));
+        }
+
+        photoUploadTicketRepository.saveAll(tickets);
+        return responses;
+    }
+
+    /**
+     * S3 직접 업로드 완료 처리 (2단계)
+     * - HEAD 로 실제 업로드된 크기 / 형식 검증
+     * - 파일 앞부분만 Range GET 으로 받아 촬영 일시 추출
+     * - 업로드 요청(ticket)은 사진 저장과 같은 트랜잭션에서 소모되어 한 번만 완료 가능
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PhotoUploadResponse> completePresignedUploads(Long userId, PhotoUploadCompleteRequest request) {
+        Long targetAlbumId = resolveTargetAlbumId(userId, request.albumId());
+
+        List<String> objectKeys = List.copyOf(new LinkedHashSet<>(request.objectKeys()));
+        Map<String, PhotoUploadTicket> ticketsByKey = photoUploadTicketRepository
+                .findAllByUserIdAndObjectKeyIn(userId, objectKeys)
+                .stream()
+                .collect(Collectors.toMap(PhotoUploadTicket::getObjectKey, Function.identity()));
+
+        List<UploadedFile> uploadedFiles = photoUploadExecutor.invokeAll(objectKeys, objectKey -> {
+            PhotoUploadTicket ticket = ticketsByKey.get(objectKey);
+            if (ticket == null) {
+                return UploadedFile.failure(objectKey, "업로드 요청을 찾을 수 없습니다.");
+            }
+            return inspectDirectUpload(ticket);
+        });
+
+        return storeUploadedFiles(userId, targetAlbumId, request.caption(), uploadedFiles);
+    }
+
+    /**
+     * 직접 업로드된 객체 검증 + 촬영 일시 추출 (업로드 워커 스레드에서 실행)
+     */
+    private UploadedFile inspectDirectUpload(PhotoUploadTicket ticket) {
+        String objectKey = ticket.getObjectKey();
+        String fileName = ticket.getOriginalFileName() != null ? ticket.getOriginalFileName() : objectKey;
+
+        try {
+            StorageObjectInfo objectInfo = storageService.getObjectInfo(objectKey);
+            if (objectInfo == null) {
+                return UploadedFile.failure(fileName, "업로드된 파일을 찾을 수 없습니다.");
+            }
+            storageService.validateImageMetadata(objectInfo.contentType(), objectInfo.size());
+
+            LocalDateTime takenAt;
+            long headerEnd = Math.min(objectInfo.size(), ImageMetadataUtil.HEADER_READ_LIMIT) - 1;
+            try (BufferedInputStream inputStream =
+                         new BufferedInputStream(storageService.openObjectRange(objectKey, 0, headerEnd))) {
+                takenAt = ImageMetadataUtil.extractTakenAt(inputStream, fileName);
+                // 남은 구간까지 읽어야 HTTP 커넥션을 끊지 않고 재사용
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+
+            if (takenAt == null) {
+                log.warn("사진 촬영 일시 메타데이터가 없습니다. 파일명: {}", fileName);
+                takenAt = LocalDateTime.now();
+            }
+
+            return UploadedFile.direct(fileName, storageService.getFileUrl(objectKey), takenAt, objectKey);
+        } catch (IOException e) {
+            log.error("파일 처리 중 오류 발생: {}", fileName, e);
+            return UploadedFile.failure(fileName, "파일을 읽는 중 오류가 발생했습니다.");
+        } catch (CoreApiException | IllegalArgumentException e) {
+            log.warn("[PHOTO UPLOAD] 직접 업로드 완료 실패. objectKey={}, reason={}", objectKey, e.getMessage());
+            return UploadedFile.failure(fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 존재 확인 (프로필 캐시 사용, User 조회 쿼리 없음)
+     */
+    private void requireUser(Long userId) {
+        if (userProfileCache.find(userId).isEmpty()) {
+            throw new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
+                    "사용자를 찾을 수 없습니다. userId=" + userId);
+        }
+    }
+
+    private Long resolveTargetAlbumId(Long userId, Long albumId) {
+        if (albumId == null) {
+            return null;
+        }
+
+        Album targetAlbum = albumRepository.findById(albumId)
                 .orElseThrow(() ->
-                        new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
-                                "사용자를 찾을 수 없습니다. userId=" + userId)
+                        new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
+                                "앨범을 찾을 수 없습니다. userId=" + albumId)
                 );
 
-        Album targetAlbum = null;
-        if (request.albumId() != null) {
-            targetAlbum = albumRepository.findById(request.albumId())
-                    .orElseThrow(() ->
-                            new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
-                                    "앨범을 찾을 수 없습니다. userId=" + request.albumId())
-                    );
+        if (!targetAlbum.getUser().getId().equals(userId)) {
+            throw new AccessDeniedException("앨범에 대한 접근 권한이 없습니다.");
+        }
+        return targetAlbum.getId();
+    }
+
+    /**
+     * 업로드 결과 저장 + 썸네일 생성 요청 + 파일별 응답 생성 (입력 순서 유지)
+     */
+    private List<PhotoUploadResponse> storeUploadedFiles(
+            Long userId,
+            Long albumId,
+            String caption,
+            List<UploadedFile> uploadedFiles
+    ) {
+        List<UploadedFile> succeeded = uploadedFiles.stream()
+                .filter(UploadedFile::isSuccess)
+                .toList();
+
+        List<StoredPhoto> storedPhotos = persistUploadedPhotos(userId, albumId, caption, succeeded);
+        photoThumbnailService.requestThumbnails(
+                userId,
+                storedPhotos.stream().map(StoredPhoto::photo).filter(Objects::nonNull).toList()
+        );
+
+        List<PhotoUploadResponse> responses = new ArrayList<>(uploadedFiles.size());
+        int storedIndex = 0;
+        for (UploadedFile uploadedFile : uploadedFiles) {
+            if (!uploadedFile.isSuccess()) {
+                responses.add(PhotoUploadResponse.failed(uploadedFile.fileName(), uploadedFile.errorMessage()));
+                continue;
+            }
 
-            if (!targetAlbum.getUser().getId().equals(userId)) {
-                throw new AccessDeniedException("앨범에 대한 접근 권한이 없습니다.");
+            StoredPhoto storedPhoto = storedPhotos.get(storedIndex++);
+            if (storedPhoto.photo() == null) {
+                responses.add(PhotoUploadResponse.failed(uploadedFile.fileName(), storedPhoto.errorMessage()));
+            } else {
+                responses.add(PhotoUploadResponse.of(
+                        storedPhoto.photo(), uploadedFile.fileName(), storedPhoto.duplicate()));
             }
         }
 
-        List<PhotoUploadResponse> responses = new ArrayList<>();
+        return responses;
+    }
 
-        for (MultipartFile file : files) {
-            if (file == null || file.isEmpty()) {
-                continue;
+    /**
+     * 파일 1건 처리: 촬영 일시 추출 + 내용 해시 계산 후, 새 내용일 때만 S3 업로드
+     * (트랜잭션 밖, 업로드 워커 스레드에서 실행)
+     * 같은 사용자가 같은 내용의 파일을 이미 올렸다면 S3 PUT 없이 기존 객체를 공유
+     */
+    private UploadedFile uploadToStorage(Long userId, MultipartFile file, String folder) {
+        String fileName = file.getOriginalFilename();
+
+        try {
+            storageService.validateImageFile(file);
+
+            // 업로드된 파일은 로컬(메모리 / 임시 파일)에 있으므로 먼저 한 번 읽어 헤더(촬영 일시)와 SHA-256 을 얻음
+            // 헤더는 mark/reset 으로 읽고, 되돌려 읽는 구간은 바깥 BufferedInputStream 버퍼에서 나오므로
+            // 각 바이트는 digest 를 한 번만 지남
+            MessageDigest digest = newSha256Digest();
+            LocalDateTime takenAt;
+            try (BufferedInputStream inputStream =
+                         new BufferedInputStream(new DigestInputStream(file.getInputStream(), digest))) {
+                takenAt = ImageMetadataUtil.extractTakenAt(inputStream, fileName);
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+
+            if (takenAt == null) {
+                log.warn("사진 촬영 일시 메타데이터가 없습니다. 파일명: {}", fileName);
+                takenAt = LocalDateTime.now();
             }
 
-            try{
-                byte[] fileBytes = file.getBytes();
-                LocalDateTime takenAt = ImageMetadataUtil.extractTakenAt(fileBytes, file.getOriginalFilename());
+            Optional<String> existingImageUrl = photoObjectRepository.findImageUrl(userId, contentHash);
+            if (existingImageUrl.isPresent()) {
+                log.info("[PHOTO UPLOAD] 중복 파일, 업로드 생략. userId={}, fileName={}", userId, fileName);
+                return UploadedFile.duplicate(fileName, existingImageUrl.get(), takenAt, contentHash);
+            }
 
-                if (takenAt == null) {
-                    log.warn("사진 촬영 일시 메타데이터가 없습니다. 파일명: {}", file.getOriginalFilename());
-                    takenAt = LocalDateTime.now();
+            // 동시에 같은 내용이 올라온 경우는 저장 시 ON CONFLICT 로 판별해, 진 쪽 객체를 삭제 예약
+            String imageUrl = storageService.uploadFile(file, folder);
+            return UploadedFile.success(fileName, imageUrl, takenAt, contentHash);
+        } catch (IOException e) {
+            log.error("파일 처리 중 오류 발생: {}", fileName, e);
+            return UploadedFile.failure(fileName, "파일을 읽는 중 오류가 발생했습니다.");
+        } catch (CoreApiException | IllegalArgumentException e) {
+            log.warn("[PHOTO UPLOAD] 파일 업로드 실패. fileName={}, reason={}", fileName, e.getMessage());
+            return UploadedFile.failure(fileName, e.getMessage());
+        }
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 업로드가 끝난 사진들을 하나의 트랜잭션으로 저장
+     * - 원본 객체 참조 수(photo_objects)를 함께 갱신
+     * - 저장에 실패하면 이번 요청에서 새로 올린 S3 객체를 정리한 뒤 예외를 다시 던짐
+     *
+     * @return uploadedFiles 와 같은 순서의 저장 결과
+     */
+    private List<StoredPhoto> persistUploadedPhotos(
+            Long userId,
+            Long albumId,
+            String caption,
+            List<UploadedFile> uploadedFiles
+    ) {
+        if (uploadedFiles.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                User user = userRepository.getReferenceById(userId);
+                LocalDateTime now = LocalDateTime.now();
+
+                List<StoredPhoto> results = new ArrayList<>(uploadedFiles.size());
+                List<Photo> photos = new ArrayList<>(uploadedFiles.size());
+                List<String> lostObjectUrls = new ArrayList<>();
+
+                for (UploadedFile uploadedFile : uploadedFiles) {
+                    if (uploadedFile.objectKey() != null
+                            && photoUploadTicketRepository.consume(userId, uploadedFile.objectKey(), now) == 0) {
+                        results.add(StoredPhoto.failed("이미 완료되었거나 만료된 업로드 요청입니다."));
+                        continue;
+                    }
+
+                    String imageUrl;
+                    if (uploadedFile.contentHash() == null) {
+                        // S3 에 직접 올린 파일 (서버가 내용을 받지 않으므로 중복 제거 대상 아님)
+                        imageUrl = uploadedFile.imageUrl();
+                    } else if (uploadedFile.duplicate()) {
+                        Optional<String> sharedImageUrl =
+                                photoObjectRepository.incrementRefCount(userId, uploadedFile.contentHash());
+                        if (sharedImageUrl.isEmpty()) {
+                            // 중복 확인 이후 기존 사진이 모두 삭제되어 공유할 객체가 사라진 경우
+                            results.add(StoredPhoto.failed("같은 사진이 방금 삭제되었습니다. 다시 업로드해 주세요."));
+                            continue;
+                        }
+                        imageUrl = sharedImageUrl.get();
+                    } else {
+                        imageUrl = photoObjectRepository.registerAndGetImageUrl(
+                                userId, uploadedFile.contentHash(), uploadedFile.imageUrl());
+                        if (!imageUrl.equals(uploadedFile.imageUrl())) {
+                            // 같은 내용이 동시에 먼저 등록됨 → 방금 올린 객체는 삭제하고 기존 객체 공유
+                            lostObjectUrls.add(uploadedFile.imageUrl());
+                        }
+                    }
+
+                    boolean duplicate = !imageUrl.equals(uploadedFile.imageUrl()) || uploadedFile.duplicate();
+                    Optional<Photo> thumbnailSource = duplicate
+                            ? photoRepository.findFirstByUserIdAndContentHashAndThumbnailSmallUrlIsNotNull(
+                                    userId, uploadedFile.contentHash())
+                            : Optional.empty();
+
+                    Photo photo = Photo.builder()
+                            .user(user)
+                            .imageUrl(imageUrl)
+                            .contentHash(uploadedFile.contentHash())
+                            .caption(caption)
+                            .takenAt(uploadedFile.takenAt())
+                            .thumbnailSmallUrl(thumbnailSource.map(Photo::getThumbnailSmallUrl).orElse(null))
+                            .thumbnailMediumUrl(thumbnailSource.map(Photo::getThumbnailMediumUrl).orElse(null))
+                            .thumbnailLargeUrl(thumbnailSource.map(Photo::getThumbnailLargeUrl).orElse(null))
+                            .build();
+                    photos.add(photo);
+                    results.add(StoredPhoto.stored(photo, duplicate));
                 }
-                String imageUrl =
-                        s3Service.uploadFile(file, "photos/" + user.getId());
 
-                Photo photo = Photo.builder()
-                        .user(user)
-                        .imageUrl(imageUrl)
-                        .caption(request.caption())
-                        .takenAt(takenAt)
-                        .build();
-
-                Photo savedPhoto = photoRepository.save(photo);
-
-                if (targetAlbum != null) {
-                    albumPhotoRepository.save(
-                            AlbumPhoto.builder()
-                                    .album(targetAlbum)
-                                    .photo(savedPhoto)
-                                    .build()
+                List<Photo> savedPhotos = photoRepository.saveAll(photos);
+
+                if (albumId != null && !savedPhotos.isEmpty()) {
+                    albumPhotoBulkRepository.insertAll(
+                            albumId,
+                            savedPhotos.stream().map(Photo::getId).toList()
                     );
-                    targetAlbum.renewTimestamp();
+                    albumRepository.getReferenceById(albumId).renewTimestamp();
                 }
 
-                responses.add(
-                        new PhotoUploadResponse(
-                                savedPhoto.getId(),
-                                savedPhoto.getImageUrl(),
-                                savedPhoto.getCaption(),
-                                savedPhoto.getTakenAt(),
-                                "사진 업로드 및 저장 성공"
-                        )
-                );
-            } catch (IOException e){
-                log.error("파일 처리 중 오류 발생: {}", file.getOriginalFilename(), e);
+                storageDeletionService.enqueue(lostObjectUrls);
+
+                return results;
+            });
+        } catch (RuntimeException e) {
+            log.error("[PHOTO UPLOAD] 사진 정보 저장 실패. userId={}, count={}", userId, uploadedFiles.size(), e);
+            for (UploadedFile uploadedFile : uploadedFiles) {
+                // 공유 중인 기존 객체, 직접 업로드한 객체(업로드 요청이 남아 있어 재시도 가능)는 지우지 않음
+                if (uploadedFile.duplicate() || uploadedFile.objectKey() != null) {
+                    continue;
+                }
+                try {
+                    storageService.deleteFile(uploadedFile.imageUrl());
+                } catch (Exception s3Exception) {
+                    log.warn("[PHOTO UPLOAD] S3 이미지 롤백 실패 - orphan 파일 발생 가능. imageUrl={}",
+                            uploadedFile.imageUrl(), s3Exception);
+                }
             }
+            throw e;
         }
+    }
 
-        return responses;
+    /**
+     * 파일별 업로드 결과
+     * - duplicate 가 true 이면 S3 업로드 없이 기존 객체(imageUrl)를 공유
+     * - objectKey 가 있으면 클라이언트가 presigned URL 로 직접 올린 객체
+     */
+    private record UploadedFile(
+            String fileName,
+            String imageUrl,
+            LocalDateTime takenAt,
+            String contentHash,
+            boolean duplicate,
+            String objectKey,
+            String errorMessage
+    ) {
+        static UploadedFile success(String fileName, String imageUrl, LocalDateTime takenAt, String contentHash) {
+            return new UploadedFile(fileName, imageUrl, takenAt, contentHash, false, null, null);
+        }
+
+        static UploadedFile duplicate(String fileName, String imageUrl, LocalDateTime takenAt, String contentHash) {
+            return new UploadedFile(fileName, imageUrl, takenAt, contentHash, true, null, null);
+        }
+
+        static UploadedFile direct(String fileName, String imageUrl, LocalDateTime takenAt, String objectKey) {
+            return new UploadedFile(fileName, imageUrl, takenAt, null, false, objectKey, null);
+        }
+
+        static UploadedFile failure(String fileName, String errorMessage) {
+            return new UploadedFile(fileName, null, null, null, false, null, errorMessage);
+        }
+
+        boolean isSuccess() {
+            return imageUrl != null;
+        }
+    }
+
+    /**
+     * 사진 1건의 DB 저장 결과
+     */
+    private record StoredPhoto(
+            Photo photo,
+            boolean duplicate,
+            String errorMessage
+    ) {
+        static StoredPhoto stored(Photo photo, boolean duplicate) {
+            return new StoredPhoto(photo, duplicate, null);
+        }
+
+        static StoredPhoto failed(String errorMessage) {
+            return new StoredPhoto(null, false, errorMessage);
+        }
     }
 
 
     /**
      * 사진 목록 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PageResponse<PhotoListResponse> getPhotos(Long userId, Pageable pageable) {
-        Album favoriteAlbum = getOrCreateFavoriteAlbum(userId);
-
-        Set<Long> favoritePhotoIds = albumPhotoRepository.findByAlbumId(favoriteAlbum.getId())
-                .stream()
-                .map(ap -> ap.getPhoto().getId())
-                .collect(Collectors.toSet());
-
         Page<Photo> photoPage = photoRepository.findAllByUserId(userId, pageable);
+        Set<Long> favoritePhotoIds = findFavoritePhotoIds(userId, photoPage);
 
         return PageResponse.from(
                 photoPage.map(photo -> PhotoListResponse.of(
@@ -178,19 +536,6 @@ public class PhotoService {
             throw new AccessDeniedException("사진 삭제 권한이 없습니다.");
         }
 
-        // S3 삭제 먼저 시도
-        try {
-            s3Service.deleteFile(photo.getImageUrl());
-        } catch (CoreApiException e) {
-            log.error(
-                    "[PHOTO DELETE] S3 삭제 실패. photoId={}, userId={}",
-                    photoId,
-                    userId,
-                    e
-            );
-            throw e;
-        }
-
         // 앨범 커버 해제
         albumRepository.clearCoverPhoto(photoId);
 
@@ -200,6 +545,20 @@ public class PhotoService {
         // Photo 삭제
         photoRepository.delete(photo);
 
+        // 원본 / 썸네일 파일은 같은 트랜잭션에서 삭제 대기열에 기록하고, 실제 S3 삭제는 비동기로 처리
+        // 같은 내용의 다른 사진이 공유 중인 파일은 남겨둠
+        List<String> fileUrlsToDelete = new ArrayList<>();
+        if (releaseOriginalObject(photo)) {
+            fileUrlsToDelete.add(photo.getImageUrl());
+        }
+        if (photo.getThumbnailSmallUrl() != null
+                && !photoRepository.existsByThumbnailSmallUrlAndIdNot(photo.getThumbnailSmallUrl(), photoId)) {
+            Stream.of(photo.getThumbnailSmallUrl(), photo.getThumbnailMediumUrl(), photo.getThumbnailLargeUrl())
+                    .filter(Objects::nonNull)
+                    .forEach(fileUrlsToDelete::add);
+        }
+        storageDeletionService.enqueue(fileUrlsToDelete);
+
         log.info(
                 "[PHOTO DELETE] 사진 삭제 완료. photoId={}, userId={}",
                 photoId,
@@ -207,6 +566,28 @@ public class PhotoService {
         );
     }
 
+    /**
+     * 원본 객체 참조 해제
+     *
+     * @return 더 이상 참조하는 사진이 없어 원본 파일을 삭제해야 하면 true
+     */
+    private boolean releaseOriginalObject(Photo photo) {
+        if (photo.getContentHash() == null) {
+            // 중복 제거 도입 이전에 올라간 사진
+            return true;
+        }
+
+        return photoObjectRepository.findByUserIdAndContentHash(photo.getUser().getId(), photo.getContentHash())
+                .map(photoObject -> {
+                    if (photoObject.release() > 0) {
+                        return false;
+                    }
+                    photoObjectRepository.delete(photoObject);
+                    return true;
+                })
+                .orElseGet(() -> !photoRepository.existsByImageUrlAndIdNot(photo.getImageUrl(), photo.getId()));
+    }
+
     /**
      * 앨범 생성
      */
@@ -250,30 +631,15 @@ public class PhotoService {
     /**
      * 앨범 목록 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AlbumListResponse> getAlbums(Long userId) {
-        List<Album> albums = albumRepository.findAllByUserIdWithOrdering(userId);
-
-        return albums.stream()
-                .map(album -> {
-                    int photoCount = album.getAlbumPhotos().size();
-                    String coverUrl = resolveCoverUrl(album);
-                    return AlbumListResponse.of(album, coverUrl, photoCount);
-                })
+        // 사진 수 / 커버 사진을 앨범별로 지연 로딩하지 않고 한 번의 집계 쿼리로 조회
+        return albumRepository.findAlbumSummariesByUserId(userId)
+                .stream()
+                .map(AlbumListResponse::from)
                 .toList();
     }
 
-    private String resolveCoverUrl(Album album) {
-        if ("즐겨찾기".equals(album.getTitle())) {
-            return albumPhotoRepository.findFirstByAlbumIdOrderByCreatedAtAsc(album.getId())
-                    .map(ap -> ap.getPhoto().getImageUrl())
-                    .orElse(null);
-        }
-        return (album.getCoverPhoto() != null)
-                ? album.getCoverPhoto().getImageUrl()
-                : null;
-    }
-
     /**
      * 앨범 이름 & 커버 수정
      */
@@ -334,32 +700,39 @@ public class PhotoService {
             throw new AccessDeniedException("사진 추가 권한이 없습니다.");
         }
 
-        List<AlbumPhotoResponse> responses = new ArrayList<>();
+        // 요청 순서는 유지하면서 중복 ID 제거
+        List<Long> photoIds = List.copyOf(new LinkedHashSet<>(request.photoIds()));
 
-        for (Long photoId : request.photoIds()) {
-            Photo photo = photoRepository.findById(photoId)
-                    .orElseThrow(() -> new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
-                            "사진을 찾을 수 없습니다. photoId=" + photoId));
+        // 사진 조회 / 소유권 확인을 한 번의 IN 조회로 처리
+        Map<Long, Photo> photosById = photoRepository.findAllById(photoIds)
+                .stream()
+                .collect(Collectors.toMap(Photo::getId, Function.identity()));
 
-            if (!photo.getUser().getId().equals(userId)) {
-                throw new AccessDeniedException("본인 사진만 추가할 수 있습니다.");
+        for (Long photoId : photoIds) {
+            Photo photo = photosById.get(photoId);
+            if (photo == null) {
+                throw new CoreApiException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "사진을 찾을 수 없습니다. photoId=" + photoId);
             }
 
-            if (!albumPhotoRepository.existsByAlbumIdAndPhotoId(albumId, photoId)) {
-                responses.add(
-                        AlbumPhotoResponse.fromEntity(
-                                albumPhotoRepository.save(
-                                        AlbumPhoto.builder()
-                                                .album(album)
-                                                .photo(photo)
-                                                .build()
-                                )
-                        )
-                );
+            if (!photo.getUser().getId().equals(userId)) {
+                throw new AccessDeniedException("본인 사진만 추가할 수 있습니다.");
             }
         }
+
+        // 이미 앨범에 있는 사진은 제외하고 배치 insert
+        Set<Long> existingPhotoIds = albumPhotoRepository.findPhotoIdsInAlbum(albumId, photoIds);
+        List<Long> newPhotoIds = photoIds.stream()
+                .filter(photoId -> !existingPhotoIds.contains(photoId))
+                .toList();
+
+        // 확인 이후 동시에 추가된 사진은 ON CONFLICT 로 건너뛰므로, 실제로 추가된 사진만 응답
+        List<Long> insertedPhotoIds = albumPhotoBulkRepository.insertAll(albumId, newPhotoIds);
+
         album.renewTimestamp();
-        return responses;
+        return insertedPhotoIds.stream()
+                .map(photoId -> AlbumPhotoResponse.of(photoId, albumId))
+                .toList();
     }
 
     /**
@@ -379,6 +752,24 @@ public class PhotoService {
                 });
     }
 
+    /**
+     * 현재 페이지의 사진 중 즐겨찾기된 사진 ID 조회
+     * 조회 경로이므로 즐겨찾기 앨범이 없으면 만들지 않고 빈 집합 반환
+     */
+    private Set<Long> findFavoritePhotoIds(Long userId, Page<Photo> photoPage) {
+        if (photoPage.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> pagePhotoIds = photoPage.getContent().stream()
+                .map(Photo::getId)
+                .toList();
+
+        return albumRepository.findFirstByTitleAndUserIdOrderByCreatedAtAsc("즐겨찾기", userId)
+                .map(favoriteAlbum -> albumPhotoRepository.findPhotoIdsInAlbum(favoriteAlbum.getId(), pagePhotoIds))
+                .orElseGet(Set::of);
+    }
+
     /**
      * 사진 즐겨찾기 설정/해제
      */
@@ -417,14 +808,8 @@ public class PhotoService {
             throw new AccessDeniedException("조회 권한이 없습니다.");
         }
 
-        Album favoriteAlbum = getOrCreateFavoriteAlbum(userId);
-
-        Set<Long> favoritePhotoIds = albumPhotoRepository.findByAlbumId(favoriteAlbum.getId())
-                .stream()
-                .map(ap -> ap.getPhoto().getId())
-                .collect(Collectors.toSet());
-
         Page<Photo> photoPage = albumPhotoRepository.findPhotosByAlbumId(albumId, pageable);
+        Set<Long> favoritePhotoIds = findFavoritePhotoIds(userId, photoPage);
 
         return PageResponse.from(
                 photoPage.map(photo -> PhotoListResponse.of(
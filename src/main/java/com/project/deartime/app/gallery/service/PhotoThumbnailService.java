@@ -0,0 +1,255 @@
+package com.project.deartime.app.gallery.service;
+
+import com.project.deartime.app.domain.Photo;
+import com.project.deartime.app.gallery.ImageMetadataUtil;
+import com.project.deartime.app.gallery.ThumbnailGenerator;
+import com.project.deartime.app.gallery.dto.photos.PhotoThumbnailTarget;
+import com.project.deartime.app.gallery.repository.PhotoRepository;
+import com.project.deartime.app.service.StorageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사진 썸네일 생성 서비스
+ * - 업로드 요청 스레드와 분리된 고정 크기 워커 풀에서 생성 (이미지 디코딩은 CPU / 메모리 사용이 큼)
+ * - 큐가 가득 차면 작업을 버리고, 주기적인 백필이 썸네일 없는 사진을 다시 찾아 처리
+ * - 실패한 사진은 간격을 늘려 가며 재시도 (S3 / 네트워크 오류는 일시적일 수 있음),
+ *   읽을 수 없는 형식이거나 재시도 횟수를 넘기면 재기동 전까지 제외
+ */
+@Slf4j
+@Service
+public class PhotoThumbnailService {
+
+    private final PhotoRepository photoRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int backfillBatchSize;
+
+    /** 대기 중이거나 처리 중인 사진 (중복 등록 방지) */
+    private final Set<Long> pendingPhotoIds = ConcurrentHashMap.newKeySet();
+
+    /** 첫 재시도 간격 (실패할 때마다 2배, 최대 MAX_RETRY_DELAY_MILLIS) */
+    private static final long BASE_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.HOURS.toMillis(12);
+    private static final int MAX_ATTEMPTS = 5;
+
+    /** 생성에 실패한 사진별 실패 횟수 / 다음 재시도 시각 */
+    private final Map<Long, Failure> failures = new ConcurrentHashMap<>();
+
+    public PhotoThumbnailService(
+            PhotoRepository photoRepository,
+            StorageService storageService,
+            TransactionTemplate transactionTemplate,
+            @Value("${gallery.thumbnail.worker-threads:2}") int workerThreads,
+            @Value("${gallery.thumbnail.queue-capacity:500}") int queueCapacity,
+            @Value("${gallery.thumbnail.backfill-batch-size:100}") int backfillBatchSize
+    ) {
+        this.photoRepository = photoRepository;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        this.backfillBatchSize = Math.max(1, backfillBatchSize);
+
+        int threads = Math.max(1, workerThreads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "photo-thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 새로 저장된 사진들의 썸네일 생성 요청 (커밋 이후 호출)
+     * 같은 내용의 사진에서 썸네일을 이미 공유받은 사진은 제외
+     */
+    public void requestThumbnails(Long userId, List<Photo> photos) {
+        for (Photo photo : photos) {
+            if (photo.getThumbnailSmallUrl() == null) {
+                submit(PhotoThumbnailTarget.of(photo, userId));
+            }
+        }
+    }
+
+    /**
+     * 썸네일이 없는 기존 사진을 id 순으로 훑어 워커 큐의 빈 자리만큼 등록
+     */
+    @Scheduled(
+            initialDelayString = "${gallery.thumbnail.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${gallery.thumbnail.backfill-interval-ms:600000}"
+    )
+    public void backfillMissingThumbnails() {
+        long afterId = 0L;
+        int submitted = 0;
+
+        while (executor.getQueue().remainingCapacity() > 0) {
+            List<PhotoThumbnailTarget> targets =
+                    photoRepository.findThumbnailTargets(afterId, PageRequest.of(0, backfillBatchSize));
+            if (targets.isEmpty()) {
+                break;
+            }
+
+            for (PhotoThumbnailTarget target : targets) {
+                afterId = target.photoId();
+                if (!isRetryDue(target.photoId()) || pendingPhotoIds.contains(target.photoId())) {
+                    continue;
+                }
+                if (!submit(target)) {
+                    log.info("[THUMBNAIL] 백필 중 작업 큐가 가득 참. 다음 주기에 이어서 처리. submitted={}", submitted);
+                    return;
+                }
+                submitted++;
+            }
+        }
+
+        if (submitted > 0) {
+            log.info("[THUMBNAIL] 백필 작업 등록 완료. submitted={}", submitted);
+        }
+    }
+
+    private boolean submit(PhotoThumbnailTarget target) {
+        Long photoId = target.photoId();
+        if (!pendingPhotoIds.add(photoId)) {
+            return true;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(target);
+                } finally {
+                    pendingPhotoIds.remove(photoId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingPhotoIds.remove(photoId);
+            log.warn("[THUMBNAIL] 작업 큐가 가득 차 생성을 미룸 (백필에서 재시도). photoId={}", photoId);
+            return false;
+        }
+    }
+
+    /**
+     * 사진 1건 처리: 원본 조회 → 회전 보정 + 축소 → S3 업로드 → DB 반영
+     */
+    private void generate(PhotoThumbnailTarget target) {
+        Long photoId = target.photoId();
+
+        ThumbnailGenerator.Thumbnails thumbnails;
+        try (BufferedInputStream in = new BufferedInputStream(storageService.openFileStream(target.imageUrl()))) {
+            int orientation = ImageMetadataUtil.extractOrientation(in);
+            thumbnails = ThumbnailGenerator.generate(in, orientation);
+        } catch (ThumbnailGenerator.UnsupportedImageException e) {
+            failures.put(photoId, Failure.permanent());
+            log.warn("[THUMBNAIL] 읽을 수 없는 이미지라 썸네일 생성 제외. photoId={}, imageUrl={}, reason={}",
+                    photoId, target.imageUrl(), e.getMessage());
+            return;
+        } catch (IOException | RuntimeException e) {
+            recordFailure(photoId);
+            log.warn("[THUMBNAIL] 썸네일 생성 실패. photoId={}, imageUrl={}", photoId, target.imageUrl(), e);
+            return;
+        }
+
+        String prefix = "photos/" + target.userId() + "/thumbs/" + UUID.randomUUID();
+        List<String> uploadedUrls = new ArrayList<>(3);
+        try {
+            String smallUrl = upload(thumbnails.small(), prefix, ThumbnailGenerator.SMALL_WIDTH, uploadedUrls);
+            String mediumUrl = upload(thumbnails.medium(), prefix, ThumbnailGenerator.MEDIUM_WIDTH, uploadedUrls);
+            String largeUrl = upload(thumbnails.large(), prefix, ThumbnailGenerator.LARGE_WIDTH, uploadedUrls);
+
+            Integer updated = transactionTemplate.execute(status ->
+                    photoRepository.updateThumbnails(photoId, smallUrl, mediumUrl, largeUrl));
+
+            if (updated == null || updated == 0) {
+                // 생성 도중 사진이 삭제된 경우
+                log.info("[THUMBNAIL] 사진이 삭제되어 썸네일 정리. photoId={}", photoId);
+                deleteQuietly(uploadedUrls);
+                return;
+            }
+
+            failures.remove(photoId);
+            log.debug("[THUMBNAIL] 썸네일 생성 완료. photoId={}", photoId);
+        } catch (RuntimeException e) {
+            recordFailure(photoId);
+            log.error("[THUMBNAIL] 썸네일 저장 실패. photoId={}", photoId, e);
+            deleteQuietly(uploadedUrls);
+        }
+    }
+
+    private boolean isRetryDue(Long photoId) {
+        Failure failure = failures.get(photoId);
+        return failure == null
+                || (failure.attempts() < MAX_ATTEMPTS && System.currentTimeMillis() >= failure.retryAtMillis());
+    }
+
+    private void recordFailure(Long photoId) {
+        Failure failure = failures.compute(photoId, (id, previous) -> {
+            int attempts = previous == null ? 1 : previous.attempts() + 1;
+            long delay = Math.min(MAX_RETRY_DELAY_MILLIS, BASE_RETRY_DELAY_MILLIS << Math.min(attempts - 1, 16));
+            return new Failure(attempts, System.currentTimeMillis() + delay);
+        });
+
+        if (failure.attempts() >= MAX_ATTEMPTS) {
+            log.warn("[THUMBNAIL] 재시도 횟수 초과로 썸네일 생성 제외. photoId={}, attempts={}", photoId, failure.attempts());
+        }
+    }
+
+    private String upload(byte[] content, String prefix, int width, List<String> uploadedUrls) {
+        String url = storageService.uploadBytes(content, "image/jpeg", prefix + "_" + width + ".jpg");
+        uploadedUrls.add(url);
+        return url;
+    }
+
+    private void deleteQuietly(List<String> urls) {
+        for (String url : urls) {
+            try {
+                storageService.deleteFile(url);
+            } catch (RuntimeException e) {
+                log.warn("[THUMBNAIL] 썸네일 정리 실패 - orphan 파일 발생 가능. url={}", url, e);
+            }
+        }
+    }
+
+    /**
+     * @param attempts      실패 횟수 (MAX_ATTEMPTS 이상이면 더 이상 재시도하지 않음)
+     * @param retryAtMillis 다음 재시도 가능 시각
+     */
+    private record Failure(int attempts, long retryAtMillis) {
+
+        static Failure permanent() {
+            return new Failure(MAX_ATTEMPTS, Long.MAX_VALUE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
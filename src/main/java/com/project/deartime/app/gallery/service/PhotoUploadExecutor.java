@@ -0,0 +1,89 @@
+package com.project.deartime.app.gallery.service;
+
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 사진 업로드 작업(EXIF 파싱 + S3 업로드)을 가상 스레드에서 병렬로 실행하는 실행기
+ * - 요청 단위 동시성 제한: 한 요청이 S3 커넥션을 독점하지 않도록 제한
+ * - 전역 동시성 제한: 서버 전체에서 동시에 진행되는 업로드 수 제한
+ */
+@Slf4j
+@Component
+public class PhotoUploadExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore globalPermits;
+    private final int maxConcurrencyPerRequest;
+
+    public PhotoUploadExecutor(
+            @Value("${gallery.upload.max-concurrency-per-request:4}") int maxConcurrencyPerRequest,
+            @Value("${gallery.upload.max-global-concurrency:32}") int maxGlobalConcurrency
+    ) {
+        this.maxConcurrencyPerRequest = Math.max(1, maxConcurrencyPerRequest);
+        this.globalPermits = new Semaphore(Math.max(1, maxGlobalConcurrency), true);
+    }
+
+    /**
+     * 입력 목록의 각 항목에 작업을 병렬로 적용하고, 입력 순서대로 결과를 반환
+     * 개별 작업의 실패는 작업 내부에서 결과 객체로 표현해야 함
+     */
+    public <T, R> List<R> invokeAll(List<T> inputs, Function<T, R> task) {
+        Semaphore requestPermits = new Semaphore(maxConcurrencyPerRequest);
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+
+        for (T input : inputs) {
+            Callable<R> callable = () -> runWithPermits(requestPermits, () -> task.apply(input));
+            futures.add(executor.submit(callable));
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new CoreApiException(ErrorCode.FAILED_UPLOAD_IMAGE_FILE_EXCEPTION, e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.error("[PHOTO UPLOAD] 병렬 업로드 작업 실패", e.getCause());
+            throw new CoreApiException(ErrorCode.FAILED_UPLOAD_IMAGE_FILE_EXCEPTION, e.getCause());
+        }
+        return results;
+    }
+
+    private <R> R runWithPermits(Semaphore requestPermits, Callable<R> work) throws Exception {
+        requestPermits.acquire();
+        try {
+            globalPermits.acquire();
+            try {
+                return work.call();
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            requestPermits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.deartime.app.letter.controller;
 
+import com.project.deartime.app.letter.dto.ConversationInboxResponse;
 import com.project.deartime.app.letter.dto.LetterDetailResponse;
 import com.project.deartime.app.letter.dto.LetterListResponse;
 import com.project.deartime.app.letter.dto.LetterSendRequest;
@@ -87,6 +88,23 @@ public class LetterController {
         return ApiResponseTemplete.success(successCode, response);
     }
 
+    // 우체통 (대화 상대별 마지막 편지 / 안 읽은 편지 수)
+    @GetMapping("/conversations")
+    public ResponseEntity<ApiResponseTemplete<ConversationInboxResponse>> getConversationInbox(
+            @AuthenticationPrincipal String userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+        ConversationInboxResponse response = letterService.getConversationInbox(myId, cursor, size);
+
+        SuccessCode successCode = response.conversations().isEmpty()
+                ? SuccessCode.CONVERSATION_EMPTY
+                : SuccessCode.CONVERSATION_FETCH_SUCCESS;
+
+        return ApiResponseTemplete.success(successCode, response);
+    }
+
     // 우리의 우체통
     @GetMapping("/conversation/{targetId}")
     public ResponseEntity<ApiResponseTemplete<PageResponse<LetterListResponse>>> getConversationLetters(
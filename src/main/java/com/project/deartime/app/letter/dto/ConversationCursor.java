@@ -0,0 +1,46 @@
+package com.project.deartime.app.letter.dto;
+
+import com.project.deartime.app.domain.ConversationSummary;
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 우체통 keyset 페이지네이션 커서 (이전 페이지 마지막 대화의 마지막 활동 시각 + 상대방 id)
+ * 클라이언트에는 불투명한 문자열로 전달
+ */
+public record ConversationCursor(LocalDateTime lastActivityAt, long counterpartId) {
+
+    public static ConversationCursor of(ConversationSummary summary) {
+        return new ConversationCursor(summary.getLastActivityAt(), summary.getCounterpartId());
+    }
+
+    public String encode() {
+        String raw = lastActivityAt + "|" + counterpartId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static ConversationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ConversationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CoreApiException(ErrorCode.INVALID_INPUT_VALUE, "우체통 커서가 올바르지 않습니다.");
+        }
+    }
+}
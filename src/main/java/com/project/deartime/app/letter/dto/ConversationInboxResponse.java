@@ -0,0 +1,15 @@
+package com.project.deartime.app.letter.dto;
+
+import java.util.List;
+
+/**
+ * 우체통(대화 상대별 목록) 페이지
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record ConversationInboxResponse(
+        List<ConversationSummaryResponse> conversations,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,31 @@
+package com.project.deartime.app.letter.dto;
+
+import com.project.deartime.app.domain.ConversationSummary;
+
+import java.time.LocalDateTime;
+
+public record ConversationSummaryResponse(
+        Long counterpartId,
+        String counterpartNickname,
+        String counterpartProfileImageUrl,
+        Long lastLetterId,
+        String lastTitle,
+        String lastSummary,
+        boolean isLastSentByMe,
+        LocalDateTime lastActivityAt,
+        int unreadCount
+) {
+    public static ConversationSummaryResponse from(ConversationSummary summary) {
+        return new ConversationSummaryResponse(
+                summary.getCounterpartId(),
+                summary.getCounterpart().getNickname(),
+                summary.getCounterpart().getProfileImageUrl(),
+                summary.getLastLetterId(),
+                summary.getLastTitle(),
+                summary.getLastSummary(),
+                summary.getLastSenderId().equals(summary.getOwnerId()),
+                summary.getLastActivityAt(),
+                summary.getUnreadCount()
+        );
+    }
+}
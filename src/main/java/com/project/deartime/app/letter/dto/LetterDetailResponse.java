@@ -1,5 +1,6 @@
 package com.project.deartime.app.letter.dto;
 
+import com.project.deartime.app.auth.dto.UserProfile;
 import com.project.deartime.app.domain.Letter;
 
 import java.time.LocalDateTime;
@@ -17,15 +18,23 @@ public record LetterDetailResponse(
         boolean isRead,
         boolean isBookmarked
 ) {
-    public static LetterDetailResponse fromEntity(Letter letter, boolean isBookmarked) {
-        String themeCode = letter.getTheme() != null ? letter.getTheme().getCode() : null;
-
+    /**
+     * @param sender   보낸 사람 프로필 (프로필 캐시에서 조회, 탈퇴 등으로 없으면 null)
+     * @param receiver 받는 사람 프로필 (프로필 캐시에서 조회, 탈퇴 등으로 없으면 null)
+     */
+    public static LetterDetailResponse fromEntity(
+            Letter letter,
+            UserProfile sender,
+            UserProfile receiver,
+            String themeCode,
+            boolean isBookmarked
+    ) {
         return new LetterDetailResponse(
                 letter.getId(),
                 letter.getSender().getId(),
-                letter.getSender().getNickname(),
+                sender != null ? sender.nickname() : null,
                 letter.getReceiver().getId(),
-                letter.getReceiver().getNickname(),
+                receiver != null ? receiver.nickname() : null,
                 letter.getTitle(),
                 letter.getContent(),
                 themeCode,
@@ -15,23 +15,21 @@ public record LetterListResponse(
         boolean isRead,
         boolean isBookmarked
 ) {
-    public static LetterListResponse fromEntity(Letter letter, boolean isBookmarked) {
-        String themeCode = letter.getTheme() != null ? letter.getTheme().getCode() : null;
-        String fullContent = letter.getContent();
-        String summary = (fullContent.length() >= 50)
-                ? fullContent.substring(0, 50) + "..."
-                : fullContent;
+    public static LetterListResponse from(LetterListRow row, String themeCode) {
+        String summary = row.summary() != null
+                ? row.summary()
+                : Letter.summarize(row.contentPreview());
 
         return new LetterListResponse(
-                letter.getId(),
-                letter.getSender().getNickname(),
-                letter.getReceiver().getNickname(),
-                letter.getTitle(),
+                row.letterId(),
+                row.senderNickname(),
+                row.receiverNickname(),
+                row.title(),
                 summary,
                 themeCode,
-                letter.getCreatedAt(),
-                letter.getIsRead(),
-                isBookmarked
+                row.sentAt(),
+                Boolean.TRUE.equals(row.isRead()),
+                Boolean.TRUE.equals(row.isBookmarked())
         );
     }
 }
@@ -0,0 +1,23 @@
+package com.project.deartime.app.letter.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 편지 목록 조회용 projection (발신자 / 수신자 닉네임, 즐겨찾기 여부를 한 번에 조회)
+ * 테마는 조인하지 않고 FK(themeId)만 읽어 LetterThemeRegistry 로 code 변환
+ * 본문(TEXT)은 읽지 않고 저장된 summary 를 사용
+ * contentPreview 는 summary 가 아직 채워지지 않은 기존 편지에서만 본문 앞부분을 잘라서 가져옴
+ */
+public record LetterListRow(
+        Long letterId,
+        String senderNickname,
+        String receiverNickname,
+        String title,
+        String summary,
+        String contentPreview,
+        Long themeId,
+        LocalDateTime sentAt,
+        Boolean isRead,
+        Boolean isBookmarked
+) {
+}
@@ -0,0 +1,11 @@
+package com.project.deartime.app.letter.dto;
+
+/**
+ * 편지 테마 기준 정보 (LetterThemeRegistry 캐시용, 엔티티의 letters 컬렉션은 읽지 않음)
+ */
+public record LetterThemeInfo(
+        Long id,
+        String code,
+        String name
+) {
+}
@@ -0,0 +1,183 @@
+package com.project.deartime.app.letter.repository;
+
+import com.project.deartime.app.domain.ConversationSummary;
+import com.project.deartime.app.domain.ConversationSummaryId;
+import com.project.deartime.app.domain.Letter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ConversationSummaryRepository extends JpaRepository<ConversationSummary, ConversationSummaryId> {
+
+    String SUMMARY_COLUMNS =
+            "(owner_id, counterpart_id, last_letter_id, last_sender_id, last_title, last_summary, " +
+            "last_activity_at, unread_count) ";
+
+    // summary 백필 전의 편지는 본문에서 직접 요약 (Letter.summarize 와 동일)
+    String LETTER_SUMMARY =
+            "COALESCE(l.summary, CASE WHEN char_length(l.content) >= " + Letter.SUMMARY_LENGTH +
+            " THEN left(l.content, " + Letter.SUMMARY_LENGTH + ") || '...' ELSE l.content END)";
+
+    // letters 에서 (owner, counterpart) 별 마지막 편지 + 안 읽은 편지 수를 다시 계산하는 SELECT 의 앞 / 뒤
+    String RECOMPUTE_HEAD =
+            "INSERT INTO conversation_summaries " + SUMMARY_COLUMNS +
+            "SELECT DISTINCT ON (v.owner_id, v.counterpart_id) " +
+            "v.owner_id, v.counterpart_id, v.id, v.sender_id, v.title, v.summary, v.created_at, " +
+            "COUNT(*) FILTER (WHERE v.unread) OVER (PARTITION BY v.owner_id, v.counterpart_id) " +
+            "FROM (";
+    String SENT_LETTERS =
+            "SELECT l.sender_id AS owner_id, l.receiver_id AS counterpart_id, l.id, l.sender_id, l.title, " +
+            LETTER_SUMMARY + " AS summary, l.created_at, FALSE AS unread " +
+            "FROM letters l WHERE l.is_deleted_by_sender = FALSE ";
+    String RECEIVED_LETTERS =
+            "SELECT l.receiver_id, l.sender_id, l.id, l.sender_id, l.title, " +
+            LETTER_SUMMARY + ", l.created_at, l.is_read = FALSE " +
+            "FROM letters l WHERE l.is_deleted_by_receiver = FALSE ";
+    String RECOMPUTE_TAIL =
+            ") v ORDER BY v.owner_id, v.counterpart_id, v.id DESC " +
+            "ON CONFLICT (owner_id, counterpart_id) DO UPDATE SET " +
+            "last_letter_id = EXCLUDED.last_letter_id, last_sender_id = EXCLUDED.last_sender_id, " +
+            "last_title = EXCLUDED.last_title, last_summary = EXCLUDED.last_summary, " +
+            "last_activity_at = EXCLUDED.last_activity_at, unread_count = EXCLUDED.unread_count ";
+
+    // 한 쌍의 편지만 고르는 조건 (SENT_LETTERS / RECEIVED_LETTERS 뒤에 붙임)
+    String PAIR_SENT = "AND l.sender_id = :ownerId AND l.receiver_id = :counterpartId ";
+    String PAIR_RECEIVED = "AND l.receiver_id = :ownerId AND l.sender_id = :counterpartId";
+
+    // 새 편지가 기존 마지막 편지보다 최신일 때만 미리보기 교체 (동시 전송 시 순서 역전 방지)
+    String IF_NEWER = "CASE WHEN EXCLUDED.last_letter_id > conversation_summaries.last_letter_id THEN EXCLUDED.";
+    String ELSE_KEEP = " ELSE conversation_summaries.";
+    String IF_NEWER_LETTER = "CASE WHEN :letterId > last_letter_id THEN :";
+
+    /**
+     * 편지 전송 시 한쪽 요약 갱신 (요약이 이미 있는 쌍)
+     *
+     * @return 0 이면 아직 요약이 없는 쌍 (insertOnLetterSent 로 생성)
+     */
+    @Modifying
+    @Query(value = "UPDATE conversation_summaries SET " +
+            "last_sender_id = " + IF_NEWER_LETTER + "senderId ELSE last_sender_id END, " +
+            "last_title = " + IF_NEWER_LETTER + "title ELSE last_title END, " +
+            "last_summary = " + IF_NEWER_LETTER + "summary ELSE last_summary END, " +
+            "last_activity_at = " + IF_NEWER_LETTER + "activityAt ELSE last_activity_at END, " +
+            "last_letter_id = GREATEST(last_letter_id, :letterId), " +
+            "unread_count = unread_count + :unreadIncrement " +
+            "WHERE owner_id = :ownerId AND counterpart_id = :counterpartId",
+            nativeQuery = true)
+    int updateOnLetterSent(@Param("ownerId") Long ownerId,
+                           @Param("counterpartId") Long counterpartId,
+                           @Param("letterId") Long letterId,
+                           @Param("senderId") Long senderId,
+                           @Param("title") String title,
+                           @Param("summary") String summary,
+                           @Param("activityAt") LocalDateTime activityAt,
+                           @Param("unreadIncrement") int unreadIncrement);
+
+    /**
+     * 편지 전송 시 요약이 없는 쌍의 요약 생성 (백필 전에 주고받은 편지 포함, letters 에서 계산)
+     * 방금 저장한 편지가 계산에 포함되도록 먼저 flush
+     * 동시에 다른 트랜잭션이 먼저 만들었으면 (그쪽은 이 편지를 보지 못했으므로) 이 편지만큼만 반영
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = RECOMPUTE_HEAD +
+            SENT_LETTERS + PAIR_SENT +
+            "UNION ALL " +
+            RECEIVED_LETTERS + PAIR_RECEIVED +
+            ") v ORDER BY v.owner_id, v.counterpart_id, v.id DESC " +
+            "ON CONFLICT (owner_id, counterpart_id) DO UPDATE SET " +
+            "last_sender_id = " + IF_NEWER + "last_sender_id" + ELSE_KEEP + "last_sender_id END, " +
+            "last_title = " + IF_NEWER + "last_title" + ELSE_KEEP + "last_title END, " +
+            "last_summary = " + IF_NEWER + "last_summary" + ELSE_KEEP + "last_summary END, " +
+            "last_activity_at = " + IF_NEWER + "last_activity_at" + ELSE_KEEP + "last_activity_at END, " +
+            "last_letter_id = GREATEST(conversation_summaries.last_letter_id, EXCLUDED.last_letter_id), " +
+            "unread_count = conversation_summaries.unread_count + :unreadIncrement",
+            nativeQuery = true)
+    void insertOnLetterSent(@Param("ownerId") Long ownerId,
+                            @Param("counterpartId") Long counterpartId,
+                            @Param("unreadIncrement") int unreadIncrement);
+
+    // 받은 편지를 읽었을 때 안 읽은 편지 수 감소
+    @Modifying
+    @Query(value = "UPDATE conversation_summaries SET unread_count = GREATEST(unread_count - 1, 0) " +
+            "WHERE owner_id = :ownerId AND counterpart_id = :counterpartId",
+            nativeQuery = true)
+    void decrementUnread(@Param("ownerId") Long ownerId, @Param("counterpartId") Long counterpartId);
+
+    /**
+     * 한 쌍의 요약을 letters 에서 다시 계산 (편지 삭제 시)
+     * 편지 삭제 플래그가 반영되도록 먼저 flush
+     *
+     * @return 0 이면 owner 에게 남은 편지가 없음
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = RECOMPUTE_HEAD +
+            SENT_LETTERS + PAIR_SENT +
+            "UNION ALL " +
+            RECEIVED_LETTERS + PAIR_RECEIVED +
+            RECOMPUTE_TAIL,
+            nativeQuery = true)
+    int recompute(@Param("ownerId") Long ownerId, @Param("counterpartId") Long counterpartId);
+
+    @Modifying
+    @Query(value = "DELETE FROM conversation_summaries WHERE owner_id = :ownerId AND counterpart_id = :counterpartId",
+            nativeQuery = true)
+    void deleteSummary(@Param("ownerId") Long ownerId, @Param("counterpartId") Long counterpartId);
+
+    /**
+     * owner id 가 (afterOwnerId, untilOwnerId] 인 사용자들의 요약 중 아직 없는 (owner, counterpart) 쌍만 letters 에서 계산 (백필용)
+     * 이미 있는 쌍은 편지 전송 / 읽음 / 삭제 시 갱신되고 있으므로 건드리지 않음
+     * (안 읽은 편지 수를 덮어써 동시에 일어난 읽음 처리를 되돌리지 않도록 충돌 시에도 그대로 둠)
+     */
+    @Modifying
+    @Query(value = RECOMPUTE_HEAD +
+            SENT_LETTERS + "AND l.sender_id > :afterOwnerId AND l.sender_id <= :untilOwnerId " +
+            "UNION ALL " +
+            RECEIVED_LETTERS + "AND l.receiver_id > :afterOwnerId AND l.receiver_id <= :untilOwnerId" +
+            ") v WHERE NOT EXISTS (SELECT 1 FROM conversation_summaries cs " +
+            "WHERE cs.owner_id = v.owner_id AND cs.counterpart_id = v.counterpart_id) " +
+            "ORDER BY v.owner_id, v.counterpart_id, v.id DESC " +
+            "ON CONFLICT (owner_id, counterpart_id) DO NOTHING",
+            nativeQuery = true)
+    int backfillOwners(@Param("afterOwnerId") Long afterOwnerId, @Param("untilOwnerId") Long untilOwnerId);
+
+    /**
+     * 백필 배치의 마지막 사용자 id (afterId 이후, 요약이 없는 상대와 주고받은 편지가 있는 사용자 limit 명)
+     * 백필이 끝난 뒤에는 대상이 없어 letters 를 다시 계산하지 않음
+     *
+     * @return 남은 사용자가 없으면 null
+     */
+    @Query(value = "SELECT MAX(o.id) FROM (SELECT u.id FROM users u WHERE u.id > :afterId " +
+            "AND (EXISTS (SELECT 1 FROM letters l WHERE l.sender_id = u.id AND l.is_deleted_by_sender = FALSE " +
+            "AND NOT EXISTS (SELECT 1 FROM conversation_summaries cs " +
+            "WHERE cs.owner_id = u.id AND cs.counterpart_id = l.receiver_id)) " +
+            "OR EXISTS (SELECT 1 FROM letters l WHERE l.receiver_id = u.id AND l.is_deleted_by_receiver = FALSE " +
+            "AND NOT EXISTS (SELECT 1 FROM conversation_summaries cs " +
+            "WHERE cs.owner_id = u.id AND cs.counterpart_id = l.sender_id))) " +
+            "ORDER BY u.id LIMIT :limit) o",
+            nativeQuery = true)
+    Long findOwnerBatchEnd(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // 우체통 첫 페이지 (마지막 활동 시각 내림차순)
+    @Query("SELECT cs FROM ConversationSummary cs JOIN FETCH cs.counterpart " +
+            "WHERE cs.ownerId = :ownerId " +
+            "ORDER BY cs.lastActivityAt DESC, cs.counterpartId DESC")
+    List<ConversationSummary> findInbox(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    // 우체통 다음 페이지 (keyset: 이전 페이지 마지막 행 이후)
+    @Query("SELECT cs FROM ConversationSummary cs JOIN FETCH cs.counterpart " +
+            "WHERE cs.ownerId = :ownerId " +
+            "AND (cs.lastActivityAt < :cursorAt " +
+            "OR (cs.lastActivityAt = :cursorAt AND cs.counterpartId < :cursorId)) " +
+            "ORDER BY cs.lastActivityAt DESC, cs.counterpartId DESC")
+    List<ConversationSummary> findInboxAfter(@Param("ownerId") Long ownerId,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+}
@@ -3,17 +3,26 @@ package com.project.deartime.app.letter.repository;
 import com.project.deartime.app.domain.Letter;
 import com.project.deartime.app.domain.LetterFavorite;
 import com.project.deartime.app.domain.LetterFavoriteId;
+import com.project.deartime.app.letter.dto.LetterListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface LetterFavoriteRepository extends JpaRepository<LetterFavorite, LetterFavoriteId> {
-    // 특정 user_id로 LetterFavorite 리스트 조회, Letter 엔티티를 패치 조인
-    @Query("SELECT lf.letter FROM LetterFavorite lf WHERE lf.user.id = :userId")
-    Page<Letter> findBookmarkedLettersByUserId(Long userId, Pageable pageable);
+    // 특정 user_id로 즐겨찾기 한 편지 목록 조회 (발신자 / 수신자를 조인해 한 번에 조회, 테마 코드는 레지스트리에서 변환)
+    @Query(value = "SELECT new com.project.deartime.app.letter.dto.LetterListRow(" +
+            "l.id, s.nickname, r.nickname, l.title, " +
+            "l.summary, CASE WHEN l.summary IS NULL " +
+            "THEN SUBSTRING(l.content, 1, " + (Letter.SUMMARY_LENGTH + 1) + ") END, " +
+            "l.theme.id, l.createdAt, l.isRead, TRUE) " +
+            "FROM LetterFavorite lf JOIN lf.letter l JOIN l.sender s JOIN l.receiver r " +
+            "WHERE lf.user.id = :userId",
+            countQuery = "SELECT COUNT(lf) FROM LetterFavorite lf WHERE lf.user.id = :userId")
+    Page<LetterListRow> findBookmarkedLetterRows(@Param("userId") Long userId, Pageable pageable);
 
     // 편지 즐겨찾기/취소
     boolean existsByUserIdAndLetterId(Long userId, Long letterId);
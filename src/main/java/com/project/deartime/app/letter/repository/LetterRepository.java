@@ -1,6 +1,7 @@
 package com.project.deartime.app.letter.repository;
 
 import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.letter.dto.LetterListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,22 +9,68 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LetterRepository extends JpaRepository<Letter, Long> {
-    // receiverId로 조회하며, 수신자가 삭제하지 않은 편지만 반환
-    Page<Letter> findByReceiverIdAndIsDeletedByReceiverFalse(Long receiverId, Pageable pageable);
 
-    // senderId로 조회하며, 발신자가 삭제하지 않은 편지만 반환
-    Page<Letter> findBySenderIdAndIsDeletedBySenderFalse(Long senderId, Pageable pageable);
+    /**
+     * 편지 목록 projection 공통 SELECT 절
+     * 발신자 / 수신자 / 테마는 조인으로, 즐겨찾기 여부는 EXISTS 로 함께 조회 (페이지 크기와 무관하게 쿼리 1회)
+     * 본문 대신 저장된 summary 를 읽고, summary 가 없는 기존 편지만 본문 앞부분(요약 길이 + 1)을 가져옴
+     */
+    String LETTER_LIST_SELECT =
+            "SELECT new com.project.deartime.app.letter.dto.LetterListRow(" +
+            "l.id, s.nickname, r.nickname, l.title, " +
+            "l.summary, CASE WHEN l.summary IS NULL " +
+            "THEN SUBSTRING(l.content, 1, " + (Letter.SUMMARY_LENGTH + 1) + ") END, " +
+            "l.theme.id, l.createdAt, l.isRead, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM LetterFavorite lf WHERE lf.user.id = :userId AND lf.letter.id = l.id) " +
+            "THEN TRUE ELSE FALSE END) " +
+            "FROM Letter l JOIN l.sender s JOIN l.receiver r ";
+
+    // 받은 편지 목록 (수신자가 삭제하지 않은 편지만)
+    @Query(value = LETTER_LIST_SELECT +
+            "WHERE l.receiver.id = :userId AND l.isDeletedByReceiver = FALSE",
+            countQuery = "SELECT COUNT(l) FROM Letter l " +
+                    "WHERE l.receiver.id = :userId AND l.isDeletedByReceiver = FALSE")
+    Page<LetterListRow> findReceivedLetterRows(@Param("userId") Long userId, Pageable pageable);
+
+    // 보낸 편지 목록 (발신자가 삭제하지 않은 편지만)
+    @Query(value = LETTER_LIST_SELECT +
+            "WHERE l.sender.id = :userId AND l.isDeletedBySender = FALSE",
+            countQuery = "SELECT COUNT(l) FROM Letter l " +
+                    "WHERE l.sender.id = :userId AND l.isDeletedBySender = FALSE")
+    Page<LetterListRow> findSentLetterRows(@Param("userId") Long userId, Pageable pageable);
 
     // 편지 상세 확인
     Optional<Letter> findById(Long letterId);
 
-    // 특정인과 주고받은 편지
-    @Query("SELECT l FROM Letter l " +
-           "WHERE (l.sender.id = :user1Id AND l.receiver.id = :user2Id AND l.isDeletedBySender = FALSE) " +
-           "OR (l.sender.id = :user2Id AND l.receiver.id = :user1Id AND l.isDeletedByReceiver = FALSE) ")
-    Page<Letter> findConversationLetters(@Param("user1Id") Long user1Id, @Param("user2Id") Long user2Id, Pageable pageable);
+    // 특정인과 주고받은 편지 (즐겨찾기 여부는 userId 기준)
+    @Query(value = LETTER_LIST_SELECT +
+            "WHERE (l.sender.id = :userId AND l.receiver.id = :targetId AND l.isDeletedBySender = FALSE) " +
+            "OR (l.sender.id = :targetId AND l.receiver.id = :userId AND l.isDeletedByReceiver = FALSE)",
+            countQuery = "SELECT COUNT(l) FROM Letter l " +
+                    "WHERE (l.sender.id = :userId AND l.receiver.id = :targetId AND l.isDeletedBySender = FALSE) " +
+                    "OR (l.sender.id = :targetId AND l.receiver.id = :userId AND l.isDeletedByReceiver = FALSE)")
+    Page<LetterListRow> findConversationLetterRows(@Param("userId") Long userId,
+                                                   @Param("targetId") Long targetId,
+                                                   Pageable pageable);
+
+    /**
+     * summary 가 없는 기존 편지를 id 순으로 limit 개씩 채움 (Letter.summarize 와 같은 규칙)
+     *
+     * @return 이번 배치에서 채운 편지 id
+     */
+    @Query(value = "UPDATE letters SET summary = CASE " +
+            "    WHEN char_length(content) >= :summaryLength THEN left(content, :summaryLength) || '...' " +
+            "    ELSE content END " +
+            "WHERE id IN (" +
+            "    SELECT id FROM letters WHERE summary IS NULL AND id > :afterId ORDER BY id LIMIT :limit" +
+            ") RETURNING id",
+            nativeQuery = true)
+    List<Long> backfillSummaries(@Param("afterId") Long afterId,
+                                 @Param("limit") int limit,
+                                 @Param("summaryLength") int summaryLength);
 }
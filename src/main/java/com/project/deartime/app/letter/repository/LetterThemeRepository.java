@@ -1,12 +1,19 @@
 package com.project.deartime.app.letter.repository;
 
 import com.project.deartime.app.domain.LetterTheme;
+import com.project.deartime.app.letter.dto.LetterThemeInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LetterThemeRepository extends JpaRepository<LetterTheme, Long> {
     Optional<LetterTheme> findByCode(String code);
+
+    // 테마 레지스트리 적재용 (id / code / name 만 조회)
+    @Query("SELECT new com.project.deartime.app.letter.dto.LetterThemeInfo(t.id, t.code, t.name) FROM LetterTheme t")
+    List<LetterThemeInfo> findAllThemeInfos();
 }
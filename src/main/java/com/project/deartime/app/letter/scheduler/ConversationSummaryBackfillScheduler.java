@@ -0,0 +1,73 @@
+package com.project.deartime.app.letter.scheduler;
+
+import com.project.deartime.app.letter.repository.ConversationSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * conversation_summaries 도입 이전에 주고받은 편지로 대화 요약을 채우는 배치 작업
+ * - 요약이 없는 (사용자, 상대) 쌍이 있는 사용자만 id 구간별로 letters 에서 계산해 짧은 트랜잭션으로 저장
+ *   (백필 전에 새 편지를 주고받아 요약이 일부만 있는 사용자도 나머지 대화가 채워짐)
+ * - 이미 있는 쌍의 요약(새 편지 / 읽음 처리로 갱신 중인 값)은 덮어쓰지 않음
+ * - 실행당 최대 배치 수까지만 처리하고 스케줄러 스레드를 돌려줌 (남은 사용자는 다음 실행에서 이어서 처리)
+ * - 백필이 끝난 뒤 재시작하면 대상 사용자가 없어 letters 를 다시 계산하지 않음
+ */
+@Slf4j
+@Component
+public class ConversationSummaryBackfillScheduler {
+
+    private final ConversationSummaryRepository conversationSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private volatile boolean completed = false;
+
+    public ConversationSummaryBackfillScheduler(
+            ConversationSummaryRepository conversationSummaryRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${letter.conversation-backfill.batch-size:200}") int batchSize,
+            @Value("${letter.conversation-backfill.max-batches-per-run:20}") int maxBatchesPerRun
+    ) {
+        this.conversationSummaryRepository = conversationSummaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+    }
+
+    @Scheduled(
+            initialDelayString = "${letter.conversation-backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${letter.conversation-backfill.interval-ms:60000}"
+    )
+    public void backfillConversationSummaries() {
+        if (completed) {
+            return;
+        }
+
+        long afterOwnerId = 0L;
+        int total = 0;
+        boolean finished = false;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Long untilOwnerId = conversationSummaryRepository.findOwnerBatchEnd(afterOwnerId, batchSize);
+            if (untilOwnerId == null) {
+                finished = true;
+                break;
+            }
+
+            long from = afterOwnerId;
+            Integer updated = transactionTemplate.execute(
+                    status -> conversationSummaryRepository.backfillOwners(from, untilOwnerId));
+            total += updated != null ? updated : 0;
+            afterOwnerId = untilOwnerId;
+        }
+
+        completed = finished;
+        if (total > 0) {
+            log.info("[LETTER] 대화 요약 백필. count={}, finished={}", total, finished);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.deartime.app.letter.scheduler;
+
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.letter.repository.LetterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * summary 컬럼 추가 이전에 저장된 편지의 요약을 채우는 배치 작업
+ * - 배치마다 짧은 트랜잭션으로 나눠 처리 (긴 잠금 / 대량 WAL 방지)
+ * - 실행당 최대 배치 수까지만 처리하고 스케줄러 스레드를 돌려줌 (남은 편지는 다음 실행에서 이어서 처리)
+ * - 새 편지는 저장 시 summary 가 채워지므로, 한 번 남은 편지가 없으면 이후 실행은 건너뜀
+ */
+@Slf4j
+@Component
+public class LetterSummaryBackfillScheduler {
+
+    private final LetterRepository letterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private volatile boolean completed = false;
+
+    public LetterSummaryBackfillScheduler(
+            LetterRepository letterRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${letter.summary-backfill.batch-size:500}") int batchSize,
+            @Value("${letter.summary-backfill.max-batches-per-run:20}") int maxBatchesPerRun
+    ) {
+        this.letterRepository = letterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+    }
+
+    @Scheduled(
+            initialDelayString = "${letter.summary-backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${letter.summary-backfill.interval-ms:60000}"
+    )
+    public void backfillSummaries() {
+        if (completed) {
+            return;
+        }
+
+        long afterId = 0L;
+        int total = 0;
+        boolean finished = false;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long from = afterId;
+            List<Long> updatedIds = transactionTemplate.execute(status ->
+                    letterRepository.backfillSummaries(from, batchSize, Letter.SUMMARY_LENGTH));
+
+            if (updatedIds == null || updatedIds.isEmpty()) {
+                finished = true;
+                break;
+            }
+
+            total += updatedIds.size();
+            afterId = Collections.max(updatedIds);
+
+            if (updatedIds.size() < batchSize) {
+                finished = true;
+                break;
+            }
+        }
+
+        completed = finished;
+        if (total > 0) {
+            log.info("[LETTER] 편지 요약 백필. count={}, finished={}", total, finished);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.deartime.app.letter.service;
+
+import com.project.deartime.app.domain.ConversationSummary;
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.letter.dto.ConversationCursor;
+import com.project.deartime.app.letter.dto.ConversationInboxResponse;
+import com.project.deartime.app.letter.dto.ConversationSummaryResponse;
+import com.project.deartime.app.letter.repository.ConversationSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 대화 요약(우체통) 관리
+ * 편지 전송 / 읽음 / 삭제가 일어난 트랜잭션 안에서 함께 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConversationSummaryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ConversationSummaryRepository conversationSummaryRepository;
+
+    /**
+     * 편지 전송: 보낸 사람 / 받은 사람 양쪽 요약의 마지막 편지 갱신, 받은 사람은 안 읽은 편지 수 +1
+     * 요약이 아직 없는 쌍은 지금까지 주고받은 편지로 새로 계산 (백필 전의 안 읽은 편지도 포함)
+     */
+    @Transactional
+    public void onLetterSent(Letter letter) {
+        Long senderId = letter.getSender().getId();
+        Long receiverId = letter.getReceiver().getId();
+
+        applyLetterSent(senderId, receiverId, letter, 0);
+        applyLetterSent(receiverId, senderId, letter, 1);
+    }
+
+    private void applyLetterSent(Long ownerId, Long counterpartId, Letter letter, int unreadIncrement) {
+        int updated = conversationSummaryRepository.updateOnLetterSent(
+                ownerId, counterpartId, letter.getId(), letter.getSender().getId(),
+                letter.getTitle(), letter.getSummary(), letter.getCreatedAt(), unreadIncrement);
+        if (updated == 0) {
+            conversationSummaryRepository.insertOnLetterSent(ownerId, counterpartId, unreadIncrement);
+        }
+    }
+
+    /**
+     * 받은 편지를 처음 읽음: 받은 사람 요약의 안 읽은 편지 수 -1
+     */
+    @Transactional
+    public void onLetterRead(Letter letter) {
+        conversationSummaryRepository.decrementUnread(letter.getReceiver().getId(), letter.getSender().getId());
+    }
+
+    /**
+     * 편지 삭제: 삭제한 사람 기준으로 남은 편지에서 요약을 다시 계산 (남은 편지가 없으면 요약 제거)
+     */
+    @Transactional
+    public void onLetterDeleted(Long ownerId, Long counterpartId) {
+        int updated = conversationSummaryRepository.recompute(ownerId, counterpartId);
+        if (updated == 0) {
+            conversationSummaryRepository.deleteSummary(ownerId, counterpartId);
+        }
+    }
+
+    /**
+     * 우체통: 편지를 주고받은 상대별 마지막 편지 / 안 읽은 편지 수 (마지막 활동 시각 내림차순, keyset 페이지네이션)
+     */
+    public ConversationInboxResponse getInbox(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ConversationCursor decoded = ConversationCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ConversationSummary> summaries = decoded == null
+                ? conversationSummaryRepository.findInbox(userId, limit)
+                : conversationSummaryRepository.findInboxAfter(
+                        userId, decoded.lastActivityAt(), decoded.counterpartId(), limit);
+
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? ConversationCursor.of(summaries.get(summaries.size() - 1)).encode() : null;
+        return new ConversationInboxResponse(
+                summaries.stream().map(ConversationSummaryResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -1,15 +1,22 @@
 package com.project.deartime.app.letter.service;
 
+import com.project.deartime.app.auth.Service.UserProfileCache;
+import com.project.deartime.app.auth.dto.UserProfile;
 import com.project.deartime.app.auth.repository.UserRepository;
+import com.project.deartime.app.counter.service.UserCounterService;
 import com.project.deartime.app.domain.*;
+import com.project.deartime.app.letter.dto.ConversationInboxResponse;
 import com.project.deartime.app.letter.dto.LetterDetailResponse;
 import com.project.deartime.app.letter.dto.LetterListResponse;
+import com.project.deartime.app.letter.dto.LetterListRow;
 import com.project.deartime.app.letter.dto.LetterSendRequest;
 import com.project.deartime.app.letter.dto.LetterSendResponse;
+import com.project.deartime.app.letter.dto.LetterThemeInfo;
 import com.project.deartime.app.letter.repository.LetterFavoriteRepository;
 import com.project.deartime.app.letter.repository.LetterRepository;
 import com.project.deartime.app.letter.repository.LetterThemeRepository;
 import com.project.deartime.app.notification.service.NotificationService;
+import com.project.deartime.app.search.service.SearchService;
 
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.CoreApiException;
@@ -22,6 +29,8 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -33,36 +42,41 @@ public class LetterService {
     private final LetterRepository letterRepository;
     private final UserRepository userRepository;
     private final LetterThemeRepository letterThemeRepository;
+    private final LetterThemeRegistry letterThemeRegistry;
     private final LetterFavoriteRepository letterFavoriteRepository;
     private final NotificationService notificationService;
+    private final SearchService searchService;
+    private final ConversationSummaryService conversationSummaryService;
+    private final UserCounterService userCounterService;
+    private final UserProfileCache userProfileCache;
+
+    private LetterListResponse toListResponse(LetterListRow row) {
+        return LetterListResponse.from(row, letterThemeRegistry.codeOf(row.themeId()));
+    }
 
     // 즐겨찾기 여부 확인
     private boolean isLetterBookmarked(Long userId, Long letterId) {
         return letterFavoriteRepository.existsByUserIdAndLetterId(userId, letterId);
     }
 
-    // entity -> DTO로 변환
-    private LetterListResponse mapToLetterListResponse(Letter letter, Long currentUserId) {
-        boolean isBookmarked = isLetterBookmarked(currentUserId, letter.getId());
-        return LetterListResponse.fromEntity(letter, isBookmarked);
-    }
-
     // 편지 전송 (POST /api/letters)
     @Transactional
     public LetterSendResponse sendLetter(Long senderId, LetterSendRequest request) {
-        User sender = userRepository.findById(senderId)
+        // 존재 확인 / 닉네임은 프로필 캐시에서, 연관관계는 id 로 참조만 연결 (User 조회 쿼리 없음)
+        UserProfile sender = userProfileCache.find(senderId)
                 .orElseThrow(() -> new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
                         "발신자 ID를 찾을 수 없습니다: " + senderId));
-        User receiver = userRepository.findById(request.receiverId())
+        UserProfile receiver = userProfileCache.find(request.receiverId())
                 .orElseThrow(() -> new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
                         "수신자 ID를 찾을 수 없습니다: " + request.receiverId()));
+        User receiverRef = userRepository.getReferenceById(receiver.id());
 
-        LetterTheme theme = null;
+        LetterThemeInfo theme = null;
         String requestedThemeCode = request.theme();
         String warningMessage = null;
 
         if (requestedThemeCode != null) {
-            Optional<LetterTheme> themeOptional = letterThemeRepository.findByCode(requestedThemeCode);
+            Optional<LetterThemeInfo> themeOptional = letterThemeRegistry.findByCode(requestedThemeCode);
 
             if (themeOptional.isPresent()) {
                 theme = themeOptional.get();
@@ -74,28 +88,33 @@ public class LetterService {
         }
 
         if (theme == null) {
-            theme = letterThemeRepository.findByCode("theme1")
+            theme = letterThemeRegistry.findDefault()
                     .orElseThrow(() ->
                             new CoreApiException(ErrorCode.LETTER_DEFAULT_NOT_FOUND)
                     );
         }
 
         Letter letter = Letter.builder()
-                .sender(sender)
-                .receiver(receiver)
-                .theme(theme)
+                .sender(userRepository.getReferenceById(sender.id()))
+                .receiver(receiverRef)
+                // 레지스트리의 id 로 참조만 연결 (테마 조회 쿼리 없음)
+                .theme(letterThemeRepository.getReferenceById(theme.id()))
                 .title(request.title())
                 .content(request.content())
+                .summary(Letter.summarize(request.content()))
                 .build();
 
         Letter savedLetter = letterRepository.save(letter);
+        searchService.indexLetter(savedLetter);
+        conversationSummaryService.onLetterSent(savedLetter);
+        userCounterService.letterReceived(receiver.id());
 
         // 수신자에게 알림 발송
         try {
             notificationService.notifyLetterReceived(
-                    receiver,
+                    receiverRef,
                     savedLetter.getId(),
-                    sender.getNickname(),
+                    sender.nickname(),
                     savedLetter.getTitle()
             );
         } catch (Exception e) {
@@ -104,8 +123,8 @@ public class LetterService {
 
         return new LetterSendResponse(
                 savedLetter.getId(),
-                savedLetter.getSender().getNickname(),
-                savedLetter.getReceiver().getNickname(),
+                sender.nickname(),
+                receiver.nickname(),
                 savedLetter.getCreatedAt(),
                 "편지가 성공적으로 발송되었습니다.",
                 warningMessage
@@ -115,8 +134,8 @@ public class LetterService {
     // 받은 편지 모아보기(GET /api/letters/received)
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getReceivedLetters(Long userId, Pageable pageable) {
-        Page<Letter> letterPage = letterRepository.findByReceiverIdAndIsDeletedByReceiverFalse(userId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> mapToLetterListResponse(letter, userId));
+        Page<LetterListResponse> responsePage = letterRepository.findReceivedLetterRows(userId, pageable)
+                .map(this::toListResponse);
 
         return PageResponse.from(responsePage);
     }
@@ -124,8 +143,8 @@ public class LetterService {
     // 보낸 편지 모아보기(GET /api/letters/sent)
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getSentLetters(Long userId, Pageable pageable){
-        Page<Letter> letterPage = letterRepository.findBySenderIdAndIsDeletedBySenderFalse(userId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> mapToLetterListResponse(letter, userId));
+        Page<LetterListResponse> responsePage = letterRepository.findSentLetterRows(userId, pageable)
+                .map(this::toListResponse);
 
         return PageResponse.from(responsePage);
     }
@@ -133,8 +152,8 @@ public class LetterService {
     // 즐겨찾기 한 편지 모아보기(GET /api/letters/bookmarked)
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getBookmarkedLetters(Long userId, Pageable pageable) {
-        Page<Letter> letterPage = letterFavoriteRepository.findBookmarkedLettersByUserId(userId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> LetterListResponse.fromEntity(letter, true));
+        Page<LetterListResponse> responsePage = letterFavoriteRepository.findBookmarkedLetterRows(userId, pageable)
+                .map(this::toListResponse);
 
         return PageResponse.from(responsePage);
     }
@@ -142,18 +161,24 @@ public class LetterService {
     // 특정인과 주고받은 편지(GET /api/letters/conversation?targetId={targetId})
     @Transactional(readOnly = true)
     public PageResponse<LetterListResponse> getConversationLetters(Long currentUserId, Long targetUserId, Pageable pageable) {
-        userRepository.findById(targetUserId)
-                .orElseThrow(() ->
-                        new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
-                                "상대 유저를 찾을 수 없습니다. userId=" + targetUserId)
-                );
+        if (!userRepository.existsById(targetUserId)) {
+            throw new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
+                    "상대 유저를 찾을 수 없습니다. userId=" + targetUserId);
+        }
 
-        Page<Letter> letterPage = letterRepository.findConversationLetters(currentUserId, targetUserId, pageable);
-        Page<LetterListResponse> responsePage = letterPage.map(letter -> mapToLetterListResponse(letter, currentUserId));
+        Page<LetterListResponse> responsePage = letterRepository
+                .findConversationLetterRows(currentUserId, targetUserId, pageable)
+                .map(this::toListResponse);
 
         return PageResponse.from(responsePage);
     }
 
+    // 우체통: 편지를 주고받은 상대별 마지막 편지 / 안 읽은 편지 수(GET /api/letters/conversations)
+    @Transactional(readOnly = true)
+    public ConversationInboxResponse getConversationInbox(Long userId, String cursor, int size) {
+        return conversationSummaryService.getInbox(userId, cursor, size);
+    }
+
     // 편지 상세 확인 및 읽음 처리(GET /api/letters/{letterId}
     @Transactional
     public LetterDetailResponse getLetterDetail(Long letterId, Long currentUserId) {
@@ -167,13 +192,30 @@ public class LetterService {
             throw new AccessDeniedException("해당 편지에 접근할 권한이 없습니다.");
         }
 
-        if (letter.getReceiver().getId().equals(currentUserId) && !letter.getIsRead()) {
+        // 읽지 않은 채로 삭제한 편지는 삭제할 때 이미 안 읽은 편지 수에서 제외했으므로 다시 줄이지 않음
+        if (letter.getReceiver().getId().equals(currentUserId) && !letter.getIsRead()
+                && !letter.getIsDeletedByReceiver()) {
             letter.markAsRead();
+            conversationSummaryService.onLetterRead(letter);
+            userCounterService.letterRead(currentUserId);
         }
 
         boolean isBookmarked = isLetterBookmarked(currentUserId, letterId);
 
-        return LetterDetailResponse.fromEntity(letter, isBookmarked);
+        // theme 프록시의 id 만 읽으므로 테마를 로딩하지 않음
+        Long themeId = letter.getTheme() != null ? letter.getTheme().getId() : null;
+
+        // 보낸 사람 / 받는 사람 닉네임은 프로필 캐시에서 (User 프록시를 로딩하지 않음)
+        Map<Long, UserProfile> profiles = userProfileCache.getAll(
+                List.of(letter.getSender().getId(), letter.getReceiver().getId()));
+
+        return LetterDetailResponse.fromEntity(
+                letter,
+                profiles.get(letter.getSender().getId()),
+                profiles.get(letter.getReceiver().getId()),
+                letterThemeRegistry.codeOf(themeId),
+                isBookmarked
+        );
     }
 
     // 편지 즐겨찾기/취소 (PUT /api/letters/{letterId}/bookmark)
@@ -182,9 +224,10 @@ public class LetterService {
         Letter letter = letterRepository.findById(letterId)
                 .orElseThrow(() -> new CoreApiException(ErrorCode.LETTER_NOT_FOUND,
                         "편지를 찾을 수 없습니다. letterId=" + letterId));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
-                        "사용자를 찾을 수 없습니다. userId=" + userId));
+        if (userProfileCache.find(userId).isEmpty()) {
+            throw new CoreApiException(ErrorCode.NOT_FOUND_ID_EXCEPTION,
+                    "사용자를 찾을 수 없습니다. userId=" + userId);
+        }
 
         boolean isSender = letter.getSender().getId().equals(userId);
         boolean isReceiver = letter.getReceiver().getId().equals(userId);
@@ -201,7 +244,7 @@ public class LetterService {
             return false;
         } else {
             LetterFavorite favorite = LetterFavorite.builder()
-                    .user(user)
+                    .user(userRepository.getReferenceById(userId))
                     .letter(letter)
                     .build();
             letterFavoriteRepository.save(favorite);
@@ -220,14 +263,25 @@ public class LetterService {
             throw new AccessDeniedException("해당 편지를 삭제할 권한이 없습니다.");
         }
 
+        Long counterpartId;
         if (letter.getSender().getId().equals(currentUserId)) {
             letter.softDeleteBySender();
+            counterpartId = letter.getReceiver().getId();
         } else {
+            // 읽지 않은 편지를 처음 삭제할 때만 안 읽은 편지 수에서 제외 (같은 편지를 다시 삭제해도 한 번만 감소)
+            boolean unreadRemoved = !letter.getIsDeletedByReceiver() && !letter.getIsRead();
             letter.softDeleteByReceiver();
+            counterpartId = letter.getSender().getId();
+
+            if (unreadRemoved) {
+                userCounterService.letterRead(currentUserId);
+            }
         }
 
         if (letter.isPermanentlyDeletable()) {
             letterRepository.delete(letter);
         }
+
+        conversationSummaryService.onLetterDeleted(currentUserId, counterpartId);
     }
 }
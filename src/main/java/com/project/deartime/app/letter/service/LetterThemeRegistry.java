@@ -0,0 +1,98 @@
+package com.project.deartime.app.letter.service;
+
+import com.project.deartime.app.letter.dto.LetterThemeInfo;
+import com.project.deartime.app.letter.repository.LetterThemeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 편지 테마 레지스트리 (메모리 캐시)
+ * - 테마는 거의 바뀌지 않는 기준 데이터이므로, 전체를 읽어 code / id 로 조회할 수 있는 불변 스냅샷으로 보관
+ * - 편지 전송 / 조회 시 테마 조회 쿼리 없이 code ↔ id 변환
+ * - 주기적으로 다시 읽고, 테마를 변경한 경우 refresh() 로 즉시 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LetterThemeRegistry {
+
+    public static final String DEFAULT_THEME_CODE = "theme1";
+
+    private final LetterThemeRepository letterThemeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * DB 에서 테마 전체를 다시 읽어 스냅샷 교체
+     */
+    @Scheduled(
+            initialDelayString = "${letter.theme-registry.refresh-interval-ms:600000}",
+            fixedDelayString = "${letter.theme-registry.refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        try {
+            snapshot = Snapshot.of(letterThemeRepository.findAllThemeInfos());
+            log.debug("[LETTER THEME] 테마 레지스트리 갱신. count={}", snapshot.byId().size());
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷 유지
+            log.error("[LETTER THEME] 테마 레지스트리 갱신 실패", e);
+        }
+    }
+
+    public Optional<LetterThemeInfo> findByCode(String code) {
+        return Optional.ofNullable(snapshot.byCode().get(code));
+    }
+
+    /**
+     * 기본 테마(theme1) 조회
+     * 서버 시작 이후에 테마 데이터가 들어간 경우를 위해, 없으면 한 번 다시 읽고 확인
+     */
+    public Optional<LetterThemeInfo> findDefault() {
+        Optional<LetterThemeInfo> theme = findByCode(DEFAULT_THEME_CODE);
+        if (theme.isPresent()) {
+            return theme;
+        }
+
+        refresh();
+        return findByCode(DEFAULT_THEME_CODE);
+    }
+
+    /**
+     * 테마 id → code (테마가 없거나 알 수 없는 id 면 null)
+     */
+    public String codeOf(Long themeId) {
+        if (themeId == null) {
+            return null;
+        }
+        LetterThemeInfo theme = snapshot.byId().get(themeId);
+        return theme != null ? theme.code() : null;
+    }
+
+    private record Snapshot(Map<String, LetterThemeInfo> byCode, Map<Long, LetterThemeInfo> byId) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        static Snapshot of(List<LetterThemeInfo> themes) {
+            Map<String, LetterThemeInfo> byCode = new HashMap<>();
+            Map<Long, LetterThemeInfo> byId = new HashMap<>();
+            for (LetterThemeInfo theme : themes) {
+                byCode.put(theme.code(), theme);
+                byId.put(theme.id(), theme);
+            }
+            return new Snapshot(Map.copyOf(byCode), Map.copyOf(byId));
+        }
+    }
+}
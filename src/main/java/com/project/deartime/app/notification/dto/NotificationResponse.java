@@ -2,6 +2,7 @@ package com.project.deartime.app.notification.dto;
 
 import com.project.deartime.app.domain.Notification;
 import com.project.deartime.app.notification.domain.NotificationType;
+import com.project.deartime.app.notification.repository.DispatchedNotification;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -39,5 +40,17 @@ public class NotificationResponse {
                 .createdAt(notification.getCreatedAt())
                 .build();
     }
-}
 
+    public static NotificationResponse from(DispatchedNotification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .senderNickname(notification.getSenderNickname())
+                .contentTitle(notification.getContentTitle())
+                .targetId(notification.getTargetId())
+                .content(notification.getContent())
+                .isRead(false)
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
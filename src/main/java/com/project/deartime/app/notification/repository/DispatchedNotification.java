@@ -0,0 +1,28 @@
+package com.project.deartime.app.notification.repository;
+
+import com.project.deartime.app.notification.domain.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열에서 Notification 으로 옮겨진 알림
+ */
+public interface DispatchedNotification {
+
+    Long getId();
+
+    Long getUserId();
+
+    NotificationType getType();
+
+    String getContent();
+
+    String getSenderNickname();
+
+    String getContentTitle();
+
+    Long getTargetId();
+
+    // 대기열에 기록된 시각 (알림 생성 시각으로 그대로 사용)
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,13 @@
+package com.project.deartime.app.notification.repository;
+
+import com.project.deartime.app.domain.NotificationOutbox;
+
+import java.util.List;
+
+/**
+ * 알림 대기열 일괄 기록 (IDENTITY 키라 JPA saveAll 은 한 건씩 INSERT 되므로 JDBC 배치 사용)
+ */
+public interface NotificationOutboxBatchRepository {
+
+    void insertAll(List<NotificationOutbox> outboxes);
+}
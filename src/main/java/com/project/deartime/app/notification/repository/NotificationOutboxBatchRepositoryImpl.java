@@ -0,0 +1,45 @@
+package com.project.deartime.app.notification.repository;
+
+import com.project.deartime.app.domain.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NotificationOutboxBatchRepositoryImpl implements NotificationOutboxBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<NotificationOutbox> outboxes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notification_outbox " +
+                        "(receiver_id, type, content, sender_nickname, content_title, target_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                outboxes,
+                BATCH_SIZE,
+                (ps, outbox) -> {
+                    ps.setLong(1, outbox.getReceiverId());
+                    ps.setString(2, outbox.getType().name());
+                    ps.setString(3, outbox.getContent());
+                    ps.setString(4, outbox.getSenderNickname());
+                    ps.setString(5, outbox.getContentTitle());
+                    if (outbox.getTargetId() != null) {
+                        ps.setLong(6, outbox.getTargetId());
+                    } else {
+                        ps.setNull(6, Types.BIGINT);
+                    }
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                }
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.deartime.app.notification.repository;
+
+import com.project.deartime.app.domain.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository
+        extends JpaRepository<NotificationOutbox, Long>, NotificationOutboxBatchRepository {
+
+    /**
+     * 대기열 앞쪽 항목을 선점해 삭제하고, 같은 문장에서 Notification 행으로 한 번에 삽입
+     * SKIP LOCKED 로 여러 발송 스레드 / 인스턴스가 동시에 실행되어도 같은 항목을 중복 발송하지 않음
+     * 트랜잭션이 롤백되면 대기열 항목도 그대로 남아 다음 발송 때 다시 처리됨
+     */
+    @Query(value = "WITH claimed AS (" +
+            "    DELETE FROM notification_outbox WHERE id IN (" +
+            "        SELECT id FROM notification_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED" +
+            "    ) RETURNING id, receiver_id, type, content, sender_nickname, content_title, target_id, created_at" +
+            ") " +
+            "INSERT INTO notification " +
+            "(user_id, type, content, sender_nickname, content_title, target_id, is_read, created_at, updated_at) " +
+            "SELECT receiver_id, type, content, sender_nickname, content_title, target_id, FALSE, created_at, created_at " +
+            "FROM claimed ORDER BY id " +
+            "RETURNING id AS id, user_id AS userId, type AS type, content AS content, " +
+            "sender_nickname AS senderNickname, content_title AS contentTitle, target_id AS targetId, " +
+            "created_at AS createdAt",
+            nativeQuery = true)
+    List<DispatchedNotification> dispatchBatch(@Param("limit") int limit);
+}
@@ -0,0 +1,196 @@
+package com.project.deartime.app.notification.scheduler;
+
+import com.project.deartime.app.counter.service.UserCounterService;
+import com.project.deartime.app.notification.dto.NotificationResponse;
+import com.project.deartime.app.notification.repository.DispatchedNotification;
+import com.project.deartime.app.notification.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 대기열(notification_outbox) 발송기
+ * - 알림을 기록한 트랜잭션이 커밋되면 wakeUp() 으로 전용 스레드 풀에서 즉시 발송
+ * - 배치마다 대기열 → Notification 이동 + 카운터 반영을 한 트랜잭션으로 처리하고, 커밋 후 웹소켓 전송
+ * - 놓친 항목(다른 인스턴스에서 기록, 발송 중 종료 등)은 주기적인 폴링으로 처리
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final String NOTIFICATION_DESTINATION = "/sub/notifications/";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserCounterService userCounterService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxConcurrentDrains;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicInteger runningDrains = new AtomicInteger();
+
+    // 발송 요청이 들어왔지만 아직 그 요청 이후의 대기열을 확인하지 않음
+    // (모든 발송 스레드가 동작 중이라 새 스레드를 띄우지 못한 요청을 실행 중인 스레드가 이어받도록)
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private final Counter dispatchedCounter;
+    private final Timer dispatchLagTimer;
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxRepository notificationOutboxRepository,
+            UserCounterService userCounterService,
+            SimpMessagingTemplate messagingTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.batch-size:200}") int batchSize,
+            @Value("${notification.outbox.dispatcher-threads:2}") int dispatcherThreads
+    ) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userCounterService = userCounterService;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxConcurrentDrains = Math.max(1, dispatcherThreads);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(maxConcurrentDrains);
+        this.executor.setMaxPoolSize(maxConcurrentDrains);
+        this.executor.setQueueCapacity(0);
+        this.executor.setThreadNamePrefix("notification-dispatch-");
+        this.executor.initialize();
+
+        this.dispatchedCounter = Counter.builder("notification.outbox.dispatched")
+                .description("대기열에서 발송된 알림 수")
+                .register(meterRegistry);
+        this.dispatchLagTimer = Timer.builder("notification.outbox.dispatch.lag")
+                .description("알림이 대기열에 기록된 뒤 발송되기까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.depth", queueDepth, AtomicLong::get)
+                .description("발송 대기 중인 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기열 발송 요청 (이미 모든 발송 스레드가 동작 중이면 그 스레드들이 끝나기 전에 대기열을 다시 확인)
+     */
+    public void wakeUp() {
+        pending.set(true);
+        if (runningDrains.incrementAndGet() > maxConcurrentDrains) {
+            runningDrains.decrementAndGet();
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            runningDrains.decrementAndGet();
+            log.debug("[NOTIFICATION] 발송 스레드가 모두 사용 중이라 요청을 건너뜀");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        queueDepth.set(notificationOutboxRepository.count());
+        if (queueDepth.get() > 0) {
+            wakeUp();
+        }
+    }
+
+    private void drain() {
+        boolean failed = false;
+        try {
+            // 처리 중 들어온 발송 요청이 있으면 대기열을 다시 확인
+            do {
+                pending.set(false);
+                while (dispatchBatch() >= batchSize) {
+                    // 대기열이 빌 때까지 계속 처리
+                }
+            } while (pending.get());
+        } catch (Exception e) {
+            failed = true;
+            log.error("[NOTIFICATION] 알림 대기열 발송 실패", e);
+        } finally {
+            runningDrains.decrementAndGet();
+        }
+
+        // 마지막 확인과 종료 사이에 들어와 건너뛴 요청 처리 (실패했으면 다음 폴링에서 재시도)
+        if (!failed && pending.get()) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 배치 1회: 대기열 → Notification 이동 + 카운터 반영(한 트랜잭션) → 커밋 후 웹소켓 전송
+     *
+     * @return 발송한 알림 수
+     */
+    private int dispatchBatch() {
+        List<DispatchedNotification> dispatched = transactionTemplate.execute(status -> {
+            List<DispatchedNotification> notifications = notificationOutboxRepository.dispatchBatch(batchSize);
+
+            Map<Long, Long> countsByUser = notifications.stream()
+                    .collect(Collectors.groupingBy(DispatchedNotification::getUserId, Collectors.counting()));
+            countsByUser.forEach((userId, count) ->
+                    userCounterService.notificationsCreated(userId, count.intValue()));
+
+            return notifications;
+        });
+
+        if (dispatched == null || dispatched.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        dispatched.stream()
+                .sorted(Comparator.comparing(DispatchedNotification::getId))
+                .forEach(notification -> {
+                    dispatchLagTimer.record(Duration.between(notification.getCreatedAt(), now));
+                    send(notification);
+                });
+
+        dispatchedCounter.increment(dispatched.size());
+        queueDepth.set(Math.max(0, queueDepth.get() - dispatched.size()));
+
+        log.info("[NOTIFICATION] 알림 발송 완료. count={}", dispatched.size());
+        return dispatched.size();
+    }
+
+    private void send(DispatchedNotification notification) {
+        try {
+            messagingTemplate.convertAndSend(
+                    NOTIFICATION_DESTINATION + notification.getUserId(),
+                    NotificationResponse.from(notification)
+            );
+            log.debug("[WEBSOCKET] 알림 전송 성공. userId={}", notification.getUserId());
+        } catch (Exception e) {
+            log.error("[WEBSOCKET] 알림 전송 실패. userId={}", notification.getUserId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,10 +1,14 @@
 package com.project.deartime.app.notification.service;
 
+import com.project.deartime.app.counter.service.UserCounterService;
 import com.project.deartime.app.domain.Notification;
+import com.project.deartime.app.domain.NotificationOutbox;
 import com.project.deartime.app.domain.User;
 import com.project.deartime.app.notification.domain.NotificationType;
 import com.project.deartime.app.notification.dto.NotificationResponse;
+import com.project.deartime.app.notification.repository.NotificationOutboxRepository;
 import com.project.deartime.app.notification.repository.NotificationRepository;
+import com.project.deartime.app.notification.scheduler.NotificationOutboxDispatcher;
 import com.project.deartime.global.dto.PageResponse;
 import com.project.deartime.global.exception.CoreApiException;
 import com.project.deartime.global.exception.ErrorCode;
@@ -12,9 +16,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 @Slf4j
 @Service
@@ -23,58 +30,90 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+    private final UserCounterService userCounterService;
 
-    private static final String NOTIFICATION_DESTINATION = "/sub/notifications/";
+    // Notification.contentTitle 컬럼 길이 (캡슐 제목은 이보다 길 수 있음)
+    private static final int CONTENT_TITLE_MAX_LENGTH = 100;
 
     /**
-     * 알림 생성 및 웹소켓 전송
+     * 알림 대기열에 기록 (호출한 작업과 같은 트랜잭션)
+     * Notification 저장과 웹소켓 전송은 커밋 후 NotificationOutboxDispatcher 가 수행하므로,
+     * 롤백된 작업의 알림은 발송되지 않고 요청 트랜잭션은 브로커를 기다리지 않음
      */
     @Transactional
-    public NotificationResponse createAndSendNotification(
+    public void enqueueNotification(
             User receiver,
             NotificationType type,
             String senderNickname,
             String contentTitle,
             Long targetId
     ) {
-        String content = buildNotificationContent(type, senderNickname);
+        NotificationOutbox outbox = buildOutbox(receiver.getId(), type, senderNickname, contentTitle, targetId);
 
-        Notification notification = Notification.builder()
-                .user(receiver)
-                .type(type)
-                .content(content)
-                .senderNickname(senderNickname)
-                .contentTitle(contentTitle)
-                .targetId(targetId)
-                .isRead(false)
-                .build();
+        notificationOutboxRepository.save(outbox);
+        wakeUpDispatcherAfterCommit();
 
-        Notification savedNotification = notificationRepository.save(notification);
-        NotificationResponse response = NotificationResponse.from(savedNotification);
+        log.info("[NOTIFICATION] 알림 대기열 기록. userId={}, type={}, targetId={}",
+                receiver.getId(), type, targetId);
+    }
 
-        // 웹소켓으로 실시간 알림 전송
-        sendWebSocketNotification(receiver.getId(), response);
+    /**
+     * 여러 알림을 한 번에 대기열에 기록 (스케줄러 등 대량 발송용, JDBC 배치 INSERT)
+     */
+    @Transactional
+    public void enqueueNotifications(List<NotificationOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
 
-        log.info("[NOTIFICATION] 알림 생성 및 전송 완료. userId={}, type={}, targetId={}",
-                receiver.getId(), type, targetId);
+        notificationOutboxRepository.insertAll(outboxes);
+        wakeUpDispatcherAfterCommit();
+    }
 
-        return response;
+    /**
+     * 대기열 항목 생성 (저장하지 않음)
+     */
+    public NotificationOutbox buildOutbox(
+            Long receiverId,
+            NotificationType type,
+            String senderNickname,
+            String contentTitle,
+            Long targetId
+    ) {
+        return NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .type(type)
+                .content(buildNotificationContent(type, senderNickname))
+                .senderNickname(senderNickname)
+                .contentTitle(truncate(contentTitle, CONTENT_TITLE_MAX_LENGTH))
+                .targetId(targetId)
+                .build();
     }
 
     /**
-     * 웹소켓으로 알림 전송
+     * 커밋 후 발송기 깨우기 (롤백되면 대기열 항목도 함께 사라짐)
      */
-    private void sendWebSocketNotification(Long userId, NotificationResponse notification) {
-        try {
-            messagingTemplate.convertAndSend(
-                    NOTIFICATION_DESTINATION + userId,
-                    notification
-            );
-            log.debug("[WEBSOCKET] 알림 전송 성공. userId={}", userId);
-        } catch (Exception e) {
-            log.error("[WEBSOCKET] 알림 전송 실패. userId={}", userId, e);
+    private void wakeUpDispatcherAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationOutboxDispatcher.wakeUp();
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationOutboxDispatcher.wakeUp();
+            }
+        });
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
     }
 
     /**
@@ -92,7 +131,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyLetterReceived(User receiver, Long letterId, String senderNickname, String letterTitle) {
-        createAndSendNotification(
+        enqueueNotification(
                 receiver,
                 NotificationType.LETTER_RECEIVED,
                 senderNickname,
@@ -106,7 +145,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyCapsuleReceived(User receiver, Long capsuleId, String senderNickname, String capsuleTitle) {
-        createAndSendNotification(
+        enqueueNotification(
                 receiver,
                 NotificationType.CAPSULE_RECEIVED,
                 senderNickname,
@@ -120,7 +159,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyCapsuleOpened(User receiver, Long capsuleId, String senderNickname, String capsuleTitle) {
-        createAndSendNotification(
+        enqueueNotification(
                 receiver,
                 NotificationType.CAPSULE_OPENED,
                 senderNickname,
@@ -134,7 +173,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyFriendRequest(User receiver, Long requesterId, String requesterNickname) {
-        createAndSendNotification(
+        enqueueNotification(
                 receiver,
                 NotificationType.FRIEND_REQUEST,
                 requesterNickname,
@@ -148,7 +187,7 @@ public class NotificationService {
      */
     @Transactional
     public void notifyFriendAccept(User receiver, Long accepterId, String accepterNickname) {
-        createAndSendNotification(
+        enqueueNotification(
                 receiver,
                 NotificationType.FRIEND_ACCEPT,
                 accepterNickname,
@@ -171,10 +210,11 @@ public class NotificationService {
     }
 
     /**
-     * 읽지 않은 알림 개수 조회
+     * 읽지 않은 알림 개수 조회 (매번 COUNT 하지 않고 사용자 카운터에서 조회)
      */
+    @Transactional
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return userCounterService.getCounters(userId).unreadNotifications();
     }
 
     /**
@@ -192,7 +232,10 @@ public class NotificationService {
                     "해당 알림에 접근할 권한이 없습니다.");
         }
 
-        notification.markAsRead();
+        if (!notification.getIsRead()) {
+            notification.markAsRead();
+            userCounterService.notificationRead(userId);
+        }
 
         return NotificationResponse.from(notification);
     }
@@ -203,6 +246,7 @@ public class NotificationService {
     @Transactional
     public void deleteAllNotifications(Long userId) {
         notificationRepository.deleteAllByUserId(userId);
+        userCounterService.notificationsCleared(userId);
         log.info("[NOTIFICATION] 모든 알림 삭제. userId={}", userId);
     }
 }
@@ -0,0 +1,63 @@
+package com.project.deartime.app.search;
+
+import com.project.deartime.app.search.repository.SearchIndexRepository;
+import com.project.deartime.app.search.repository.SearchIndexRepository.SearchTable;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 컬럼 / GIN 인덱스 생성
+ * ddl-auto 는 tsvector 컬럼과 GIN 인덱스를 만들 수 없으므로 직접 생성
+ * - 컬럼: 작성 시 색인에 필요하므로 Hibernate 가 테이블을 만든 뒤(entityManagerFactory 초기화 이후) 요청을 받기 전에 생성
+ *   (nullable 컬럼 추가라 바로 끝남)
+ * - 인덱스: 큰 테이블에서는 오래 걸리므로 시작 후 별도 스레드에서 CREATE INDEX CONCURRENTLY 로 생성
+ *   (애플리케이션 기동 / 운영 중인 다른 인스턴스의 쓰기를 막지 않음)
+ *   확장을 만들 권한이 없거나 생성에 실패해도 기동은 계속하고, 검색은 인덱스 없이 (느리게) 동작
+ *   실패해 INVALID 로 남은 인덱스는 다음 기동 때 다시 만듦
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SearchSchemaInitializer {
+
+    private final SearchIndexRepository searchIndexRepository;
+
+    @PostConstruct
+    public void createColumns() {
+        searchIndexRepository.createColumns();
+        log.info("[SEARCH] 검색 색인 컬럼 확인 완료");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startIndexBuild() {
+        Thread builder = new Thread(this::buildIndexes, "search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    private void buildIndexes() {
+        try {
+            searchIndexRepository.createBtreeGinExtension();
+        } catch (Exception e) {
+            log.warn("[SEARCH] btree_gin 확장 생성 실패, 사용자별 검색 인덱스 없이 동작", e);
+            return;
+        }
+
+        for (SearchTable table : SearchTable.values()) {
+            long startedNanos = System.nanoTime();
+            try {
+                searchIndexRepository.createIndexesConcurrently(table);
+                log.info("[SEARCH] 검색 인덱스 확인 완료. table={}, elapsedMs={}",
+                        table, (System.nanoTime() - startedNanos) / 1_000_000);
+            } catch (Exception e) {
+                log.error("[SEARCH] 검색 인덱스 생성 실패. table={}", table, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.deartime.app.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인 / 검색어 토큰화 유틸
+ * - 한글 등 CJK 문자열은 형태소 분석 없이 2글자 단위(bigram)로 자름 (조사가 붙어도 검색되도록)
+ * - 그 외 문자 / 숫자는 단어 단위
+ * - 결과는 PostgreSQL 'simple' 설정의 to_tsvector / to_tsquery 입력으로 사용
+ */
+public class SearchTokenizer {
+
+    /** 단어 토큰 최대 길이 (이보다 긴 단어는 잘라서 색인) */
+    private static final int MAX_WORD_LENGTH = 64;
+
+    /** 검색어에서 사용할 최대 토큰 수 */
+    private static final int MAX_QUERY_TOKENS = 32;
+
+    /**
+     * 색인할 문서 텍스트 (중복 제거한 토큰을 공백으로 연결)
+     */
+    public static String toDocument(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (Segment segment : segment(text)) {
+                if (segment.cjk()) {
+                    tokens.addAll(bigrams(segment.text()));
+                } else {
+                    tokens.add(segment.text());
+                }
+            }
+        }
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * 검색어 → to_tsquery 문자열 (모든 토큰을 AND 로 연결)
+     * - 단어 / 한 글자 CJK 검색어는 접두어 검색 (입력 중인 검색어도 결과가 나오도록)
+     *
+     * @return 검색할 토큰이 없으면 null
+     */
+    public static String toQuery(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (Segment segment : segment(query)) {
+            if (segment.cjk() && segment.text().codePointCount(0, segment.text().length()) > 1) {
+                for (String bigram : bigrams(segment.text())) {
+                    terms.add(quote(bigram));
+                }
+            } else {
+                terms.add(quote(segment.text()) + ":*");
+            }
+        }
+
+        if (terms.isEmpty()) {
+            return null;
+        }
+        return terms.stream()
+                .limit(MAX_QUERY_TOKENS)
+                .collect(Collectors.joining(" & "));
+    }
+
+    /**
+     * 정규화(NFKC + 소문자) 후 문자 / 숫자 구간을 CJK 여부가 바뀌는 지점에서 나눔
+     */
+    private static List<Segment> segment(String text) {
+        List<Segment> segments = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return segments;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        boolean currentCjk = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(segments, current, currentCjk);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            if (current.length() > 0 && cjk != currentCjk) {
+                flush(segments, current, currentCjk);
+            }
+            currentCjk = cjk;
+            current.appendCodePoint(codePoint);
+        }
+        flush(segments, current, currentCjk);
+
+        return segments;
+    }
+
+    private static void flush(List<Segment> segments, StringBuilder current, boolean cjk) {
+        if (current.length() == 0) {
+            return;
+        }
+
+        String text = current.toString();
+        if (!cjk && text.codePointCount(0, text.length()) > MAX_WORD_LENGTH) {
+            text = text.substring(0, text.offsetByCodePoints(0, MAX_WORD_LENGTH));
+        }
+        segments.add(new Segment(text, cjk));
+        current.setLength(0);
+    }
+
+    /**
+     * code point 기준 2-gram (한 글자면 그대로)
+     */
+    private static List<String> bigrams(String text) {
+        int[] codePoints = text.codePoints().toArray();
+        List<String> bigrams = new ArrayList<>(Math.max(1, codePoints.length - 1));
+
+        if (codePoints.length == 1) {
+            bigrams.add(text);
+            return bigrams;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            bigrams.add(new String(codePoints, i, 2));
+        }
+        return bigrams;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    /**
+     * tsquery 어휘(lexeme) 인용 (토큰은 문자 / 숫자로만 이루어지지만 안전하게 처리)
+     */
+    private static String quote(String token) {
+        return "'" + token.replace("'", "''").replace("\\", "\\\\") + "'";
+    }
+
+    private record Segment(String text, boolean cjk) {
+    }
+}
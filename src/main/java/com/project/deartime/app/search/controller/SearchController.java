@@ -0,0 +1,44 @@
+package com.project.deartime.app.search.controller;
+
+import com.project.deartime.app.search.dto.SearchResponse;
+import com.project.deartime.app.search.service.SearchService;
+import com.project.deartime.global.dto.ApiResponseTemplete;
+import com.project.deartime.global.exception.SuccessCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 편지 / 타임캡슐 검색
+     * GET /api/search?q={검색어}&cursor={다음 페이지 커서}&size={페이지 크기}
+     */
+    @GetMapping("/api/search")
+    public ResponseEntity<ApiResponseTemplete<SearchResponse>> search(
+            @AuthenticationPrincipal String userId,
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Long myId = Long.parseLong(userId);
+
+        SearchResponse response = searchService.search(myId, query, cursor, size);
+
+        SuccessCode successCode = response.results().isEmpty()
+                ? SuccessCode.SEARCH_EMPTY
+                : SuccessCode.SEARCH_SUCCESS;
+
+        return ApiResponseTemplete.success(
+                successCode,
+                response
+        );
+    }
+}
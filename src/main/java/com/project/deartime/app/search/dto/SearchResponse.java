@@ -0,0 +1,18 @@
+package com.project.deartime.app.search.dto;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record SearchResponse(
+        List<SearchResultResponse> results,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static SearchResponse empty() {
+        return new SearchResponse(List.of(), null, false);
+    }
+}
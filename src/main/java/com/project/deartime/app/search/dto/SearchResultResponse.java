@@ -0,0 +1,31 @@
+package com.project.deartime.app.search.dto;
+
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.search.repository.SearchIndexRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 1건
+ *
+ * @param type    LETTER / CAPSULE
+ * @param id      편지 또는 타임캡슐 id
+ * @param snippet 본문 요약
+ */
+public record SearchResultResponse(
+        String type,
+        Long id,
+        String title,
+        String snippet,
+        LocalDateTime createdAt
+) {
+    public static SearchResultResponse from(SearchIndexRepository.SearchRow row) {
+        return new SearchResultResponse(
+                row.type(),
+                row.id(),
+                row.title(),
+                Letter.summarize(row.snippet()),
+                row.createdAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.deartime.app.search.repository;
+
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 keyset 페이지네이션 커서 (마지막 결과의 정렬 키)
+ * 클라이언트에는 불투명한 문자열로 전달
+ */
+public record SearchCursor(float rank, String type, long id) {
+
+    public static SearchCursor of(SearchIndexRepository.SearchRow row) {
+        return new SearchCursor(row.rank(), row.type(), row.id());
+    }
+
+    public String encode() {
+        String raw = rank + ":" + type + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new SearchCursor(Float.parseFloat(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new CoreApiException(ErrorCode.INVALID_INPUT_VALUE, "검색 커서가 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.project.deartime.app.search.repository;
+
+import com.project.deartime.app.domain.Letter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 편지 / 타임캡슐 전문 검색 색인 저장소 (PostgreSQL tsvector + GIN)
+ * - 각 테이블의 search_vector 컬럼에 SearchTokenizer 로 만든 토큰을 to_tsvector('simple') 로 저장
+ * - 인덱스는 (sender_id, search_vector) / (receiver_id, search_vector) 복합 GIN (btree_gin)
+ *   검색은 항상 한 사용자의 문서만 대상이므로, 전체 문서에서 찾은 뒤 사용자로 거르지 않고 사용자 범위 안에서만 찾음
+ * - 엔티티에는 매핑하지 않음 (일반 조회 시 색인 데이터를 읽지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 색인 컬럼 생성 (이미 있으면 무시, nullable 컬럼 추가라 테이블을 다시 쓰지 않음)
+     */
+    public void createColumns() {
+        for (SearchTable table : SearchTable.values()) {
+            jdbcTemplate.execute("ALTER TABLE " + table.tableName + " ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        }
+    }
+
+    /**
+     * (사용자 id, search_vector) 복합 GIN 인덱스에 필요한 btree_gin 확장 생성 (이미 있으면 무시)
+     * DB 계정에 확장 생성 권한이 없으면 예외
+     */
+    public void createBtreeGinExtension() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gin");
+    }
+
+    /**
+     * 한 테이블의 사용자별 GIN 인덱스 생성 (CREATE INDEX CONCURRENTLY, 쓰기를 막지 않음)
+     * - CONCURRENTLY 는 트랜잭션 안에서 실행할 수 없으므로 트랜잭션 밖(autocommit)에서 호출해야 함
+     * - 이전 실행이 중간에 실패해 INVALID 로 남은 인덱스는 지우고 다시 만듦
+     * - 사용자 범위 인덱스로 대체된 전체 문서 GIN 인덱스는 두 인덱스가 모두 만들어진 뒤 삭제
+     */
+    public void createIndexesConcurrently(SearchTable table) {
+        createIndexConcurrently("idx_" + table.tableName + "_sender_search",
+                table.tableName + " USING GIN (sender_id, search_vector)");
+        createIndexConcurrently("idx_" + table.tableName + "_receiver_search",
+                table.tableName + " USING GIN (receiver_id, search_vector)");
+        jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS idx_" + table.tableName + "_search_vector");
+    }
+
+    private void createIndexConcurrently(String indexName, String definition) {
+        List<Boolean> valid = jdbcTemplate.queryForList(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "WHERE c.relname = ? AND pg_catalog.pg_table_is_visible(c.oid)",
+                Boolean.class, indexName);
+        if (!valid.isEmpty() && valid.get(0)) {
+            return;
+        }
+        if (!valid.isEmpty()) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName + " ON " + definition);
+    }
+
+    /**
+     * 문서 1건 색인 (작성 트랜잭션 안에서 호출)
+     */
+    public void index(SearchTable table, Long id, String document) {
+        jdbcTemplate.update(
+                "UPDATE " + table.tableName + " SET search_vector = to_tsvector('simple', ?) WHERE id = ?",
+                document, id
+        );
+    }
+
+    /**
+     * 여러 문서를 배치로 색인 (백필용)
+     */
+    public void indexAll(SearchTable table, List<IndexDocument> documents) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + table.tableName + " SET search_vector = to_tsvector('simple', ?) WHERE id = ?",
+                documents,
+                BATCH_SIZE,
+                (ps, document) -> {
+                    ps.setString(1, document.document());
+                    ps.setLong(2, document.id());
+                }
+        );
+    }
+
+    /**
+     * 아직 색인되지 않은 문서를 id 순으로 조회 (백필용)
+     */
+    public List<UnindexedRow> findUnindexed(SearchTable table, long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, title, content FROM " + table.tableName
+                        + " WHERE search_vector IS NULL AND id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new UnindexedRow(rs.getLong("id"), rs.getString("title"), rs.getString("content")),
+                afterId, limit
+        );
+    }
+
+    /**
+     * 사용자가 볼 수 있는 편지 + 열람 가능한 타임캡슐 통합 검색
+     * - 보낸 문서 / 받은 문서를 나눠 각각 (sender_id | receiver_id, search_vector) 인덱스로 조회
+     *   (받은 쪽은 자기 자신에게 보낸 문서를 빼서 중복 없이 합침)
+     * - 정렬: 관련도(ts_rank) → 종류 → id 내림차순
+     * - 같은 정렬 키로 다음 페이지를 이어서 조회 (keyset)
+     * - 편지: 보낸 사람 / 받은 사람 본인이 삭제하지 않은 것만
+     * - 타임캡슐: 보낸 것 전체 + 받은 것 중 openAt 이 지난 것만 (내용이 공개된 캡슐)
+     */
+    public List<SearchRow> search(Long userId, String tsQuery, SearchCursor cursor, LocalDateTime now, int limit) {
+        String sql = "SELECT * FROM (" +
+                "    SELECT 'LETTER' AS type, l.id AS id, l.title AS title, " +
+                "           COALESCE(l.summary, left(l.content, :previewLength)) AS snippet, " +
+                "           l.created_at AS created_at, ts_rank(l.search_vector, to_tsquery('simple', :query)) AS rank " +
+                "    FROM letters l " +
+                "    WHERE l.sender_id = :userId AND l.search_vector @@ to_tsquery('simple', :query) " +
+                "      AND l.is_deleted_by_sender = FALSE " +
+                "    UNION ALL " +
+                "    SELECT 'LETTER', l.id, l.title, COALESCE(l.summary, left(l.content, :previewLength)), " +
+                "           l.created_at, ts_rank(l.search_vector, to_tsquery('simple', :query)) " +
+                "    FROM letters l " +
+                "    WHERE l.receiver_id = :userId AND l.search_vector @@ to_tsquery('simple', :query) " +
+                "      AND l.is_deleted_by_receiver = FALSE " +
+                "      AND NOT (l.sender_id = :userId AND l.is_deleted_by_sender = FALSE) " +
+                "    UNION ALL " +
+                "    SELECT 'CAPSULE', c.id, c.title, left(c.content, :previewLength), " +
+                "           c.created_at, ts_rank(c.search_vector, to_tsquery('simple', :query)) " +
+                "    FROM time_capsule c " +
+                "    WHERE c.sender_id = :userId AND c.search_vector @@ to_tsquery('simple', :query) " +
+                "    UNION ALL " +
+                "    SELECT 'CAPSULE', c.id, c.title, left(c.content, :previewLength), " +
+                "           c.created_at, ts_rank(c.search_vector, to_tsquery('simple', :query)) " +
+                "    FROM time_capsule c " +
+                "    WHERE c.receiver_id = :userId AND c.search_vector @@ to_tsquery('simple', :query) " +
+                "      AND c.open_at <= :now AND c.sender_id <> :userId " +
+                ") result " +
+                "WHERE :first OR (result.rank, result.type, result.id) " +
+                "    < (CAST(:cursorRank AS real), CAST(:cursorType AS text), CAST(:cursorId AS bigint)) " +
+                "ORDER BY result.rank DESC, result.type DESC, result.id DESC " +
+                "LIMIT :limit";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("query", tsQuery)
+                .addValue("previewLength", Letter.SUMMARY_LENGTH + 1)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("first", cursor == null)
+                .addValue("cursorRank", cursor == null ? 0f : cursor.rank())
+                .addValue("cursorType", cursor == null ? "" : cursor.type())
+                .addValue("cursorId", cursor == null ? 0L : cursor.id())
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) -> new SearchRow(
+                rs.getString("type"),
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("snippet"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getFloat("rank")
+        ));
+    }
+
+    /**
+     * 검색 대상 테이블
+     */
+    public enum SearchTable {
+        LETTERS("letters"),
+        TIME_CAPSULE("time_capsule");
+
+        private final String tableName;
+
+        SearchTable(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+    public record IndexDocument(Long id, String document) {
+    }
+
+    public record UnindexedRow(Long id, String title, String content) {
+    }
+
+    public record SearchRow(
+            String type,
+            Long id,
+            String title,
+            String snippet,
+            LocalDateTime createdAt,
+            float rank
+    ) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.deartime.app.search.scheduler;
+
+import com.project.deartime.app.search.SearchTokenizer;
+import com.project.deartime.app.search.repository.SearchIndexRepository;
+import com.project.deartime.app.search.repository.SearchIndexRepository.IndexDocument;
+import com.project.deartime.app.search.repository.SearchIndexRepository.SearchTable;
+import com.project.deartime.app.search.repository.SearchIndexRepository.UnindexedRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 검색 기능 추가 이전에 저장된 편지 / 타임캡슐 색인
+ * - id 순으로 배치마다 짧은 트랜잭션으로 처리
+ * - 실행당 최대 배치 수까지만 처리하고 스케줄러 스레드를 돌려줌 (남은 문서는 다음 실행에서 이어서 처리)
+ * - 새 문서는 작성 시 색인되므로, 한 번 남은 문서가 없으면 이후 실행은 건너뜀
+ */
+@Slf4j
+@Component
+public class SearchIndexBackfillScheduler {
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private volatile boolean completed = false;
+
+    public SearchIndexBackfillScheduler(
+            SearchIndexRepository searchIndexRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${search.backfill.batch-size:500}") int batchSize,
+            @Value("${search.backfill.max-batches-per-run:20}") int maxBatchesPerRun
+    ) {
+        this.searchIndexRepository = searchIndexRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${search.backfill.interval-ms:60000}"
+    )
+    public void backfillSearchIndex() {
+        if (completed) {
+            return;
+        }
+
+        int batchesLeft = maxBatchesPerRun;
+        boolean finished = true;
+
+        for (SearchTable table : SearchTable.values()) {
+            Progress progress = backfill(table, batchesLeft);
+            batchesLeft -= progress.batches();
+            if (progress.indexed() > 0) {
+                log.info("[SEARCH] 검색 색인 백필. table={}, count={}, finished={}",
+                        table, progress.indexed(), progress.finished());
+            }
+            if (!progress.finished()) {
+                finished = false;
+                break;
+            }
+        }
+        completed = finished;
+    }
+
+    /**
+     * 한 테이블을 최대 maxBatches 배치까지 색인
+     */
+    private Progress backfill(SearchTable table, int maxBatches) {
+        long afterId = 0L;
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<UnindexedRow> rows = searchIndexRepository.findUnindexed(table, afterId, batchSize);
+            if (rows.isEmpty()) {
+                return new Progress(total, batch, true);
+            }
+
+            List<IndexDocument> documents = rows.stream()
+                    .map(row -> new IndexDocument(row.id(), SearchTokenizer.toDocument(row.title(), row.content())))
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> searchIndexRepository.indexAll(table, documents));
+
+            total += rows.size();
+            afterId = rows.get(rows.size() - 1).id();
+
+            if (rows.size() < batchSize) {
+                return new Progress(total, batch + 1, true);
+            }
+        }
+        return new Progress(total, maxBatches, false);
+    }
+
+    private record Progress(int indexed, int batches, boolean finished) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.deartime.app.search.service;
+
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.domain.TimeCapsule;
+import com.project.deartime.app.search.SearchTokenizer;
+import com.project.deartime.app.search.dto.SearchResponse;
+import com.project.deartime.app.search.dto.SearchResultResponse;
+import com.project.deartime.app.search.repository.SearchCursor;
+import com.project.deartime.app.search.repository.SearchIndexRepository;
+import com.project.deartime.app.search.repository.SearchIndexRepository.SearchTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final SearchIndexRepository searchIndexRepository;
+
+    /**
+     * 새 편지 색인 (편지 저장과 같은 트랜잭션)
+     */
+    @Transactional
+    public void indexLetter(Letter letter) {
+        searchIndexRepository.index(
+                SearchTable.LETTERS,
+                letter.getId(),
+                SearchTokenizer.toDocument(letter.getTitle(), letter.getContent())
+        );
+    }
+
+    /**
+     * 새 타임캡슐 색인 (캡슐 저장과 같은 트랜잭션)
+     */
+    @Transactional
+    public void indexCapsule(TimeCapsule capsule) {
+        searchIndexRepository.index(
+                SearchTable.TIME_CAPSULE,
+                capsule.getId(),
+                SearchTokenizer.toDocument(capsule.getTitle(), capsule.getContent())
+        );
+    }
+
+    /**
+     * 내 편지 + 열람 가능한 타임캡슐 검색 (관련도순, keyset 페이지네이션)
+     */
+    public SearchResponse search(Long userId, String query, String cursor, int size) {
+        String tsQuery = SearchTokenizer.toQuery(query);
+        if (tsQuery == null) {
+            return SearchResponse.empty();
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<SearchIndexRepository.SearchRow> rows = searchIndexRepository.search(
+                userId, tsQuery, SearchCursor.decode(cursor), LocalDateTime.now(), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? SearchCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        return new SearchResponse(
+                rows.stream().map(SearchResultResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,345 @@
+package com.project.deartime.app.service;
+
+import com.project.deartime.global.exception.CoreApiException;
+import com.project.deartime.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 파일 시스템 저장소 (storage.type=local)
+ * - FileChannel 로 임시 파일에 쓴 뒤 원자적으로 이동하므로, 쓰는 중인 파일이 조회되지 않음
+ * - 파일은 LocalFileController(/files/**)가 zero-copy 로 서빙
+ * - presigned URL 직접 업로드는 지원하지 않음
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    /** transferFrom 한 번에 옮길 최대 바이트 수 */
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    private final Path rootDir;
+    private final String baseUrl;
+    private final String basePath;
+    private final boolean fsync;
+
+    public LocalStorageService(
+            @Value("${storage.local.root-dir:./storage}") String rootDir,
+            @Value("${storage.local.base-url:http://localhost:8080/files}") String baseUrl,
+            @Value("${storage.local.fsync:true}") boolean fsync
+    ) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.basePath = URI.create(this.baseUrl).getPath() + "/";
+        this.fsync = fsync;
+
+        Files.createDirectories(this.rootDir);
+        log.info("[LOCAL STORAGE] 로컬 파일 저장소 사용. rootDir={}, baseUrl={}", this.rootDir, this.baseUrl);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) {
+        validateImageFile(file);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadFile(file, inputStream, folder);
+        } catch (IOException e) {
+            log.error("[LOCAL UPLOAD] 파일 스트림 열기 실패. originalFileName={}", file.getOriginalFilename(), e);
+            throw new CoreApiException(ErrorCode.STORAGE_FILE_UPLOAD_FAILED, e);
+        }
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, InputStream inputStream, String folder) {
+        validateImageFile(file);
+
+        String key = createFileName(file.getOriginalFilename(), folder);
+        write(key, target -> {
+            ReadableByteChannel source = Channels.newChannel(inputStream);
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        });
+
+        log.info("[LOCAL UPLOAD] 파일 업로드 성공. fileName={}", key);
+        return getFileUrl(key);
+    }
+
+    @Override
+    public String uploadBytes(byte[] content, String contentType, String key) {
+        write(key, target -> {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        });
+
+        log.debug("[LOCAL UPLOAD] 파일 업로드 성공. fileName={}", key);
+        return getFileUrl(key);
+    }
+
+    @Override
+    public InputStream openFileStream(String fileUrl) {
+        String key = extractFileNameFromUrl(fileUrl);
+
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (IOException e) {
+            log.error("[LOCAL READ] 파일 조회 실패. fileName={}", key, e);
+            throw new CoreApiException(ErrorCode.STORAGE_FILE_READ_FAILED, e);
+        }
+    }
+
+    @Override
+    public PresignedUpload createPresignedUpload(String key, String contentType, long contentLength, Duration expiry) {
+        throw new CoreApiException(ErrorCode.STORAGE_OPERATION_NOT_SUPPORTED);
+    }
+
+    @Override
+    public StorageObjectInfo getObjectInfo(String key) {
+        Path path = resolve(key);
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new StorageObjectInfo(
+                    attributes.size(),
+                    contentTypeOf(key),
+                    eTagOf(attributes),
+                    attributes.lastModifiedTime().toInstant()
+            );
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.error("[LOCAL READ] 파일 정보 조회 실패. key={}", key, e);
+            throw new CoreApiException(ErrorCode.STORAGE_FILE_READ_FAILED, e);
+        }
+    }
+
+    @Override
+    public InputStream openObjectRange(String key, long start, long end) {
+        try {
+            FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+            long length = Math.max(0, Math.min(end + 1, channel.size()) - start);
+            return new RangeInputStream(Channels.newInputStream(channel.position(start)), length);
+        } catch (IOException e) {
+            log.error("[LOCAL READ] 파일 구간 조회 실패. key={}, range={}-{}", key, start, end, e);
+            throw new CoreApiException(ErrorCode.STORAGE_FILE_READ_FAILED, e);
+        }
+    }
+
+    @Override
+    public String getFileUrl(String key) {
+        return baseUrl + "/" + Arrays.stream(key.split("/"))
+                .map(segment -> UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8))
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * URL 에서 파일 key 추출: {base-url}/{key}
+     */
+    @Override
+    public String extractFileNameFromUrl(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            log.error("[LOCAL URL] fileUrl is null or empty");
+            throw new CoreApiException(ErrorCode.INVALID_STORAGE_FILE_URL);
+        }
+
+        try {
+            String path = new URI(fileUrl).getRawPath();
+            if (path == null || !path.startsWith(basePath) || path.length() == basePath.length()) {
+                log.error("[LOCAL URL] Invalid path in URL. fileUrl={}", fileUrl);
+                throw new CoreApiException(ErrorCode.INVALID_STORAGE_FILE_URL);
+            }
+
+            String key = UriUtils.decode(path.substring(basePath.length()), StandardCharsets.UTF_8);
+            resolve(key);
+            return key;
+        } catch (URISyntaxException e) {
+            log.error("[LOCAL URL] Failed to parse URL. fileUrl={}", fileUrl, e);
+            throw new CoreApiException(ErrorCode.INVALID_STORAGE_FILE_URL);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        String key = extractFileNameFromUrl(fileUrl);
+
+        try {
+            Files.deleteIfExists(resolve(key));
+            log.info("[LOCAL DELETE] 파일 제거 성공. fileName={}", key);
+        } catch (IOException e) {
+            log.error("[LOCAL DELETE] 파일 제거 실패. fileName={}", key, e);
+            throw new CoreApiException(ErrorCode.STORAGE_FILE_DELETE_FAILED, e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteObjects(List<String> keys) {
+        Map<String, String> failedKeys = new HashMap<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | CoreApiException e) {
+                failedKeys.put(key, String.valueOf(e.getMessage()));
+            }
+        }
+        return failedKeys;
+    }
+
+    /**
+     * key 를 저장소 루트 하위 경로로 변환 (루트 밖을 가리키는 key 는 거부)
+     */
+    public Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+            log.warn("[LOCAL URL] 저장소 루트 밖을 가리키는 key. key={}", key);
+            throw new CoreApiException(ErrorCode.INVALID_STORAGE_FILE_URL);
+        }
+        return path;
+    }
+
+    /**
+     * 확장자 기반 MIME 타입 (업로드 시 jpg / jpeg / png 만 허용)
+     */
+    public String contentTypeOf(String key) {
+        String lowerKey = key.toLowerCase(Locale.ROOT);
+        if (lowerKey.endsWith(".jpg") || lowerKey.endsWith(".jpeg")) {
+            return "image/jpeg";
+        }
+        if (lowerKey.endsWith(".png")) {
+            return "image/png";
+        }
+        return "application/octet-stream";
+    }
+
+    /**
+     * 크기 + 수정 시각 기반 ETag (같은 key 에 다시 쓰면 바뀜)
+     */
+    public String eTagOf(BasicFileAttributes attributes) {
+        return "\"" + Long.toHexString(attributes.size())
+                + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 이동
+     */
+    private void write(String key, ChannelWriter writer) {
+        Path target = resolve(key);
+        Path temp = null;
+
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                if (fsync) {
+                    channel.force(false);
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("[LOCAL UPLOAD] 파일 업로드 실패. fileName={}", key, e);
+            deleteQuietly(temp);
+            throw new CoreApiException(ErrorCode.STORAGE_FILE_UPLOAD_FAILED, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[LOCAL UPLOAD] 임시 파일 정리 실패. path={}", path, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * 지정한 길이까지만 읽는 스트림 (Range 조회용)
+     */
+    private static class RangeInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.deartime.app.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * presigned PUT 업로드 정보
+ *
+ * @param key       업로드될 객체 key
+ * @param uploadUrl presigned URL
+ * @param headers   업로드 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUpload(
+        String key,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
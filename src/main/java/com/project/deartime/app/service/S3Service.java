@@ -1,8 +1,15 @@
 package com.project.deartime.app.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.project.deartime.global.exception.CoreApiException;
@@ -10,49 +17,74 @@ import com.project.deartime.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Set;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class S3Service {
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3Service implements StorageService {
 
     private final AmazonS3 amazonS3;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    /** 허용 이미지 MIME 타입 */
-    private static final Set<String> ALLOWED_IMAGE_TYPES = Set.of(
-            "image/jpeg",
-            "image/png"
-    );
-
-    /** 최대 파일 크기 (10MB) */
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
 
     /**
      * 파일 업로드
      */
+    @Override
     public String uploadFile(MultipartFile file, String folder) {
         validateImageFile(file);
 
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadFile(file, inputStream, folder);
+        } catch (IOException e) {
+            log.error("[S3 UPLOAD] 파일 스트림 열기 실패. originalFileName={}", file.getOriginalFilename(), e);
+            throw new CoreApiException(
+                    ErrorCode.S3_FILE_UPLOAD_FAILED,
+                    e
+            );
+        }
+    }
+
+    /**
+     * 이미 열려 있는 스트림으로 파일 업로드
+     * 메타데이터 추출 등으로 앞부분을 읽은 스트림을 다시 열지 않고 그대로 이어서 전송할 때 사용
+     * 스트림은 호출한 쪽에서 닫아야 함
+     */
+    @Override
+    public String uploadFile(MultipartFile file, InputStream inputStream, String folder) {
+        validateImageFile(file);
+
         String fileName = createFileName(file.getOriginalFilename(), folder);
 
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentLength(file.getSize());
         metadata.setContentType(file.getContentType());
 
-        try (InputStream inputStream = file.getInputStream()) {
+        try {
             amazonS3.putObject(
                     new PutObjectRequest(bucket, fileName, inputStream, metadata)
                             .withCannedAcl(CannedAccessControlList.PublicRead)
@@ -70,26 +102,141 @@ public class S3Service {
     }
 
     /**
-     * 이미지 파일 검증
+     * 서버에서 생성한 바이트 데이터를 지정한 key 로 업로드 (썸네일 등)
+     * key 마다 내용이 바뀌지 않으므로 장기 캐시 헤더를 함께 설정
+     */
+    @Override
+    public String uploadBytes(byte[] content, String contentType, String key) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+
+        try {
+            amazonS3.putObject(
+                    new PutObjectRequest(bucket, key, new ByteArrayInputStream(content), metadata)
+                            .withCannedAcl(CannedAccessControlList.PublicRead)
+            );
+            log.debug("[S3 UPLOAD] 파일 업로드 성공. fileName={}", key);
+        } catch (Exception e) {
+            log.error("[S3 UPLOAD] 파일 업로드 실패. fileName={}", key, e);
+            throw new CoreApiException(
+                    ErrorCode.S3_FILE_UPLOAD_FAILED,
+                    e
+            );
+        }
+
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 저장된 파일의 내용을 스트림으로 열기
+     * 스트림은 호출한 쪽에서 닫아야 함
+     */
+    @Override
+    public InputStream openFileStream(String fileUrl) {
+        String fileName = extractFileNameFromUrl(fileUrl);
+
+        try {
+            return amazonS3.getObject(bucket, fileName).getObjectContent();
+        } catch (Exception e) {
+            log.error("[S3 READ] 파일 조회 실패. fileName={}, bucket={}", fileName, bucket, e);
+            throw new CoreApiException(
+                    ErrorCode.S3_FILE_READ_FAILED,
+                    e
+            );
+        }
+    }
+
+    /**
+     * 클라이언트가 S3 에 직접 업로드할 수 있는 presigned PUT URL 발급
+     * Content-Type / Content-Length / ACL 헤더를 서명에 포함하므로 클라이언트는 응답의 headers 를 그대로 보내야 함
      */
-    private void validateImageFile(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+    @Override
+    public PresignedUpload createPresignedUpload(String key, String contentType, long contentLength, Duration expiry) {
+        validateImageMetadata(contentType, contentLength);
+
+        Date expiration = Date.from(Instant.now().plus(expiry));
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        request.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+
+        try {
+            URL url = amazonS3.generatePresignedUrl(request);
+            return new PresignedUpload(
+                    key,
+                    url.toString(),
+                    Map.of(
+                            Headers.CONTENT_TYPE, contentType,
+                            Headers.CONTENT_LENGTH, String.valueOf(contentLength),
+                            Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString()
+                    ),
+                    expiration.toInstant()
+            );
+        } catch (Exception e) {
+            log.error("[S3 PRESIGN] presigned URL 발급 실패. key={}", key, e);
+            throw new CoreApiException(
+                    ErrorCode.S3_FILE_UPLOAD_FAILED,
+                    e
+            );
         }
+    }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("파일 크기는 최대 10MB까지 업로드할 수 있습니다.");
+    /**
+     * 객체 메타데이터 조회 (HEAD)
+     *
+     * @return 객체가 없으면 null
+     */
+    @Override
+    public StorageObjectInfo getObjectInfo(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
+            return new StorageObjectInfo(
+                    metadata.getContentLength(),
+                    metadata.getContentType(),
+                    metadata.getETag(),
+                    metadata.getLastModified() != null ? metadata.getLastModified().toInstant() : null
+            );
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            log.error("[S3 READ] 메타데이터 조회 실패. key={}", key, e);
+            throw new CoreApiException(ErrorCode.S3_FILE_READ_FAILED, e);
+        } catch (Exception e) {
+            log.error("[S3 READ] 메타데이터 조회 실패. key={}", key, e);
+            throw new CoreApiException(ErrorCode.S3_FILE_READ_FAILED, e);
         }
+    }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType)) {
-            throw new IllegalArgumentException("jpg, jpeg, png 형식의 이미지만 업로드할 수 있습니다.");
+    /**
+     * 객체의 일부 구간만 스트림으로 열기 (Range GET, 양 끝 포함)
+     * 스트림은 호출한 쪽에서 닫아야 함
+     */
+    @Override
+    public InputStream openObjectRange(String key, long start, long end) {
+        try {
+            return amazonS3.getObject(new GetObjectRequest(bucket, key).withRange(start, end)).getObjectContent();
+        } catch (Exception e) {
+            log.error("[S3 READ] 파일 구간 조회 실패. key={}, range={}-{}", key, start, end, e);
+            throw new CoreApiException(ErrorCode.S3_FILE_READ_FAILED, e);
         }
     }
 
+    /**
+     * 객체 key 에 해당하는 공개 URL
+     */
+    @Override
+    public String getFileUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
     /**
      * 파일 삭제
      */
+    @Override
     public void deleteFile(String fileUrl) {
         String fileName = extractFileNameFromUrl(fileUrl);
 
@@ -111,30 +258,46 @@ public class S3Service {
     }
 
     /**
-     * 고유한 파일명 생성
+     * 여러 파일을 한 번의 요청으로 삭제 (최대 1000개)
+     * 존재하지 않는 key 는 성공으로 처리됨
+     *
+     * @return 삭제에 실패한 key 와 실패 사유
      */
-    private String createFileName(String originalFileName, String folder) {
-        String ext = extractExt(originalFileName);
-        String uuid = UUID.randomUUID().toString();
-        return folder + "/" + uuid + "." + ext;
-    }
+    @Override
+    public Map<String, String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
 
-    /**
-     * 파일 확장자 추출
-     */
-    private String extractExt(String originalFileName) {
-        int pos = originalFileName.lastIndexOf(".");
-        if (pos == -1) {
-            return "jpg"; // 기본 확장자
+        try {
+            amazonS3.deleteObjects(
+                    new DeleteObjectsRequest(bucket)
+                            .withKeys(keys.toArray(String[]::new))
+                            .withQuiet(true)
+            );
+            return Map.of();
+        } catch (MultiObjectDeleteException e) {
+            Map<String, String> failedKeys = new HashMap<>();
+            for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                failedKeys.put(error.getKey(), error.getCode() + ": " + error.getMessage());
+            }
+            return failedKeys;
+        } catch (Exception e) {
+            log.error("[S3 DELETE] 다중 파일 제거 실패. count={}, bucket={}", keys.size(), bucket, e);
+            Map<String, String> failedKeys = new HashMap<>();
+            for (String key : keys) {
+                failedKeys.put(key, String.valueOf(e.getMessage()));
+            }
+            return failedKeys;
         }
-        return originalFileName.substring(pos + 1);
     }
 
     /**
      * URL에서 파일명(S3 Object Key) 추출
      * Virtual Hosted-Style URL 지원: https://{bucket}.s3.{region}.amazonaws.com/{key}
      */
-    private String extractFileNameFromUrl(String fileUrl) {
+    @Override
+    public String extractFileNameFromUrl(String fileUrl) {
         if (fileUrl == null || fileUrl.isBlank()) {
             log.error("[S3 URL] fileUrl is null or empty");
             throw new CoreApiException(ErrorCode.INVALID_S3_FILE_URL);
@@ -152,6 +315,11 @@ public class S3Service {
             // 맨 앞의 '/' 제거하여 S3 Object Key 추출
             String key = path.startsWith("/") ? path.substring(1) : path;
 
+            // 로컬 S3 호환 스토리지는 Path-Style URL 사용: {endpoint}/{bucket}/{key}
+            if (StringUtils.hasText(endpoint) && key.startsWith(bucket + "/")) {
+                key = key.substring(bucket.length() + 1);
+            }
+
             // URL 디코딩 (한글 파일명 등 처리)
             key = URLDecoder.decode(key, StandardCharsets.UTF_8);
 
@@ -0,0 +1,19 @@
+package com.project.deartime.app.service;
+
+import java.time.Instant;
+
+/**
+ * 저장소 객체 정보 (HEAD 결과)
+ *
+ * @param size         바이트 크기
+ * @param contentType  MIME 타입
+ * @param eTag         객체 버전 식별자
+ * @param lastModified 마지막 수정 시각
+ */
+public record StorageObjectInfo(
+        long size,
+        String contentType,
+        String eTag,
+        Instant lastModified
+) {
+}
@@ -0,0 +1,133 @@
+package com.project.deartime.app.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 파일 저장소 추상화
+ * - storage.type=s3 (기본값) : S3Service
+ * - storage.type=local      : LocalStorageService (단일 서버 부하 테스트 / S3 없는 자체 배포용)
+ *
+ * 파일은 공개 URL 로 저장/반환하고, 삭제 대기열 등 내부 처리는 URL 에서 추출한 key 를 사용
+ */
+public interface StorageService {
+
+    /** 허용 이미지 MIME 타입 */
+    Set<String> ALLOWED_IMAGE_TYPES = Set.of(
+            "image/jpeg",
+            "image/png"
+    );
+
+    /** 최대 파일 크기 (10MB) */
+    long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+    /**
+     * 파일 업로드
+     */
+    String uploadFile(MultipartFile file, String folder);
+
+    /**
+     * 이미 열려 있는 스트림으로 파일 업로드
+     * 메타데이터 추출 등으로 앞부분을 읽은 스트림을 다시 열지 않고 그대로 이어서 전송할 때 사용
+     * 스트림은 호출한 쪽에서 닫아야 함
+     */
+    String uploadFile(MultipartFile file, InputStream inputStream, String folder);
+
+    /**
+     * 서버에서 생성한 바이트 데이터를 지정한 key 로 업로드 (썸네일 등)
+     */
+    String uploadBytes(byte[] content, String contentType, String key);
+
+    /**
+     * 저장된 파일의 내용을 스트림으로 열기
+     * 스트림은 호출한 쪽에서 닫아야 함
+     */
+    InputStream openFileStream(String fileUrl);
+
+    /**
+     * 클라이언트가 저장소에 직접 업로드할 수 있는 presigned PUT URL 발급
+     */
+    PresignedUpload createPresignedUpload(String key, String contentType, long contentLength, Duration expiry);
+
+    /**
+     * 객체 정보 조회
+     *
+     * @return 객체가 없으면 null
+     */
+    StorageObjectInfo getObjectInfo(String key);
+
+    /**
+     * 객체의 일부 구간만 스트림으로 열기 (양 끝 포함)
+     * 스트림은 호출한 쪽에서 닫아야 함
+     */
+    InputStream openObjectRange(String key, long start, long end);
+
+    /**
+     * 객체 key 에 해당하는 공개 URL
+     */
+    String getFileUrl(String key);
+
+    /**
+     * URL 에서 객체 key 추출
+     */
+    String extractFileNameFromUrl(String fileUrl);
+
+    /**
+     * 파일 삭제
+     */
+    void deleteFile(String fileUrl);
+
+    /**
+     * 여러 파일을 한 번에 삭제 (최대 1000개)
+     * 존재하지 않는 key 는 성공으로 처리됨
+     *
+     * @return 삭제에 실패한 key 와 실패 사유
+     */
+    Map<String, String> deleteObjects(List<String> keys);
+
+    /**
+     * 이미지 파일 검증
+     */
+    default void validateImageFile(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+
+        validateImageMetadata(file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 이미지 형식 / 크기 검증 (파일 내용 없이 메타데이터만으로 검증할 때 사용)
+     */
+    default void validateImageMetadata(String contentType, long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+
+        if (size > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 최대 10MB까지 업로드할 수 있습니다.");
+        }
+
+        if (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException("jpg, jpeg, png 형식의 이미지만 업로드할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 고유한 파일명(key) 생성
+     */
+    default String createFileName(String originalFileName, String folder) {
+        String ext = "jpg"; // 기본 확장자
+        int pos = originalFileName == null ? -1 : originalFileName.lastIndexOf(".");
+        if (pos != -1) {
+            ext = originalFileName.substring(pos + 1);
+        }
+        return folder + "/" + UUID.randomUUID() + "." + ext;
+    }
+}
@@ -0,0 +1,220 @@
+package com.project.deartime.app.storage.controller;
+
+import com.project.deartime.app.service.LocalStorageService;
+import com.project.deartime.global.exception.CoreApiException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 로컬 저장소 파일 서빙 (storage.type=local)
+ * GET / HEAD /files/{key}
+ *
+ * - ETag / If-None-Match 로 변경 여부 확인 (304)
+ * - 단일 Range 요청은 206 으로 해당 구간만 응답 (다중 Range 는 전체 응답)
+ * - Tomcat sendfile 을 지원하면 커넥터가 파일을 소켓으로 직접 전송하고,
+ *   아니면 FileChannel.transferTo 로 응답 스트림에 전송
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileController {
+
+    private static final String FILES_PATH = "/files/";
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /** 이보다 작은 응답은 sendfile 을 쓰지 않음 (Tomcat DefaultServlet 기본값과 동일) */
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final LocalStorageService localStorageService;
+
+    @RequestMapping(value = "/files/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serveFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String rawKey = request.getRequestURI().substring(request.getContextPath().length() + FILES_PATH.length());
+        String key = UriUtils.decode(rawKey, StandardCharsets.UTF_8);
+
+        Path path;
+        BasicFileAttributes attributes;
+        try {
+            path = localStorageService.resolve(key);
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (CoreApiException | NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long size = attributes.size();
+        String eTag = localStorageService.eTagOf(attributes);
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, attributes.lastModifiedTime().toMillis());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // key 는 UUID 로 생성되어 내용이 바뀌지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        ByteRange range = ByteRange.parse(
+                request.getHeader(HttpHeaders.RANGE),
+                request.getHeader(HttpHeaders.IF_RANGE),
+                eTag,
+                size
+        );
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long start = 0;
+        long length = size;
+        if (range != null) {
+            start = range.start();
+            length = range.length();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+
+        response.setContentType(localStorageService.contentTypeOf(key));
+        response.setContentLengthLong(length);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        } catch (IOException e) {
+            // 클라이언트가 다운로드 도중 연결을 끊은 경우가 대부분
+            log.debug("[LOCAL READ] 파일 전송 중단. key={}", key, e);
+        }
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || eTag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청한 바이트 구간
+     */
+    private record ByteRange(long start, long length) {
+
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, 0);
+
+        /**
+         * Range 헤더 해석
+         *
+         * @return null 이면 전체 응답, UNSATISFIABLE 이면 416
+         */
+        static ByteRange parse(String rangeHeader, String ifRange, String eTag, long size) {
+            if (rangeHeader == null || !rangeHeader.startsWith("bytes=")) {
+                return null;
+            }
+            // 파일이 바뀌었으면 Range 를 무시하고 전체 응답
+            if (ifRange != null && !ifRange.trim().equals(eTag)) {
+                return null;
+            }
+
+            String spec = rangeHeader.substring("bytes=".length()).trim();
+            if (spec.contains(",")) {
+                return null;
+            }
+
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+
+                if (first.isEmpty()) {
+                    // bytes=-N : 마지막 N 바이트
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || size == 0) {
+                        return UNSATISFIABLE;
+                    }
+                    long length = Math.min(suffix, size);
+                    return new ByteRange(size - length, length);
+                }
+
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+                if (end < start) {
+                    // 형식이 잘못된 Range 는 무시
+                    return null;
+                }
+                if (start >= size) {
+                    return UNSATISFIABLE;
+                }
+                end = Math.min(end, size - 1);
+                return new ByteRange(start, end - start + 1);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
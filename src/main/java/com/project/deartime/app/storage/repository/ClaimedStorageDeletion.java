@@ -0,0 +1,13 @@
+package com.project.deartime.app.storage.repository;
+
+/**
+ * 삭제 작업자가 선점한 삭제 대기열 항목
+ */
+public interface ClaimedStorageDeletion {
+
+    Long getId();
+
+    String getObjectKey();
+
+    Integer getAttempts();
+}
@@ -0,0 +1,40 @@
+package com.project.deartime.app.storage.repository;
+
+import com.project.deartime.app.domain.StorageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    /**
+     * 처리 시각이 된 항목을 선점하고 임대 만료 시각까지 다른 작업자가 가져가지 못하게 함
+     * SKIP LOCKED 로 여러 인스턴스가 동시에 실행되어도 같은 항목을 중복 처리하지 않음
+     * 작업자가 처리 도중 종료되면 임대 만료 후 다시 처리 대상이 됨
+     */
+    @Query(value = "UPDATE storage_deletion_outbox SET next_attempt_at = :leaseUntil " +
+            "WHERE id IN (" +
+            "    SELECT id FROM storage_deletion_outbox WHERE next_attempt_at <= :now " +
+            "    ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED" +
+            ") RETURNING id AS id, object_key AS objectKey, attempts AS attempts",
+            nativeQuery = true)
+    List<ClaimedStorageDeletion> claimDue(@Param("now") LocalDateTime now,
+                                          @Param("leaseUntil") LocalDateTime leaseUntil,
+                                          @Param("limit") int limit);
+
+    /**
+     * 삭제 실패 기록 및 다음 재시도 시각 설정
+     */
+    @Modifying
+    @Query("UPDATE StorageDeletion d SET d.attempts = d.attempts + 1, d.nextAttemptAt = :nextAttemptAt, " +
+            "d.lastError = :lastError WHERE d.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
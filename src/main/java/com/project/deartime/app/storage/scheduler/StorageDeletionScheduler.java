@@ -0,0 +1,176 @@
+package com.project.deartime.app.storage.scheduler;
+
+import com.project.deartime.app.service.StorageService;
+import com.project.deartime.app.storage.repository.ClaimedStorageDeletion;
+import com.project.deartime.app.storage.repository.StorageDeletionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스토리지 삭제 대기열을 비우는 스케줄러
+ * - 처리 시각이 된 항목을 배치로 선점한 뒤 S3 DeleteObjects 한 번으로 삭제 (최대 1000개)
+ * - 실패한 항목은 지수 백오프로 재시도
+ */
+@Slf4j
+@Component
+public class StorageDeletionScheduler {
+
+    /** S3 DeleteObjects 한 번에 보낼 수 있는 최대 key 수 */
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    public StorageDeletionScheduler(
+            StorageDeletionRepository storageDeletionRepository,
+            StorageService storageService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${storage.deletion.batch-size:1000}") int batchSize,
+            @Value("${storage.deletion.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${storage.deletion.lease-seconds:300}") long leaseSeconds,
+            @Value("${storage.deletion.base-backoff-seconds:30}") long baseBackoffSeconds,
+            @Value("${storage.deletion.max-backoff-seconds:3600}") long maxBackoffSeconds
+    ) {
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.min(MAX_KEYS_PER_REQUEST, Math.max(1, batchSize));
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+
+        this.deletedCounter = Counter.builder("storage.deletion.deleted")
+                .description("삭제 완료된 스토리지 객체 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.deletion.failed")
+                .description("삭제에 실패해 재시도 예약된 스토리지 객체 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("storage.deletion.batch")
+                .description("DeleteObjects 요청 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("storage.deletion.pending", pendingCount, AtomicLong::get)
+                .description("삭제 대기열에 남아 있는 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.poll-interval-ms:5000}")
+    public void drainDeletionQueue() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (processBatch() < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            pendingCount.set(storageDeletionRepository.count());
+        }
+    }
+
+    /**
+     * 배치 1회 처리: 선점(짧은 트랜잭션) → S3 삭제(트랜잭션 밖) → 결과 반영(짧은 트랜잭션)
+     *
+     * @return 선점한 항목 수
+     */
+    private int processBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimedStorageDeletion> claimed = transactionTemplate.execute(status ->
+                storageDeletionRepository.claimDue(now, now.plus(lease), batchSize));
+
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = claimed.stream()
+                .map(ClaimedStorageDeletion::getObjectKey)
+                .distinct()
+                .toList();
+
+        Map<String, String> failedKeys = batchTimer.record(() -> storageService.deleteObjects(keys));
+
+        List<Long> deletedIds = new ArrayList<>(claimed.size());
+        List<ClaimedStorageDeletion> failed = new ArrayList<>();
+        for (ClaimedStorageDeletion deletion : claimed) {
+            if (failedKeys.containsKey(deletion.getObjectKey())) {
+                failed.add(deletion);
+            } else {
+                deletedIds.add(deletion.getId());
+            }
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deletedIds.isEmpty()) {
+                storageDeletionRepository.deleteAllByIdInBatch(deletedIds);
+            }
+            for (ClaimedStorageDeletion deletion : failed) {
+                storageDeletionRepository.markFailed(
+                        deletion.getId(),
+                        finishedAt.plus(backoff(deletion.getAttempts() + 1)),
+                        truncate(failedKeys.get(deletion.getObjectKey()))
+                );
+            }
+        });
+
+        deletedCounter.increment(deletedIds.size());
+        failedCounter.increment(failed.size());
+
+        if (!failed.isEmpty()) {
+            log.warn("[STORAGE DELETE] 일부 파일 삭제 실패, 재시도 예약. deleted={}, failed={}",
+                    deletedIds.size(), failed.size());
+        } else {
+            log.info("[STORAGE DELETE] 파일 삭제 완료. count={}", deletedIds.size());
+        }
+
+        return claimed.size();
+    }
+
+    /**
+     * 지수 백오프 (+ 최대 20% 지터), 최대 대기 시간으로 제한
+     */
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = baseBackoff.multipliedBy(1L << exponent);
+        if (delay.compareTo(maxBackoff) > 0) {
+            delay = maxBackoff;
+        }
+        long jitterMillis = ThreadLocalRandom.current().nextLong(delay.toMillis() / 5 + 1);
+        return delay.plusMillis(jitterMillis);
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
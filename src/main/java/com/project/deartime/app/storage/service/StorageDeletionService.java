@@ -0,0 +1,66 @@
+package com.project.deartime.app.storage.service;
+
+import com.project.deartime.app.domain.StorageDeletion;
+import com.project.deartime.app.service.StorageService;
+import com.project.deartime.app.storage.repository.StorageDeletionRepository;
+import com.project.deartime.global.exception.CoreApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스토리지 파일 삭제 예약 서비스
+ * 요청 스레드에서는 삭제 대기열에 기록만 하고, 실제 S3 삭제는 StorageDeletionScheduler 가 비동기로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StorageDeletionService {
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final StorageService storageService;
+
+    /**
+     * 파일 삭제 예약 (호출한 쪽 트랜잭션과 함께 커밋 / 롤백됨)
+     */
+    public void enqueue(String fileUrl) {
+        enqueue(Collections.singletonList(fileUrl));
+    }
+
+    /**
+     * 여러 파일 삭제 예약 (null / 빈 URL 은 무시)
+     */
+    public void enqueue(Collection<String> fileUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StorageDeletion> deletions = new ArrayList<>(fileUrls.size());
+
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || fileUrl.isBlank()) {
+                continue;
+            }
+
+            try {
+                deletions.add(StorageDeletion.builder()
+                        .objectKey(storageService.extractFileNameFromUrl(fileUrl))
+                        .nextAttemptAt(now)
+                        .build());
+            } catch (CoreApiException e) {
+                // 잘못된 URL 때문에 엔티티 삭제까지 실패하지 않도록 건너뜀
+                log.warn("[STORAGE DELETE] 삭제 예약 실패 - 잘못된 파일 URL. fileUrl={}", fileUrl);
+            }
+        }
+
+        if (!deletions.isEmpty()) {
+            storageDeletionRepository.saveAll(deletions);
+            log.debug("[STORAGE DELETE] 파일 삭제 예약. count={}", deletions.size());
+        }
+    }
+}
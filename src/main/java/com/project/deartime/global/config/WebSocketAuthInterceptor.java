@@ -1,6 +1,7 @@
 package com.project.deartime.global.config;
 
 import com.project.deartime.app.auth.controller.JwtTokenProvider;
+import com.project.deartime.app.auth.dto.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -16,6 +17,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * WebSocket STOMP 연결 시 JWT 토큰을 검증하는 인터셉터
@@ -38,9 +40,11 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
 
-                if (jwtTokenProvider.validateToken(token)) {
-                    String userId = jwtTokenProvider.getUserId(token);
-                    String email = jwtTokenProvider.getEmail(token);
+                Optional<VerifiedToken> verified = jwtTokenProvider.verify(token)
+                        .filter(verifiedToken -> !verifiedToken.isRefresh());
+                if (verified.isPresent()) {
+                    String userId = verified.get().subject();
+                    String email = verified.get().email();
 
                     // Authentication 객체 생성 및 설정
                     Authentication authentication = new UsernamePasswordAuthenticationToken(
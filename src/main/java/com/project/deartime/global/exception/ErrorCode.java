@@ -48,6 +48,8 @@ public enum ErrorCode {
 
     // 401 Unauthorized
     UNAUTHORIZED_EXCEPTION(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자거나 인증과정에 오류가 있습니다. "),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 보안을 위해 다시 로그인해주세요."),
 
     // 403 Forbidden
     FORBIDDEN_AUTH_EXCEPTION(HttpStatus.FORBIDDEN, "권한 정보가 없는 토큰입니다."),
@@ -88,8 +90,16 @@ public enum ErrorCode {
     // S3
     S3_FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 삭제에 실패했습니다."),
     S3_FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다."),
+    S3_FILE_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 조회에 실패했습니다."),
     INVALID_S3_FILE_URL(HttpStatus.BAD_REQUEST, "유효하지 않은 S3 파일 URL입니다."),
 
+    // Local Storage
+    STORAGE_FILE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 삭제에 실패했습니다."),
+    STORAGE_FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
+    STORAGE_FILE_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 조회에 실패했습니다."),
+    INVALID_STORAGE_FILE_URL(HttpStatus.BAD_REQUEST, "유효하지 않은 파일 URL입니다."),
+    STORAGE_OPERATION_NOT_SUPPORTED(HttpStatus.NOT_IMPLEMENTED, "현재 파일 저장소에서 지원하지 않는 기능입니다."),
+
     // TimeCapsule
     CAPSULE_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 타임캡슐을 찾을 수 없습니다."),
     CAPSULE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "타임캡슐에 접근할 권한이 없습니다."),
@@ -11,6 +11,7 @@ public enum SuccessCode {
     // 200 OK
     LOGIN_USER_SUCCESS(HttpStatus.OK, "로그인에 성공했습니다"),
     LOGOUT_SUCCESS(HttpStatus.OK, "로그아웃 성공"),
+    TOKEN_REFRESH_SUCCESS(HttpStatus.OK, "토큰 재발급 성공"),
     LETTER_WRITE_INFO_SUCCESS(HttpStatus.OK, "편지 작성화면 정보를 불러왔습니다."),
     GET_LETTER_SUCCESS(HttpStatus.OK, "편지(들)을 불러오는데 성공했습니다"),
     GET_LETTER_EMPTY(HttpStatus.OK, "편지가 없습니다."),
@@ -25,6 +26,7 @@ public enum SuccessCode {
     PHOTO_LIST_FETCH_SUCCESS(HttpStatus.OK, "사진 목록을 불러오는데 성공했습니다."),
     PHOTO_LIST_EMPTY(HttpStatus.OK, "사진 목록이 없습니다."),
     PHOTO_CAPTION_UPDATE_SUCCESS(HttpStatus.OK, "사진 캡션 수정에 성공했습니다."),
+    PHOTO_UPLOAD_URL_ISSUED(HttpStatus.OK, "사진 업로드 URL 발급에 성공했습니다."),
     ALBUM_PHOTOS_EMPTY(HttpStatus.OK, "앨범에 사진이 없습니다."),
     ALBUM_LIST_EMPTY(HttpStatus.OK, "앨범 목록이 없습니다."),
 
@@ -69,6 +71,13 @@ public enum SuccessCode {
     NOTIFICATION_READ_SUCCESS(HttpStatus.OK, "알림 읽음 처리 성공"),
     NOTIFICATION_DELETE_SUCCESS(HttpStatus.OK, "알림 삭제 성공"),
 
+    // Search 관련 200 OK
+    SEARCH_SUCCESS(HttpStatus.OK, "검색에 성공했습니다."),
+    SEARCH_EMPTY(HttpStatus.OK, "검색 결과가 없습니다."),
+
+    // 카운터 관련 200 OK
+    COUNTERS_SUCCESS(HttpStatus.OK, "안 읽은 항목 개수 조회 성공"),
+
     NICKNAME_AVAILABLE(HttpStatus.OK, "사용 가능한 닉네임입니다."),
     NICKNAME_UNAVAILABLE(HttpStatus.OK, "이미 사용 중인 닉네임입니다."),
 
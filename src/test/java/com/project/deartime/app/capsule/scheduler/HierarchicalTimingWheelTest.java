@@ -0,0 +1,142 @@
+package com.project.deartime.app.capsule.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    // 10:00:00 (시 / 분 경계에 맞춘 기준 시각)
+    private static final long START = 3600L * 10;
+
+    @Test
+    void expiresWithinFirstMinute() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(START, 100);
+        assertThat(wheel.add(1, START + 5)).isTrue();
+
+        assertThat(wheel.advance(START + 4)).isEmpty();
+        assertThat(wheel.advance(START + 5)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascadesAcrossMinuteBoundary() {
+        long start = START + 50;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(start, 100);
+        // 1단계(분) 칸에 들어갔다가 10:01:00 / 10:02:00 에 0단계로 내려와야 함
+        wheel.add(1, START + 75);
+        wheel.add(2, START + 120);
+
+        assertThat(advanceOneByOne(wheel, start, START + 74)).isEmpty();
+        assertThat(wheel.advance(START + 75)).containsExactly(1L);
+        assertThat(advanceOneByOne(wheel, START + 75, START + 119)).isEmpty();
+        assertThat(wheel.advance(START + 120)).containsExactly(2L);
+    }
+
+    @Test
+    void cascadesAcrossHourBoundary() {
+        long start = START + 3590;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(start, 100);
+        // 2단계(시) 칸 → 1단계 → 0단계로 두 번 내려옴
+        long due = START + 3600 * 3 + 61;
+        wheel.add(1, due);
+
+        assertThat(wheel.advance(due - 1)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(due)).containsExactly(1L);
+    }
+
+    @Test
+    void catchesUpAfterMissedTicks() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(START, 100);
+        wheel.add(1, START + 30);
+        wheel.add(2, START + 90);
+        wheel.add(3, START + 3700);
+        wheel.add(4, START + 3 * 3600);
+
+        // 스레드가 멈췄다가 한 번에 진행해도 지난 타이머가 만료 시각 순으로 모두 나옴
+        assertThat(wheel.advance(START + 3800)).containsExactly(1L, 2L, 3L);
+        assertThat(wheel.advance(START + 3 * 3600)).containsExactly(4L);
+        assertThat(wheel.currentSecond()).isEqualTo(START + 3 * 3600);
+    }
+
+    @Test
+    void pastDueTimerExpiresOnNextAdvance() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(START, 100);
+        wheel.advance(START + 100);
+
+        assertThat(wheel.add(1, START + 10)).isTrue();
+        assertThat(wheel.advance(START + 101)).containsExactly(1L);
+    }
+
+    @Test
+    void rejectsTimersOverCapacity() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(START, 2);
+
+        assertThat(wheel.add(1, START + 10)).isTrue();
+        assertThat(wheel.add(2, START + 20)).isTrue();
+        assertThat(wheel.add(3, START + 30)).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.remainingCapacity()).isZero();
+
+        // 만료되면 자리가 생김
+        assertThat(wheel.advance(START + 10)).containsExactly(1L);
+        assertThat(wheel.add(3, START + 30)).isTrue();
+        assertThat(wheel.advance(START + 30)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void rejectsTimersBeyondHorizon() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(START, 100);
+        long horizon = wheel.horizonSecond();
+
+        assertThat(wheel.add(1, horizon)).isTrue();
+        assertThat(wheel.add(2, horizon + 1)).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(horizon)).containsExactly(1L);
+    }
+
+    @Test
+    void firesEveryTimerAtItsDueSecond() {
+        Random random = new Random(42);
+        long start = START + 1234;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(start, 10_000);
+        Map<Long, Long> dueById = new HashMap<>();
+
+        for (long id = 0; id < 5_000; id++) {
+            long due = start + 1 + random.nextInt(6 * 3600);
+            assertThat(wheel.add(id, due)).isTrue();
+            dueById.put(id, due);
+        }
+
+        // 불규칙한 간격으로 진행하며, 만료된 타이머는 due 가 (이전 시각, 현재 시각] 구간이어야 함
+        long now = start;
+        int fired = 0;
+        while (now < start + 6 * 3600) {
+            long next = now + 1 + random.nextInt(300);
+            for (long id : wheel.advance(next)) {
+                assertThat(dueById.get(id)).isGreaterThan(now).isLessThanOrEqualTo(next);
+                fired++;
+            }
+            now = next;
+        }
+        assertThat(fired).isEqualTo(dueById.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    private static List<Long> advanceOneByOne(HierarchicalTimingWheel wheel, long from, long to) {
+        List<Long> expired = new ArrayList<>();
+        for (long second = from + 1; second <= to; second++) {
+            for (long id : wheel.advance(second)) {
+                expired.add(id);
+            }
+        }
+        return expired;
+    }
+}
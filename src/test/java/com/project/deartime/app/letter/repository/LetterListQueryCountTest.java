@@ -0,0 +1,116 @@
+package com.project.deartime.app.letter.repository;
+
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.domain.LetterFavorite;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.letter.dto.LetterListRow;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 편지 목록 조회의 쿼리 수가 페이지 크기와 무관한지 확인 (N+1 회귀 방지)
+ * 목록 1회 + count 1회 = 2
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+class LetterListQueryCountTest {
+
+    private static final int LETTER_COUNT = 60;
+    private static final long QUERIES_PER_PAGE = 2;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    @Autowired
+    private LetterFavoriteRepository letterFavoriteRepository;
+
+    private User me;
+    private User friend;
+
+    @BeforeEach
+    void setUp() {
+        me = em.persist(user("me"));
+        friend = em.persist(user("friend"));
+
+        for (int i = 0; i < LETTER_COUNT; i++) {
+            Letter received = em.persist(new Letter(friend, me, null, "받은 편지 " + i, "내용 " + i));
+            em.persist(new Letter(me, friend, null, "보낸 편지 " + i, "내용 " + i));
+            em.persist(LetterFavorite.builder().user(me).letter(received).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50})
+    void receivedLetters(int pageSize) {
+        assertQueryCount(pageSize, pageable -> letterRepository.findReceivedLetterRows(me.getId(), pageable));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50})
+    void sentLetters(int pageSize) {
+        assertQueryCount(pageSize, pageable -> letterRepository.findSentLetterRows(me.getId(), pageable));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50})
+    void conversationLetters(int pageSize) {
+        assertQueryCount(pageSize, pageable ->
+                letterRepository.findConversationLetterRows(me.getId(), friend.getId(), pageable));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 50})
+    void bookmarkedLetters(int pageSize) {
+        assertQueryCount(pageSize, pageable -> letterFavoriteRepository.findBookmarkedLetterRows(me.getId(), pageable));
+    }
+
+    private void assertQueryCount(int pageSize, Function<PageRequest, Page<LetterListRow>> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<LetterListRow> page = query.apply(PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(QUERIES_PER_PAGE);
+    }
+
+    private static User user(String nickname) {
+        return User.builder()
+                .providerId("provider-" + nickname)
+                .email(nickname + "@example.com")
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.deartime.app.letter.service;
+
+import com.project.deartime.app.counter.service.UserCounterService;
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.letter.repository.LetterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 편지 삭제 시 안 읽은 편지 수 감소 (같은 편지를 여러 번 삭제해도 한 번만)
+ */
+@ExtendWith(MockitoExtension.class)
+class LetterServiceDeleteTest {
+
+    private static final long SENDER_ID = 1L;
+    private static final long RECEIVER_ID = 2L;
+    private static final long LETTER_ID = 10L;
+
+    @Mock
+    private LetterRepository letterRepository;
+
+    @Mock
+    private ConversationSummaryService conversationSummaryService;
+
+    @Mock
+    private UserCounterService userCounterService;
+
+    @InjectMocks
+    private LetterService letterService;
+
+    @Test
+    void repeatedDeleteOfUnreadLetterDecrementsOnce() {
+        Letter letter = letter(false);
+        given(letterRepository.findById(LETTER_ID)).willReturn(Optional.of(letter));
+
+        letterService.softDeleteOrPermanentlyDelete(LETTER_ID, RECEIVER_ID);
+        letterService.softDeleteOrPermanentlyDelete(LETTER_ID, RECEIVER_ID);
+
+        assertThat(letter.getIsDeletedByReceiver()).isTrue();
+        verify(userCounterService, times(1)).letterRead(RECEIVER_ID);
+        // 발신자가 아직 삭제하지 않았으므로 행은 남아 있음
+        verify(letterRepository, never()).delete(any());
+    }
+
+    @Test
+    void deletingReadLetterKeepsUnreadCount() {
+        given(letterRepository.findById(LETTER_ID)).willReturn(Optional.of(letter(true)));
+
+        letterService.softDeleteOrPermanentlyDelete(LETTER_ID, RECEIVER_ID);
+
+        verify(userCounterService, never()).letterRead(any());
+    }
+
+    private static Letter letter(boolean read) {
+        return Letter.builder()
+                .id(LETTER_ID)
+                .sender(User.builder().id(SENDER_ID).build())
+                .receiver(User.builder().id(RECEIVER_ID).build())
+                .title("제목")
+                .content("내용")
+                .isRead(read)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.deartime.app.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void splitsHangulIntoBigrams() {
+        assertThat(SearchTokenizer.toDocument("안녕하세요")).isEqualTo("안녕 녕하 하세 세요");
+    }
+
+    @Test
+    void bigramsEachWordSeparately() {
+        assertThat(SearchTokenizer.toDocument("편지를 보냈어요")).isEqualTo("편지 지를 보냈 냈어 어요");
+    }
+
+    @Test
+    void keepsSingleHangulCharacterAsToken() {
+        assertThat(SearchTokenizer.toDocument("편")).isEqualTo("편");
+    }
+
+    @Test
+    void splitsWhereScriptChanges() {
+        assertThat(SearchTokenizer.toDocument("서울2024년")).isEqualTo("서울 2024 년");
+    }
+
+    @Test
+    void lowercasesAndNormalizesWords() {
+        assertThat(SearchTokenizer.toDocument("Hello, World!")).isEqualTo("hello world");
+        assertThat(SearchTokenizer.toDocument("ＡＢＣ１２３")).isEqualTo("abc123");
+    }
+
+    @Test
+    void removesDuplicateTokensAcrossTexts() {
+        assertThat(SearchTokenizer.toDocument("사랑해", "사랑해 편지")).isEqualTo("사랑 랑해 편지");
+    }
+
+    @Test
+    void truncatesLongWords() {
+        assertThat(SearchTokenizer.toDocument("a".repeat(100))).isEqualTo("a".repeat(64));
+    }
+
+    @Test
+    void queryMatchesDocumentBigrams() {
+        // 조사가 붙은 검색어도 색인된 bigram 과 같은 토큰으로 검색
+        assertThat(SearchTokenizer.toQuery("편지를")).isEqualTo("'편지' & '지를'");
+    }
+
+    @Test
+    void queryUsesPrefixForWordsAndSingleCharacters() {
+        assertThat(SearchTokenizer.toQuery("Hello 편지")).isEqualTo("'hello':* & '편지'");
+        assertThat(SearchTokenizer.toQuery("편")).isEqualTo("'편':*");
+        assertThat(SearchTokenizer.toQuery("서울2024")).isEqualTo("'서울' & '2024':*");
+    }
+
+    @Test
+    void queryWithoutTokensIsNull() {
+        assertThat(SearchTokenizer.toQuery(null)).isNull();
+        assertThat(SearchTokenizer.toQuery("   ")).isNull();
+        assertThat(SearchTokenizer.toQuery("!!!")).isNull();
+    }
+
+    @Test
+    void queryIsLimitedToMaxTokens() {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            query.append("word").append(i).append(' ');
+        }
+        assertThat(SearchTokenizer.toQuery(query.toString()).split(" & ")).hasSize(32);
+    }
+}
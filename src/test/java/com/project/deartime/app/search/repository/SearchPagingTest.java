@@ -0,0 +1,159 @@
+package com.project.deartime.app.search.repository;
+
+import com.project.deartime.app.domain.Letter;
+import com.project.deartime.app.domain.TimeCapsule;
+import com.project.deartime.app.domain.User;
+import com.project.deartime.app.search.SearchTokenizer;
+import com.project.deartime.app.search.dto.SearchResponse;
+import com.project.deartime.app.search.repository.SearchIndexRepository.SearchTable;
+import com.project.deartime.app.search.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 keyset 페이지네이션: 커서로 이어 받은 페이지를 합치면 한 번에 조회한 결과와 같아야 함 (누락 / 중복 없음)
+ * 관련도가 같은 문서가 여러 건이어도 (종류, id) 로 이어지는지, 검색 대상 범위가 맞는지 함께 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SearchIndexRepository.class, SearchService.class})
+@Testcontainers
+class SearchPagingTest {
+
+    private static final String QUERY = "편지를";
+    private static final int PAGE_SIZE = 7;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SearchIndexRepository searchIndexRepository;
+
+    @Autowired
+    private SearchService searchService;
+
+    private User me;
+    private final Set<String> expected = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        searchIndexRepository.createColumns();
+
+        me = em.persist(user("me"));
+        User friend = em.persist(user("friend"));
+        User stranger = em.persist(user("stranger"));
+
+        // '편지' 와 '지를' 사이 거리를 바꿔 관련도가 같은 묶음이 여러 개 생기도록 함
+        for (int i = 0; i < 25; i++) {
+            expected.add(letter(friend, me, i));
+        }
+        for (int i = 0; i < 10; i++) {
+            expected.add(letter(me, friend, i));
+        }
+        // 자기 자신에게 보낸 편지는 보낸 / 받은 쪽 양쪽에 걸리지만 한 번만 나와야 함
+        expected.add(letter(me, me, 0));
+        for (int i = 0; i < 5; i++) {
+            expected.add(capsule(me, friend, i, LocalDateTime.now().plusDays(1)));
+        }
+        for (int i = 0; i < 3; i++) {
+            expected.add(capsule(friend, me, i, LocalDateTime.now().minusDays(1)));
+        }
+
+        // 검색 대상이 아닌 문서: 받은 사람이 삭제한 편지 / 다른 사람들의 편지 / 아직 열리지 않은 받은 캡슐
+        Letter deleted = new Letter(friend, me, null, "삭제한 편지", "편지를 지웠어요");
+        deleted.softDeleteByReceiver();
+        index(SearchTable.LETTERS, em.persist(deleted).getId(), deleted.getTitle(), deleted.getContent());
+        letter(friend, stranger, 0);
+        capsule(friend, me, 99, LocalDateTime.now().plusDays(1));
+
+        em.flush();
+    }
+
+    @Test
+    void pagesContinueWithoutGapsOrDuplicates() {
+        List<String> all = keys(searchService.search(me.getId(), QUERY, null, 50));
+        assertThat(all).containsExactlyInAnyOrderElementsOf(expected);
+
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SearchResponse page = searchService.search(me.getId(), QUERY, cursor, PAGE_SIZE);
+            assertThat(page.results()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            paged.addAll(keys(page));
+            cursor = page.nextCursor();
+            assertThat(page.hasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(paged).containsExactlyElementsOf(all);
+        assertThat(pages).isEqualTo((expected.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    private String letter(User sender, User receiver, int i) {
+        Letter letter = em.persist(new Letter(sender, receiver, null, "제목 " + i, content(i)));
+        index(SearchTable.LETTERS, letter.getId(), letter.getTitle(), letter.getContent());
+        return "LETTER:" + letter.getId();
+    }
+
+    private String capsule(User sender, User receiver, int i, LocalDateTime openAt) {
+        TimeCapsule capsule = em.persist(TimeCapsule.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .title("캡슐 " + i)
+                .content(content(i))
+                .openAt(openAt)
+                .build());
+        index(SearchTable.TIME_CAPSULE, capsule.getId(), capsule.getTitle(), capsule.getContent());
+        return "CAPSULE:" + capsule.getId();
+    }
+
+    private static String content(int i) {
+        // 색인은 같은 토큰을 한 번만 담으므로, 사이에 서로 다른 단어를 넣어 거리를 늘림
+        StringBuilder between = new StringBuilder();
+        for (int k = 0; k < i % 4; k++) {
+            between.append("word").append(k).append(' ');
+        }
+        return "편지 " + between + "지를 받았어요";
+    }
+
+    private void index(SearchTable table, Long id, String title, String content) {
+        em.flush();
+        searchIndexRepository.index(table, id, SearchTokenizer.toDocument(title, content));
+    }
+
+    private static List<String> keys(SearchResponse response) {
+        return response.results().stream()
+                .map(result -> result.type() + ":" + result.id())
+                .toList();
+    }
+
+    private static User user(String nickname) {
+        return User.builder()
+                .providerId("provider-" + nickname)
+                .email(nickname + "@example.com")
+                .nickname(nickname)
+                .build();
+    }
+}
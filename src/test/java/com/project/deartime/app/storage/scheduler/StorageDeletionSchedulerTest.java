@@ -0,0 +1,237 @@
+package com.project.deartime.app.storage.scheduler;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.project.deartime.app.config.S3Config;
+import com.project.deartime.app.domain.StorageDeletion;
+import com.project.deartime.app.service.S3Service;
+import com.project.deartime.app.storage.repository.StorageDeletionRepository;
+import com.project.deartime.app.storage.service.StorageDeletionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 스토리지 삭제 대기열 → LocalStack S3 DeleteObjects
+ * 삭제 대기열 커밋 / 선점이 실제로 일어나도록 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({S3Config.class, S3Service.class, StorageDeletionService.class})
+@Testcontainers
+class StorageDeletionSchedulerTest {
+
+    private static final String BUCKET = "deartime-test";
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static LocalStackContainer localstack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+            .withServices(LocalStackContainer.Service.S3);
+
+    @DynamicPropertySource
+    static void s3Properties(DynamicPropertyRegistry registry) {
+        registry.add("storage.type", () -> "s3");
+        registry.add("cloud.aws.credentials.access-key", localstack::getAccessKey);
+        registry.add("cloud.aws.credentials.secret-key", localstack::getSecretKey);
+        registry.add("cloud.aws.region.static", localstack::getRegion);
+        registry.add("cloud.aws.s3.endpoint", () -> localstack.getEndpoint().toString());
+        registry.add("cloud.aws.s3.bucket", () -> BUCKET);
+    }
+
+    @MockitoSpyBean
+    private AmazonS3 amazonS3;
+
+    @Autowired
+    private S3Service s3Service;
+
+    @Autowired
+    private StorageDeletionService storageDeletionService;
+
+    @Autowired
+    private StorageDeletionRepository storageDeletionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StorageDeletionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        if (!amazonS3.doesBucketExistV2(BUCKET)) {
+            amazonS3.createBucket(BUCKET);
+        }
+        storageDeletionRepository.deleteAllInBatch();
+        clearInvocations(amazonS3);
+
+        // @Scheduled 로 등록되지 않도록 직접 생성 (배치 크기 설정이 1000 을 넘어도 요청당 1000 개로 제한되는지 함께 확인)
+        scheduler = new StorageDeletionScheduler(
+                storageDeletionRepository, s3Service, transactionTemplate, new SimpleMeterRegistry(),
+                5000, 10, 300, BASE_BACKOFF_SECONDS, 3600);
+    }
+
+    @Test
+    void enqueuedObjectIsDeletedThroughDeleteObjects() {
+        String url = upload("photos/a.jpg");
+
+        storageDeletionService.enqueue(url);
+        scheduler.drainDeletionQueue();
+
+        assertThat(amazonS3.doesObjectExist(BUCKET, "photos/a.jpg")).isFalse();
+        assertThat(storageDeletionRepository.count()).isZero();
+        verify(amazonS3, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void perKeyErrorIsRescheduledWithBackoff() {
+        String deletable = upload("photos/ok.jpg");
+        String poison = upload("photos/poison.jpg");
+        failDeletesOf(Set.of("photos/poison.jpg"));
+
+        storageDeletionService.enqueue(List.of(deletable, poison));
+        LocalDateTime before = LocalDateTime.now();
+        scheduler.drainDeletionQueue();
+
+        assertThat(amazonS3.doesObjectExist(BUCKET, "photos/ok.jpg")).isFalse();
+        assertThat(amazonS3.doesObjectExist(BUCKET, "photos/poison.jpg")).isTrue();
+
+        StorageDeletion failed = onlyDeletion();
+        assertThat(failed.getObjectKey()).isEqualTo("photos/poison.jpg");
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("AccessDenied");
+        assertBackoff(failed.getNextAttemptAt(), before, BASE_BACKOFF_SECONDS);
+
+        // 재시도 시각 전에는 다시 시도하지 않음
+        clearInvocations(amazonS3);
+        scheduler.drainDeletionQueue();
+        verify(amazonS3, never()).deleteObjects(any(DeleteObjectsRequest.class));
+
+        // 재시도 시각이 지나 다시 실패하면 대기 시간이 두 배
+        jdbcTemplate.update("UPDATE storage_deletion_outbox SET next_attempt_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(1), failed.getId());
+        LocalDateTime retriedAt = LocalDateTime.now();
+        scheduler.drainDeletionQueue();
+
+        StorageDeletion retried = onlyDeletion();
+        assertThat(retried.getAttempts()).isEqualTo(2);
+        assertBackoff(retried.getNextAttemptAt(), retriedAt, BASE_BACKOFF_SECONDS * 2);
+    }
+
+    @Test
+    void moreThanThousandKeysAreSplitIntoSeveralRequests() {
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "photos/bulk-" + i + ".jpg").toList();
+        // 존재하지 않는 key 삭제도 S3 에서는 성공이므로 일부만 실제로 올림
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            urls.add(i % 1000 == 0 ? upload(keys.get(i)) : s3Service.getFileUrl(keys.get(i)));
+        }
+
+        storageDeletionService.enqueue(urls);
+        scheduler.drainDeletionQueue();
+
+        ArgumentCaptor<DeleteObjectsRequest> requests = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3, times(3)).deleteObjects(requests.capture());
+        assertThat(requests.getAllValues())
+                .allSatisfy(request -> assertThat(request.getKeys()).hasSizeLessThanOrEqualTo(MAX_KEYS_PER_REQUEST))
+                .extracting(request -> request.getKeys().size())
+                .containsExactly(1000, 1000, 500);
+
+        assertThat(storageDeletionRepository.count()).isZero();
+        assertThat(amazonS3.doesObjectExist(BUCKET, keys.get(0))).isFalse();
+        assertThat(amazonS3.doesObjectExist(BUCKET, keys.get(2000))).isFalse();
+    }
+
+    private String upload(String key) {
+        amazonS3.putObject(BUCKET, key, "image");
+        return s3Service.getFileUrl(key);
+    }
+
+    /**
+     * 지정한 key 는 S3 가 key 별 오류로 응답한 것처럼 처리 (나머지 key 는 LocalStack 에서 실제로 삭제)
+     * LocalStack 은 권한 검사를 하지 않아 DeleteObjects 의 key 별 오류를 직접 만들 수 없으므로 응답만 바꿈
+     */
+    private void failDeletesOf(Set<String> failingKeys) {
+        doAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            List<MultiObjectDeleteException.DeleteError> errors = new ArrayList<>();
+            List<DeleteObjectsRequest.KeyVersion> remaining = new ArrayList<>();
+            for (DeleteObjectsRequest.KeyVersion keyVersion : request.getKeys()) {
+                if (failingKeys.contains(keyVersion.getKey())) {
+                    MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+                    error.setKey(keyVersion.getKey());
+                    error.setCode("AccessDenied");
+                    error.setMessage("Access Denied");
+                    errors.add(error);
+                } else {
+                    remaining.add(keyVersion);
+                }
+            }
+
+            request.setKeys(remaining);
+            if (!remaining.isEmpty()) {
+                invocation.callRealMethod();
+            }
+            if (!errors.isEmpty()) {
+                throw new MultiObjectDeleteException(errors, List.of());
+            }
+            return null;
+        }).when(amazonS3).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    private StorageDeletion onlyDeletion() {
+        List<StorageDeletion> deletions = storageDeletionRepository.findAll();
+        assertThat(deletions).hasSize(1);
+        return deletions.get(0);
+    }
+
+    /**
+     * 재시도 시각 = 실패 시각 + 대기 시간 (+ 최대 20% 지터)
+     */
+    private static void assertBackoff(LocalDateTime nextAttemptAt, LocalDateTime failedAfter, long delaySeconds) {
+        Duration delay = Duration.ofSeconds(delaySeconds);
+        assertThat(nextAttemptAt).isAfterOrEqualTo(failedAfter.plus(delay));
+        assertThat(nextAttemptAt).isBefore(LocalDateTime.now().plus(delay.multipliedBy(6).dividedBy(5)).plusSeconds(1));
+    }
+}